@@ -0,0 +1,180 @@
+package dd.kms.hippodamus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.exceptions.CoordinatorException;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+import dd.kms.hippodamus.api.logging.AsynchronousLogger;
+import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.Loggers;
+import dd.kms.hippodamus.api.logging.OverflowPolicy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * This test verifies that an {@link AsynchronousLogger} forwards the messages in a dedicated thread, preserves the
+ * order of state changes of each handle, respects its {@link OverflowPolicy}, and that exceptions of the underlying
+ * logger are reported by the coordinator. It also verifies that logging and flushing concurrently to closing the
+ * logger does not block.
+ */
+class AsynchronousLoggerTest
+{
+	private static final int			NUM_TASKS			= 20;
+	private static final int			BUFFER_CAPACITY		= 4;
+	private static final int			NUM_THREADS			= 4;
+	private static final int			NUM_MESSAGES		= 1000;
+	private static final int			NUM_CLOSE_ROUNDS	= 200;
+	private static final long			MAX_JOIN_TIME_MS	= 10_000;
+	private static final String			EXCEPTION_TEXT		= "Logger exception";
+	private static final List<TaskStage>	EXPECTED_STAGES	= ImmutableList.of(TaskStage.READY, TaskStage.SUBMITTED, TaskStage.EXECUTING, TaskStage.FINISHED, TaskStage.TERMINATED);
+
+	@Test
+	void testOrderOfStateChanges() {
+		TestLogger logger = new TestLogger(null);
+		try (AsynchronousLogger asynchronousLogger = Loggers.createAsynchronousLogger(logger, BUFFER_CAPACITY, OverflowPolicy.BLOCK)) {
+			try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().logger(asynchronousLogger).build()) {
+				for (int i = 0; i < NUM_TASKS; i++) {
+					coordinator.execute(() -> {});
+				}
+			}
+			Assertions.assertEquals(0, asynchronousLogger.getNumberOfDroppedMessages(), "No message must be dropped when blocking");
+		}
+
+		Map<Handle, List<TaskStage>> stagesByHandle = logger.getStagesByHandle();
+		Assertions.assertEquals(NUM_TASKS, stagesByHandle.size(), "Wrong number of handles with state changes");
+		for (List<TaskStage> stages : stagesByHandle.values()) {
+			Assertions.assertEquals(EXPECTED_STAGES, stages, "The state changes have not been forwarded in the correct order");
+		}
+		Assertions.assertFalse(logger.hasBeenCalledInCoordinatorThread(), "The underlying logger has been called in the coordinator's thread");
+	}
+
+	@Test
+	void testDropMessages() {
+		CountDownLatch loggerBlocker = new CountDownLatch(1);
+		TestLogger logger = new TestLogger(loggerBlocker);
+		try (AsynchronousLogger asynchronousLogger = Loggers.createAsynchronousLogger(logger, BUFFER_CAPACITY, OverflowPolicy.DROP)) {
+			try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().logger(asynchronousLogger).build()) {
+				for (int i = 0; i < NUM_TASKS; i++) {
+					coordinator.execute(() -> {});
+				}
+				// since the logger is blocked, the tasks can only proceed if messages are dropped
+				coordinator.execute(loggerBlocker::countDown);
+			}
+			Assertions.assertTrue(asynchronousLogger.getNumberOfDroppedMessages() > 0, "Messages should have been dropped");
+		}
+	}
+
+	@Test
+	void testExceptionInLogger() {
+		try (AsynchronousLogger asynchronousLogger = Loggers.createAsynchronousLogger(new ExceptionalLogger(), BUFFER_CAPACITY, OverflowPolicy.BLOCK)) {
+			try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().logger(asynchronousLogger).build()) {
+				coordinator.execute(() -> {});
+			} catch (CoordinatorException e) {
+				Assertions.assertTrue(e.getMessage().contains(EXCEPTION_TEXT), "Missing logger exception text in exception");
+				return;
+			}
+		}
+		Assertions.fail("Swallowed logger exception");
+	}
+
+	@Test
+	void testConcurrentClose() throws InterruptedException {
+		for (int round = 0; round < NUM_CLOSE_ROUNDS; round++) {
+			AsynchronousLogger asynchronousLogger = Loggers.createAsynchronousLogger(new TestLogger(null), 1, OverflowPolicy.BLOCK);
+			CountDownLatch startLatch = new CountDownLatch(NUM_THREADS);
+			List<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < NUM_THREADS; i++) {
+				Thread thread = new Thread(() -> {
+					startLatch.countDown();
+					for (int j = 0; j < NUM_MESSAGES; j++) {
+						asynchronousLogger.log(null, "Message");
+						asynchronousLogger.flush();
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			startLatch.await();
+			asynchronousLogger.close();
+			for (Thread thread : threads) {
+				thread.join(MAX_JOIN_TIME_MS);
+				Assertions.assertFalse(thread.isAlive(), "Logging or flushing concurrently to closing the logger must not block forever");
+			}
+		}
+	}
+
+	private static class TestLogger implements Logger
+	{
+		private final @Nullable CountDownLatch		blocker;
+		private final Thread						coordinatorThread			= Thread.currentThread();
+		private final Map<Handle, List<TaskStage>>	stagesByHandle				= new HashMap<>();
+		private boolean								calledInCoordinatorThread;
+
+		TestLogger(@Nullable CountDownLatch blocker) {
+			this.blocker = blocker;
+		}
+
+		@Override
+		public void log(@Nullable Handle handle, String message) {
+			/* do nothing */
+		}
+
+		@Override
+		public void logStateChange(Handle handle, TaskStage taskStage) {
+			if (blocker != null) {
+				try {
+					blocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (Thread.currentThread() == coordinatorThread) {
+				calledInCoordinatorThread = true;
+			}
+			stagesByHandle.computeIfAbsent(handle, h -> new ArrayList<>()).add(taskStage);
+		}
+
+		@Override
+		public void logError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+			/* do nothing */
+		}
+
+		Map<Handle, List<TaskStage>> getStagesByHandle() {
+			return stagesByHandle;
+		}
+
+		boolean hasBeenCalledInCoordinatorThread() {
+			return calledInCoordinatorThread;
+		}
+	}
+
+	private static class ExceptionalLogger implements Logger
+	{
+		@Override
+		public void log(@Nullable Handle handle, String message) {
+			/* do nothing */
+		}
+
+		@Override
+		public void logStateChange(Handle handle, TaskStage taskStage) {
+			throw new RuntimeException(EXCEPTION_TEXT);
+		}
+
+		@Override
+		public void logError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+			/* do nothing */
+		}
+	}
+}
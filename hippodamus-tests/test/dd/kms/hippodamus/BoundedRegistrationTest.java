@@ -0,0 +1,157 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.aggregation.Aggregators;
+import dd.kms.hippodamus.api.aggregation.LongAggregator;
+import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestException;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that registering tasks blocks while the number or the total cost of pending tasks has
+ * reached the configured limit, that a task whose cost exceeds the limit is still accepted, that a blocked
+ * registration does not hang when a task throws an exception, and that tasks can register subtasks at a
+ * coordinator that is already full.
+ */
+class BoundedRegistrationTest
+{
+	private static final int	NUM_TASKS			= 20;
+	private static final int	NUM_THREADS			= 8;
+	private static final int	MAX_PENDING_TASKS	= 3;
+	private static final long	MAX_PENDING_COST	= 10;
+	private static final long	TASK_COST			= 4;
+	private static final int	NUM_SUBTASKS		= 4;
+	private static final long	TASK_TIME_MS		= 50;
+	private static final long	LONG_TASK_TIME_MS	= 3000;
+	private static final long	PRECISION_MS		= 300;
+
+	private final AtomicInteger	numRunningTasks		= new AtomicInteger();
+	private final AtomicInteger	maxRunningTasks		= new AtomicInteger();
+	private final AtomicInteger	numExecutedTasks	= new AtomicInteger();
+
+	@Test
+	void testMaximumPendingTasks() {
+		try (ExecutionCoordinator coordinator = configureCoordinator().maximumPendingTasks(MAX_PENDING_TASKS).build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+			}
+		}
+		Assertions.assertEquals(NUM_TASKS, numExecutedTasks.get(), "Not all tasks have been executed");
+		Assertions.assertTrue(maxRunningTasks.get() <= MAX_PENDING_TASKS, "Too many pending tasks: " + maxRunningTasks.get() + " tasks have been executed concurrently");
+	}
+
+	@Test
+	void testMaximumPendingTaskCost() {
+		try (ExecutionCoordinator coordinator = configureCoordinator().maximumPendingTaskCost(MAX_PENDING_COST).build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).cost(TASK_COST).execute(this::runTask);
+			}
+		}
+		Assertions.assertEquals(NUM_TASKS, numExecutedTasks.get(), "Not all tasks have been executed");
+		long maxConcurrentTasks = MAX_PENDING_COST / TASK_COST;
+		Assertions.assertTrue(maxRunningTasks.get() <= maxConcurrentTasks, "The total cost of pending tasks has exceeded the limit: " + maxRunningTasks.get() + " tasks have been executed concurrently");
+	}
+
+	@Test
+	void testExpensiveTask() {
+		try (ExecutionCoordinator coordinator = configureCoordinator().maximumPendingTaskCost(MAX_PENDING_COST).build()) {
+			for (int i = 0; i < 2; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).cost(10 * MAX_PENDING_COST).execute(this::runTask);
+			}
+		}
+		Assertions.assertEquals(2, numExecutedTasks.get(), "A task whose cost exceeds the limit should be accepted if there are no pending tasks");
+		Assertions.assertEquals(1, maxRunningTasks.get(), "The second task should have waited for the first one");
+	}
+
+	@Test
+	void testAggregation() {
+		LongAggregator aggregator = Aggregators.createLongAggregator(0, Long::sum);
+		try (AggregationCoordinator<Long, Long> coordinator = Coordinators.configureAggregationCoordinator(aggregator)
+				.maximumParallelism(TaskType.BLOCKING, NUM_THREADS)
+				.maximumPendingTasks(MAX_PENDING_TASKS)
+				.build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).aggregateLong(() -> {
+					runTask();
+					return 1L;
+				});
+			}
+		}
+		Assertions.assertEquals(NUM_TASKS, aggregator.getAggregatedValueAsLong(), "Wrong aggregated value");
+		Assertions.assertTrue(maxRunningTasks.get() <= MAX_PENDING_TASKS, "Too many pending tasks: " + maxRunningTasks.get() + " tasks have been executed concurrently");
+	}
+
+	@Test
+	void testSubtasksOfFullCoordinator() {
+		Assertions.assertTimeoutPreemptively(Duration.ofMillis(LONG_TASK_TIME_MS), () -> {
+			try (ExecutionCoordinator coordinator = configureCoordinator().maximumPendingTasks(MAX_PENDING_TASKS).build()) {
+				for (int i = 0; i < MAX_PENDING_TASKS; i++) {
+					coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> {
+						// ensure that the coordinator is full before registering subtasks
+						sleep(TASK_TIME_MS);
+						for (int j = 0; j < NUM_SUBTASKS; j++) {
+							coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+						}
+					});
+				}
+			}
+		}, "Registering subtasks at a full coordinator has blocked");
+		Assertions.assertEquals(MAX_PENDING_TASKS * NUM_SUBTASKS, numExecutedTasks.get(), "Not all subtasks have been executed");
+	}
+
+	@Test
+	void testException() {
+		StopWatch stopWatch = new StopWatch();
+		Assertions.assertThrows(TestException.class, () -> {
+			try (ExecutionCoordinator coordinator = configureCoordinator().maximumPendingTasks(2).build()) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(LONG_TASK_TIME_MS));
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(this::fail);
+				for (int i = 0; i < NUM_TASKS; i++) {
+					coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(LONG_TASK_TIME_MS));
+				}
+			}
+		});
+		TestUtils.assertTimeBounds(TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Registering tasks after an exception");
+	}
+
+	@Test
+	void testInvalidArguments() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.configureExecutionCoordinator().maximumPendingTasks(0));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.configureExecutionCoordinator().maximumPendingTaskCost(0));
+	}
+
+	private ExecutionCoordinatorBuilder configureCoordinator() {
+		return Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, NUM_THREADS);
+	}
+
+	private void runTask() {
+		int numRunning = numRunningTasks.incrementAndGet();
+		maxRunningTasks.accumulateAndGet(numRunning, Math::max);
+		sleep(TASK_TIME_MS);
+		numRunningTasks.decrementAndGet();
+		numExecutedTasks.incrementAndGet();
+	}
+
+	private void fail() throws TestException {
+		sleep(TASK_TIME_MS);
+		throw new TestException();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.CompletionQueue;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestException;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This test verifies that a {@link CompletionQueue} provides handles in the order in which their tasks complete,
+ * that handles can be taken while other tasks are still running, and that a task exception is thrown by
+ * {@link CompletionQueue#take()} instead of waiting for tasks that will not complete anymore. It also verifies that
+ * the coordinator does not retain completion queues that have been consumed.
+ */
+class CompletionQueueTest
+{
+	private static final int	NUM_TASKS			= 4;
+	private static final long	TASK_TIME_MS		= 200;
+	private static final long	LONG_TASK_TIME_MS	= 3000;
+	private static final long	PRECISION_MS		= 300;
+	private static final int	MAX_GC_ATTEMPTS		= 20;
+	private static final long	GC_WAIT_TIME_MS		= 100;
+
+	@Test
+	void testCompletionOrder() {
+		List<Integer> results = new ArrayList<>();
+		List<ResultHandle<Integer>> handles = new ArrayList<>();
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			CompletionQueue<Integer> queue = coordinator.createCompletionQueue();
+			for (int i = 0; i < NUM_TASKS; i++) {
+				int index = i;
+				ResultHandle<Integer> handle = coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> {
+					sleep((NUM_TASKS - index) * TASK_TIME_MS);
+					return index;
+				});
+				handles.add(handle);
+				queue.add(handle);
+			}
+			while (queue.hasNext()) {
+				ResultHandle<Integer> handle = queue.take();
+				if (results.isEmpty()) {
+					Assertions.assertFalse(handles.get(0).hasCompleted(), "The first handle should be available before all tasks have completed");
+				}
+				results.add(handle.get());
+			}
+			Assertions.assertThrows(NoSuchElementException.class, queue::take);
+		}
+		for (int i = 0; i < NUM_TASKS; i++) {
+			Assertions.assertEquals(NUM_TASKS - 1 - i, (int) results.get(i), "Wrong completion order");
+		}
+	}
+
+	@Test
+	void testPoll() {
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			CompletionQueue<Integer> queue = coordinator.createCompletionQueue();
+			queue.add(coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> {
+				sleep(TASK_TIME_MS);
+				return 1;
+			}));
+			Assertions.assertNull(queue.poll(), "The task should not have completed yet");
+			Assertions.assertTrue(queue.hasNext(), "The handle has not been taken yet");
+			sleep(2 * TASK_TIME_MS);
+			ResultHandle<Integer> handle = queue.poll();
+			Assertions.assertNotNull(handle, "The task should have completed");
+			Assertions.assertEquals(1, (int) handle.get(), "Wrong result");
+			Assertions.assertFalse(queue.hasNext(), "All handles have been taken");
+		}
+	}
+
+	@Test
+	void testException() {
+		StopWatch stopWatch = new StopWatch();
+		Assertions.assertThrows(TestException.class, () -> {
+			try (ExecutionCoordinator coordinator = createCoordinator()) {
+				CompletionQueue<Integer> queue = coordinator.createCompletionQueue();
+				queue.add(coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> {
+					sleep(LONG_TASK_TIME_MS);
+					return 1;
+				}));
+				queue.add(coordinator.configure().taskType(TaskType.BLOCKING).execute(this::fail));
+				while (queue.hasNext()) {
+					queue.take();
+				}
+			}
+		});
+		TestUtils.assertTimeBounds(TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Taking a handle after an exception");
+	}
+
+	@Test
+	void testConsumedQueuesReleased() {
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			List<WeakReference<CompletionQueue<Integer>>> queueReferences = new ArrayList<>();
+			for (int i = 0; i < NUM_TASKS; i++) {
+				queueReferences.add(consumeQueue(coordinator));
+			}
+			Assertions.assertTrue(waitUntilCleared(queueReferences), "The coordinator retains completion queues");
+		}
+	}
+
+	@Test
+	void testForeignHandle() {
+		try (ExecutionCoordinator coordinator1 = Coordinators.createExecutionCoordinator();
+			 ExecutionCoordinator coordinator2 = Coordinators.createExecutionCoordinator()) {
+			CompletionQueue<Integer> queue = coordinator1.createCompletionQueue();
+			ResultHandle<Integer> handle = coordinator2.execute(() -> 1);
+			Assertions.assertThrows(IllegalArgumentException.class, () -> queue.add(handle));
+		}
+	}
+
+	private ExecutionCoordinator createCoordinator() {
+		return Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, NUM_TASKS).build();
+	}
+
+	/**
+	 * Creates a completion queue and waits for the handle of a task in it. Only a weak reference to the queue is
+	 * returned such that the caller can check whether it is still referenced by the coordinator.
+	 */
+	private WeakReference<CompletionQueue<Integer>> consumeQueue(ExecutionCoordinator coordinator) {
+		CompletionQueue<Integer> queue = coordinator.createCompletionQueue();
+		queue.add(coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> {
+			sleep(TASK_TIME_MS);
+			return 1;
+		}));
+		Assertions.assertEquals(1, (int) queue.take().get(), "Wrong result");
+		return new WeakReference<>(queue);
+	}
+
+	private static boolean waitUntilCleared(List<? extends WeakReference<?>> references) {
+		for (int i = 0; i < MAX_GC_ATTEMPTS; i++) {
+			System.gc();
+			if (references.stream().allMatch(reference -> reference.get() == null)) {
+				return true;
+			}
+			sleep(GC_WAIT_TIME_MS);
+		}
+		return false;
+	}
+
+	private int fail() throws TestException {
+		sleep(TASK_TIME_MS);
+		throw new TestException();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This test verifies that, if continuation handoff is enabled, a chain of dependent tasks is executed by the thread
+ * that executed the first task of the chain, and that the maximum parallelism is still respected when multiple
+ * chains are executed in parallel.
+ */
+class ContinuationHandoffTest
+{
+	private static final int	NUM_CHAINS		= 3;
+	private static final int	CHAIN_LENGTH	= 20;
+	private static final long	TASK_TIME_MS	= 5;
+
+	private final List<Set<Thread>>	executingThreadsByChain	= new ArrayList<>();
+	private int						numRunningTasks;
+	private int						maxNumRunningTasks;
+
+	@ParameterizedTest(name = "max parallelism: {0}")
+	@ValueSource(ints = {1, 2, Integer.MAX_VALUE})
+	void testContinuationHandoff(int maxParallelism) {
+		executingThreadsByChain.clear();
+		numRunningTasks = 0;
+		maxNumRunningTasks = 0;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(NUM_CHAINS);
+		List<ResultHandle<Integer>> lastHandles = new ArrayList<>();
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator()
+				.executorService(TaskType.COMPUTATIONAL, executorService, true)
+				.maximumParallelism(TaskType.COMPUTATIONAL, maxParallelism)
+				.continuationHandoff(true)
+				.build()) {
+			// register all tasks first such that no successor is submitted before it has been registered
+			coordinator.permitTaskSubmission(false);
+			for (int chain = 0; chain < NUM_CHAINS; chain++) {
+				Set<Thread> executingThreads = new HashSet<>();
+				executingThreadsByChain.add(executingThreads);
+				ResultHandle<Integer> handle = coordinator.execute(() -> runTask(0, executingThreads));
+				for (int i = 1; i < CHAIN_LENGTH; i++) {
+					ResultHandle<Integer> predecessor = handle;
+					handle = coordinator.configure().dependencies(predecessor).execute(() -> runTask(predecessor.get(), executingThreads));
+				}
+				lastHandles.add(handle);
+			}
+			coordinator.permitTaskSubmission(true);
+		}
+
+		for (ResultHandle<Integer> lastHandle : lastHandles) {
+			Assertions.assertEquals(CHAIN_LENGTH, lastHandle.get(), "Wrong result");
+		}
+		Assertions.assertTrue(maxNumRunningTasks <= maxParallelism, "The maximum parallelism has been exceeded");
+		if (maxParallelism >= NUM_CHAINS) {
+			for (Set<Thread> executingThreads : executingThreadsByChain) {
+				Assertions.assertEquals(1, executingThreads.size(), "The tasks of a chain should have been executed by the same thread");
+			}
+		}
+	}
+
+	private int runTask(int value, Set<Thread> executingThreads) {
+		synchronized (this) {
+			executingThreads.add(Thread.currentThread());
+			numRunningTasks++;
+			maxNumRunningTasks = Math.max(maxNumRunningTasks, numRunningTasks);
+		}
+		TestUtils.simulateWork(TASK_TIME_MS);
+		synchronized (this) {
+			numRunningTasks--;
+		}
+		return value + 1;
+	}
+}
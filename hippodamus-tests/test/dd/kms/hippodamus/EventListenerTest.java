@@ -0,0 +1,109 @@
+package dd.kms.hippodamus;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * This test verifies that typed task events are sent to the specified {@link TaskEventListener} and that only
+ * the events of every n-th task are reported if a sampling rate is specified.
+ */
+class EventListenerTest
+{
+	private static final int	NUM_TASKS	= 10;
+
+	@ParameterizedTest(name = "sampling rate: {0}")
+	@ValueSource(ints = {1, 3})
+	void testEventListener(int samplingRate) {
+		TestEventListener eventListener = new TestEventListener();
+		ExecutionCoordinatorBuilder coordinatorBuilder = Coordinators.configureExecutionCoordinator()
+			.eventListener(eventListener)
+			.eventSamplingRate(samplingRate);
+		try (ExecutionCoordinator coordinator = coordinatorBuilder.build()) {
+			List<Handle> handles = new ArrayList<>();
+			for (int i = 0; i < NUM_TASKS - 1; i++) {
+				int value = i;
+				handles.add(coordinator.execute(() -> value));
+			}
+			// the exception must not stop the coordinator before the other tasks have completed
+			coordinator.configure().dependencies(handles).execute(this::throwException);
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		Assertions.assertEquals(0, eventListener.getNumberOfErrors(), "An internal error occurred");
+
+		int expectedNumSampledTasks = (NUM_TASKS + samplingRate - 1) / samplingRate;
+		Assertions.assertEquals(expectedNumSampledTasks, eventListener.getHandlesWithStageChanges().size(), "Wrong number of tasks with stage change events");
+		Assertions.assertEquals(expectedNumSampledTasks - 1, eventListener.getNumberOfResults(), "Wrong number of result events");
+		int expectedNumExceptions = (NUM_TASKS - 1) % samplingRate == 0 ? 1 : 0;
+		Assertions.assertEquals(expectedNumExceptions, eventListener.getNumberOfExceptions(), "Wrong number of exception events");
+	}
+
+	@ParameterizedTest(name = "sampling rate: {0}")
+	@ValueSource(ints = {0, -1})
+	void testInvalidSamplingRate(int samplingRate) {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.configureExecutionCoordinator().eventSamplingRate(samplingRate));
+	}
+
+	private int throwException() {
+		throw new IllegalStateException("Test exception");
+	}
+
+	private static class TestEventListener implements TaskEventListener
+	{
+		private final Set<Handle>	handlesWithStageChanges	= new HashSet<>();
+		private int					numResults;
+		private int					numExceptions;
+		private int					numErrors;
+
+		@Override
+		public void onStageChange(Handle handle, TaskStage taskStage) {
+			handlesWithStageChanges.add(handle);
+		}
+
+		@Override
+		public void onResult(Handle handle, @Nullable Object result) {
+			numResults++;
+		}
+
+		@Override
+		public void onException(Handle handle, Throwable exception) {
+			numExceptions++;
+		}
+
+		@Override
+		public void onError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+			numErrors++;
+		}
+
+		Set<Handle> getHandlesWithStageChanges() {
+			return handlesWithStageChanges;
+		}
+
+		int getNumberOfResults() {
+			return numResults;
+		}
+
+		int getNumberOfExceptions() {
+			return numExceptions;
+		}
+
+		int getNumberOfErrors() {
+			return numErrors;
+		}
+	}
+}
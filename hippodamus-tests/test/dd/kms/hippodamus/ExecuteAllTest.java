@@ -0,0 +1,106 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This test verifies that tasks registered via {@link ExecutionCoordinator#executeAll(java.util.Collection)}
+ * behave like tasks registered one by one: The handles are created in the order of the callables, the tasks
+ * respect the maximum parallelism, wait for their dependencies, and wait until task submission is permitted.
+ */
+class ExecuteAllTest
+{
+	private static final int	NUM_TASKS			= 50;
+	private static final long	TASK_TIME_MS		= 5;
+	private static final long	DEPENDENCY_TIME_MS	= 100;
+
+	private int			numRunningTasks;
+	private int			maxNumRunningTasks;
+	private boolean		dependencyCompleted;
+	private boolean		taskStartedBeforeDependency;
+
+	@ParameterizedTest(name = "max parallelism: {0}, task submission initially permitted: {1}")
+	@MethodSource("getParameters")
+	void testExecuteAll(int maxParallelism, boolean permitTaskSubmission) {
+		numRunningTasks = 0;
+		maxNumRunningTasks = 0;
+		dependencyCompleted = false;
+		taskStartedBeforeDependency = false;
+
+		List<ExceptionalCallable<Integer, RuntimeException>> callables = new ArrayList<>(NUM_TASKS);
+		for (int i = 0; i < NUM_TASKS; i++) {
+			int value = i;
+			callables.add(() -> runTask(value));
+		}
+		List<Handle> createdHandles = new ArrayList<>();
+		ResultHandleGroup<Integer> handles;
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, maxParallelism).build()) {
+			coordinator.permitTaskSubmission(permitTaskSubmission);
+			Handle dependency = coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runDependency);
+			handles = coordinator.configure()
+				.taskType(TaskType.BLOCKING)
+				.dependencies(dependency)
+				.onHandleCreation(createdHandles::add)
+				.executeAll(callables);
+			coordinator.permitTaskSubmission(true);
+		}
+
+		Assertions.assertEquals(NUM_TASKS, handles.size(), "Wrong number of handles");
+		Assertions.assertEquals(createdHandles, handles.getHandles(), "The handle consumer has not been called for all handles in the order of the callables");
+		Assertions.assertTrue(handles.hasCompleted(), "Not all tasks have completed");
+		List<Integer> expectedResults = IntStream.range(0, NUM_TASKS).boxed().collect(Collectors.toList());
+		Assertions.assertEquals(expectedResults, handles.getResults(), "Wrong results");
+		for (int i = 0; i < NUM_TASKS; i++) {
+			ResultHandle<Integer> handle = handles.getHandle(i);
+			Assertions.assertEquals("Task " + (i + 2), handle.getTaskName(), "Tasks have not been enumerated in the order of the callables");
+		}
+		Assertions.assertFalse(taskStartedBeforeDependency, "A task has started before its dependency has completed");
+		Assertions.assertTrue(maxNumRunningTasks <= maxParallelism, "The maximum parallelism has been exceeded");
+	}
+
+	private void runDependency() {
+		TestUtils.simulateWork(DEPENDENCY_TIME_MS);
+		synchronized (this) {
+			dependencyCompleted = true;
+		}
+	}
+
+	private int runTask(int value) {
+		synchronized (this) {
+			if (!dependencyCompleted) {
+				taskStartedBeforeDependency = true;
+			}
+			numRunningTasks++;
+			maxNumRunningTasks = Math.max(maxNumRunningTasks, numRunningTasks);
+		}
+		TestUtils.simulateWork(TASK_TIME_MS);
+		synchronized (this) {
+			numRunningTasks--;
+		}
+		return value;
+	}
+
+	static Object getParameters() {
+		List<Object[]> parameters = new ArrayList<>();
+		for (int maxParallelism : new int[]{ 1, 3, Integer.MAX_VALUE }) {
+			for (boolean permitTaskSubmission : new boolean[]{ false, true }) {
+				parameters.add(new Object[]{ maxParallelism, permitTaskSubmission });
+			}
+		}
+		return parameters;
+	}
+}
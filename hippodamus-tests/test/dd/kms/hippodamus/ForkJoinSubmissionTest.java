@@ -0,0 +1,46 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This test verifies that tasks that are registered within a worker thread of a {@link ForkJoinPool} are forked
+ * onto the deque of that worker. Since a worker processes its own deque in LIFO order, a single worker executes
+ * such tasks in the reverse order of their registration.
+ */
+class ForkJoinSubmissionTest
+{
+	private static final int	NUM_SUBTASKS	= 10;
+
+	@Test
+	void testLocalFork() {
+		List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+		ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator()
+				.executorService(TaskType.COMPUTATIONAL, forkJoinPool, true)
+				.build()) {
+			coordinator.execute(() -> {
+				Assertions.assertSame(forkJoinPool, ForkJoinTask.getPool(), "The task should be executed by the ForkJoinPool");
+				for (int i = 0; i < NUM_SUBTASKS; i++) {
+					int index = i;
+					coordinator.execute(() -> executionOrder.add(index));
+				}
+			});
+		}
+
+		List<Integer> expectedExecutionOrder = new ArrayList<>();
+		for (int i = NUM_SUBTASKS - 1; i >= 0; i--) {
+			expectedExecutionOrder.add(i);
+		}
+		Assertions.assertEquals(expectedExecutionOrder, executionOrder, "The subtasks have not been executed in LIFO order");
+	}
+}
@@ -0,0 +1,95 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This test verifies that a coordinator does not retain handles of terminated tasks, even if critical path
+ * scheduling is enabled, and that names are only made unique among the tasks that have not yet terminated.
+ */
+class HandleRetirementTest
+{
+	private static final int	NUM_TASKS			= 1000;
+	private static final int	MAX_GC_ATTEMPTS		= 20;
+	private static final long	GC_WAIT_TIME_MS		= 100;
+	private static final String	TASK_NAME			= "Task";
+
+	@Test
+	void testTerminatedHandlesReleased() {
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			List<WeakReference<Handle>> handleReferences = executeTasks(coordinator);
+			Assertions.assertTrue(waitUntilCleared(handleReferences), "The coordinator retains terminated handles");
+		}
+	}
+
+	@Test
+	void testTerminatedHandlesReleasedWithCriticalPathScheduling() {
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().criticalPathScheduling(true).build()) {
+			List<WeakReference<Handle>> handleReferences = executeTasks(coordinator);
+			Assertions.assertTrue(waitUntilCleared(handleReferences), "The coordinator retains terminated handles");
+		}
+	}
+
+	@Test
+	void testTaskNames() {
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.permitTaskSubmission(false);
+			ResultHandle<Integer> handle1 = coordinator.configure().name(TASK_NAME).execute(() -> 1);
+			ResultHandle<Integer> handle2 = coordinator.configure().name(TASK_NAME).execute(() -> 2);
+			Assertions.assertEquals(TASK_NAME, handle1.getTaskName(), "Wrong task name");
+			Assertions.assertEquals(TASK_NAME + " (2)", handle2.getTaskName(), "Names of pending tasks must be unique");
+			coordinator.permitTaskSubmission(true);
+			handle1.get();
+			handle2.get();
+			ResultHandle<Integer> handle3 = coordinator.configure().name(TASK_NAME).execute(() -> 3);
+			Assertions.assertEquals(TASK_NAME, handle3.getTaskName(), "Names of terminated tasks should be reusable");
+		}
+	}
+
+	/**
+	 * Executes a chain of tasks and waits until they have completed. Only weak references to the handles are
+	 * returned such that the caller can check whether they are still referenced by the coordinator.
+	 */
+	private static List<WeakReference<Handle>> executeTasks(ExecutionCoordinator coordinator) {
+		List<WeakReference<Handle>> handleReferences = new ArrayList<>(NUM_TASKS);
+		ResultHandle<Integer> lastHandle = null;
+		for (int i = 0; i < NUM_TASKS; i++) {
+			int value = i;
+			ResultHandle<Integer> handle = lastHandle == null
+				? coordinator.execute(() -> value)
+				: coordinator.configure().dependencies(lastHandle).execute(() -> value);
+			handleReferences.add(new WeakReference<>(handle));
+			lastHandle = handle;
+		}
+		Assertions.assertEquals(NUM_TASKS - 1, (int) lastHandle.get(), "Wrong result");
+		return handleReferences;
+	}
+
+	private static boolean waitUntilCleared(List<WeakReference<Handle>> handleReferences) {
+		for (int i = 0; i < MAX_GC_ATTEMPTS; i++) {
+			System.gc();
+			if (handleReferences.stream().allMatch(reference -> reference.get() == null)) {
+				return true;
+			}
+			sleep(GC_WAIT_TIME_MS);
+		}
+		return false;
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
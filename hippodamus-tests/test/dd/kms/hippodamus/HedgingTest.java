@@ -0,0 +1,184 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.resources.DefaultCountableResource;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that a duplicate of a hedged task is launched if the task takes too long, that the attempt
+ * that finishes first determines the outcome of the task, and that dependent tasks only see this outcome. It also
+ * verifies that a duplicate is only launched if a slot and the required resources are available.
+ */
+class HedgingTest
+{
+	private static final long	STRAGGLER_TIME_MS	= 3000;
+	private static final long	TASK_TIME_MS		= 20;
+	private static final long	HEDGING_DELAY_MS	= 200;
+	private static final long	PRECISION_MS		= 300;
+	private static final int	NUM_SIBLINGS		= 20;
+
+	private final AtomicInteger	numAttempts			= new AtomicInteger();
+	private final AtomicInteger	numStragglerAttempts	= new AtomicInteger();
+
+	@Test
+	void testHedgeAfterDelay() {
+		AtomicInteger numDependentExecutions = new AtomicInteger();
+		ResultHandle<Integer> handle;
+		StopWatch stopWatch = new StopWatch();
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).execute(this::runStragglerTask);
+			coordinator.configure().taskType(TaskType.BLOCKING).dependencies(handle).execute(() -> { numDependentExecutions.incrementAndGet(); });
+		}
+		TestUtils.assertTimeBounds(HEDGING_DELAY_MS + TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Hedged straggler task");
+		Assertions.assertEquals(2, numStragglerAttempts.get(), "Wrong number of attempts");
+		Assertions.assertEquals(1, handle.getWinningAttempt(), "The duplicate should have won");
+		Assertions.assertEquals(1, (int) handle.get(), "The result of the duplicate should have been used");
+		Assertions.assertEquals(1, numDependentExecutions.get(), "The dependent task should have been executed exactly once");
+	}
+
+	@Test
+	void testFastTaskNotHedged() {
+		ResultHandle<Integer> handle;
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).execute(() -> runTask(TASK_TIME_MS));
+		}
+		Assertions.assertEquals(1, numAttempts.get(), "A fast task should not be hedged");
+		Assertions.assertEquals(0, handle.getWinningAttempt(), "The original attempt should have won");
+	}
+
+	@Test
+	void testHedgeAfterPercentile() {
+		List<ExceptionalCallable<Integer, RuntimeException>> siblings = new ArrayList<>();
+		for (int i = 0; i < NUM_SIBLINGS; i++) {
+			siblings.add(() -> runTask(TASK_TIME_MS));
+		}
+		ResultHandle<Integer> straggler;
+		StopWatch stopWatch = new StopWatch();
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			ExecutionConfigurationBuilder builder = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfterPercentile(90);
+			builder.executeAll(siblings);
+			straggler = builder.execute(this::runStragglerTask);
+		}
+		TestUtils.assertTimeBounds((NUM_SIBLINGS / 2 + 2) * TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Hedged straggler task");
+		Assertions.assertEquals(1, straggler.getWinningAttempt(), "The duplicate of the straggler should have won");
+	}
+
+	@Test
+	void testNoDuplicateWithoutSlot() {
+		ResultHandle<Integer> handle;
+		StopWatch stopWatch = new StopWatch();
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, 1).build()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).execute(this::runStragglerTask);
+		}
+		TestUtils.assertTimeBounds(STRAGGLER_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Straggler task without free slot");
+		Assertions.assertEquals(1, numStragglerAttempts.get(), "No duplicate should have been launched without a free slot");
+		Assertions.assertEquals(0, handle.getWinningAttempt(), "The original attempt should have won");
+	}
+
+	@Test
+	void testNoDuplicateWithoutResources() {
+		DefaultCountableResource resource = new DefaultCountableResource("Resource", 1L);
+		ResultHandle<Integer> handle;
+		StopWatch stopWatch = new StopWatch();
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).requiredResource(resource, () -> 1L).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).execute(this::runStragglerTask);
+		}
+		TestUtils.assertTimeBounds(STRAGGLER_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Straggler task without free resources");
+		Assertions.assertEquals(1, numStragglerAttempts.get(), "No duplicate should have been launched without free resources");
+		Assertions.assertEquals(0, handle.getWinningAttempt(), "The original attempt should have won");
+	}
+
+	@Test
+	void testLoserKeepsSlotUntilFinished() {
+		AtomicInteger numRunningTasks = new AtomicInteger();
+		AtomicInteger maxRunningTasks = new AtomicInteger();
+		ResultHandle<Integer> handle;
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).execute(() -> {
+				int numRunning = numRunningTasks.incrementAndGet();
+				maxRunningTasks.accumulateAndGet(numRunning, Math::max);
+				int attempt = numStragglerAttempts.getAndIncrement();
+				try {
+					// the original attempt ignores being interrupted
+					sleepUninterruptibly(attempt == 0 ? 2 * HEDGING_DELAY_MS : TASK_TIME_MS);
+				} finally {
+					numRunningTasks.decrementAndGet();
+				}
+				return attempt;
+			});
+			for (int i = 0; i < 2; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).dependencies(handle).execute(() -> {
+					int numRunning = numRunningTasks.incrementAndGet();
+					maxRunningTasks.accumulateAndGet(numRunning, Math::max);
+					sleep(TASK_TIME_MS);
+					numRunningTasks.decrementAndGet();
+				});
+			}
+		}
+		Assertions.assertEquals(1, handle.getWinningAttempt(), "The duplicate should have won");
+		Assertions.assertEquals(2, maxRunningTasks.get(), "The loser must not release its slot before it has finished");
+	}
+
+	@Test
+	void testInvalidPercentile() {
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			Assertions.assertThrows(IllegalArgumentException.class, () -> coordinator.configure().hedgeAfterPercentile(0));
+			Assertions.assertThrows(IllegalArgumentException.class, () -> coordinator.configure().hedgeAfterPercentile(101));
+		}
+	}
+
+	private ExecutionCoordinator createCoordinator() {
+		return Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, 2).build();
+	}
+
+	/**
+	 * The first attempt is a straggler, the second one is fast.
+	 *
+	 * @return the index of the attempt
+	 */
+	private int runStragglerTask() {
+		int attempt = numStragglerAttempts.getAndIncrement();
+		sleep(attempt == 0 ? STRAGGLER_TIME_MS : TASK_TIME_MS);
+		return attempt;
+	}
+
+	private int runTask(long timeMs) {
+		int attempt = numAttempts.getAndIncrement();
+		sleep(timeMs);
+		return attempt;
+	}
+
+	private static void sleepUninterruptibly(long timeMs) {
+		long endTimeMs = System.currentTimeMillis() + timeMs;
+		long remainingTimeMs;
+		while ((remainingTimeMs = endTimeMs - System.currentTimeMillis()) > 0) {
+			try {
+				Thread.sleep(remainingTimeMs);
+			} catch (InterruptedException e) {
+				// continue sleeping
+			}
+		}
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
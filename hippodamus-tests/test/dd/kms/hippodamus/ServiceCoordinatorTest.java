@@ -0,0 +1,162 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.ServiceCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestException;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that the scopes of a {@link ServiceCoordinator} share the parallelism of the service, that an
+ * exception only stops the scope it has been thrown in, and that closing the service waits until all scopes have
+ * been closed.
+ */
+class ServiceCoordinatorTest
+{
+	private static final int	PARALLELISM			= 2;
+	private static final int	NUM_TASKS_PER_SCOPE	= 4;
+	private static final long	TASK_TIME_MS		= 100;
+	private static final long	LONG_TASK_TIME_MS	= 3000;
+	private static final long	PRECISION_MS		= 300;
+
+	private final AtomicInteger	numRunningTasks		= new AtomicInteger();
+	private final AtomicInteger	maxRunningTasks		= new AtomicInteger();
+	private final AtomicInteger	numExecutedTasks	= new AtomicInteger();
+
+	@Test
+	void testSharedParallelism() {
+		try (ServiceCoordinator service = createService()) {
+			try (ExecutionCoordinator scope1 = service.openScope();
+				 ExecutionCoordinator scope2 = service.openScope()) {
+				Assertions.assertEquals(2, service.getNumberOfOpenScopes(), "Wrong number of open scopes");
+				for (int i = 0; i < NUM_TASKS_PER_SCOPE; i++) {
+					scope1.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+					scope2.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+				}
+			}
+			Assertions.assertEquals(0, service.getNumberOfOpenScopes(), "Wrong number of open scopes");
+		}
+		Assertions.assertEquals(2 * NUM_TASKS_PER_SCOPE, numExecutedTasks.get(), "Not all tasks have been executed");
+		Assertions.assertEquals(PARALLELISM, maxRunningTasks.get(), "The scopes should share the maximum parallelism of the service");
+	}
+
+	@Test
+	void testExceptionStopsOnlyItsScope() {
+		StopWatch stopWatch = new StopWatch();
+		try (ServiceCoordinator service = createService()) {
+			try (ExecutionCoordinator scope = service.openScope()) {
+				ResultHandle<Integer> handle = scope.configure().taskType(TaskType.BLOCKING).execute(() -> {
+					sleep(3 * TASK_TIME_MS);
+					return 1;
+				});
+				Assertions.assertThrows(TestException.class, () -> {
+					try (ExecutionCoordinator failingScope = service.openScope()) {
+						failingScope.configure().taskType(TaskType.BLOCKING).execute(this::fail);
+					}
+				});
+				Assertions.assertEquals(1, (int) handle.get(), "The task of the other scope should not have been stopped");
+			}
+		}
+		TestUtils.assertTimeBounds(3 * TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Executing tasks of independent scopes");
+	}
+
+	@Test
+	void testSlotsOfStoppedScopeReleased() {
+		try (ServiceCoordinator service = createService()) {
+			Assertions.assertThrows(TestException.class, () -> {
+				try (ExecutionCoordinator failingScope = service.openScope()) {
+					failingScope.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(LONG_TASK_TIME_MS));
+					failingScope.configure().taskType(TaskType.BLOCKING).execute(this::fail);
+					failingScope.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+				}
+			});
+			try (ExecutionCoordinator scope = service.openScope()) {
+				for (int i = 0; i < PARALLELISM; i++) {
+					scope.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+				}
+			}
+		}
+		Assertions.assertEquals(PARALLELISM, numExecutedTasks.get(), "Wrong number of executed tasks");
+		Assertions.assertEquals(PARALLELISM, maxRunningTasks.get(), "The stopped scope has not released all of its slots");
+	}
+
+	@Test
+	void testDrainAndClose() {
+		ServiceCoordinator service = createService();
+		ExecutionCoordinator scope = service.openScope();
+		scope.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+		Thread closingThread = new Thread(service::close);
+		closingThread.start();
+		sleep(TASK_TIME_MS);
+		Assertions.assertThrows(IllegalStateException.class, service::openScope, "No scope should be opened while the service is being closed");
+		Assertions.assertTrue(closingThread.isAlive(), "The service should wait until all scopes have been closed");
+		scope.close();
+		join(closingThread);
+		Assertions.assertEquals(1, numExecutedTasks.get(), "The task of the scope should have been executed");
+	}
+
+	@Test
+	void testStopService() {
+		StopWatch stopWatch = new StopWatch();
+		try (ServiceCoordinator service = createService()) {
+			try (ExecutionCoordinator scope = service.openScope()) {
+				scope.configure().taskType(TaskType.BLOCKING).execute(this::runUntilInterrupted);
+				sleep(TASK_TIME_MS);
+				service.stop();
+			}
+			try (ExecutionCoordinator scope = service.openScope()) {
+				scope.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+			}
+		}
+		TestUtils.assertTimeBounds(TASK_TIME_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Stopping the service");
+		Assertions.assertEquals(0, numExecutedTasks.get(), "Scopes of a stopped service should not execute tasks");
+	}
+
+	private ServiceCoordinator createService() {
+		return Coordinators.configureServiceCoordinator().maximumParallelism(TaskType.BLOCKING, PARALLELISM).build();
+	}
+
+	private void runTask() {
+		int numRunning = numRunningTasks.incrementAndGet();
+		maxRunningTasks.accumulateAndGet(numRunning, Math::max);
+		sleep(TASK_TIME_MS);
+		numRunningTasks.decrementAndGet();
+		numExecutedTasks.incrementAndGet();
+	}
+
+	private void runUntilInterrupted() {
+		long endTimeMs = System.currentTimeMillis() + LONG_TASK_TIME_MS;
+		while (!Thread.currentThread().isInterrupted() && System.currentTimeMillis() < endTimeMs) {
+			Thread.yield();
+		}
+	}
+
+	private void fail() throws TestException {
+		sleep(TASK_TIME_MS);
+		throw new TestException();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+
+	private static void join(Thread thread) {
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
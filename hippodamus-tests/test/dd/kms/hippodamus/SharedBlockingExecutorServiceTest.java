@@ -0,0 +1,71 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This test verifies that blocking tasks are, by default, executed by an {@link java.util.concurrent.ExecutorService}
+ * that is shared by all coordinators and that is not shut down when a coordinator is closed. It also verifies that
+ * each coordinator executes its blocking tasks sequentially unless a higher maximum parallelism is specified.
+ */
+class SharedBlockingExecutorServiceTest
+{
+	private static final int	NUM_TASKS		= 3;
+	private static final long	TASK_TIME_MS	= 300;
+	private static final long	PRECISION_MS	= 200;
+
+	private final Set<Thread>	executingThreads	= ConcurrentHashMap.newKeySet();
+
+	@Test
+	void testSharedExecutorService() {
+		executingThreads.clear();
+		for (int i = 0; i < 2; i++) {
+			try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+			}
+		}
+		Assertions.assertFalse(executingThreads.isEmpty(), "No task has been executed");
+		for (Thread thread : executingThreads) {
+			Assertions.assertTrue(thread.isDaemon(), "The threads of the shared executor service should be daemon threads");
+			Assertions.assertTrue(thread.isAlive(), "The shared executor service must not be shut down when closing a coordinator");
+		}
+	}
+
+	@Test
+	void testSequentialExecutionByDefault() {
+		long elapsedTimeMs = executeBlockingTasks(Coordinators.configureExecutionCoordinator());
+		TestUtils.assertTimeBounds(NUM_TASKS * TASK_TIME_MS, PRECISION_MS, elapsedTimeMs, "Sequential execution");
+	}
+
+	@Test
+	void testParallelExecution() {
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.maximumParallelism(TaskType.BLOCKING, NUM_TASKS);
+		long elapsedTimeMs = executeBlockingTasks(builder);
+		TestUtils.assertTimeBounds(TASK_TIME_MS, PRECISION_MS, elapsedTimeMs, "Parallel execution");
+	}
+
+	private long executeBlockingTasks(ExecutionCoordinatorBuilder builder) {
+		StopWatch stopWatch = new StopWatch();
+		try (ExecutionCoordinator coordinator = builder.build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runTask);
+			}
+		}
+		return stopWatch.getElapsedTimeMs();
+	}
+
+	private void runTask() {
+		executingThreads.add(Thread.currentThread());
+		TestUtils.simulateWork(TASK_TIME_MS);
+	}
+}
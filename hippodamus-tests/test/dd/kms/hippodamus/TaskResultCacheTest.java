@@ -0,0 +1,141 @@
+package dd.kms.hippodamus;
+
+import dd.kms.hippodamus.api.cache.TaskResultCache;
+import dd.kms.hippodamus.api.cache.TaskResultCaches;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.TestException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This test verifies that a {@link TaskResultCache} completes tasks with cached values without executing them,
+ * that concurrent tasks of different coordinators with the same key are only executed once, and that tasks that
+ * are attached to a failing task compute their value themselves.
+ */
+class TaskResultCacheTest
+{
+	private static final String	KEY					= "key";
+	private static final String	OTHER_KEY			= "other key";
+	private static final int	VALUE				= 42;
+	private static final long	TASK_TIME_MS		= 300;
+	private static final long	TIME_TO_LIVE_MS		= 100;
+
+	private final AtomicInteger	numComputations		= new AtomicInteger();
+
+	@Test
+	void testCacheHit() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(10).build();
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+		}
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			ResultHandle<Integer> handle = coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+			Assertions.assertTrue(handle.hasCompleted(), "A cache hit should complete the task immediately");
+			Assertions.assertEquals(VALUE, (int) handle.get(), "Wrong cached value");
+		}
+		Assertions.assertEquals(1, numComputations.get(), "The value should only have been computed once");
+		Assertions.assertEquals(1, cache.getNumberOfHits(), "Wrong number of hits");
+		Assertions.assertEquals(1, cache.getNumberOfMisses(), "Wrong number of misses");
+	}
+
+	@Test
+	void testSingleFlight() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(10).build();
+		AtomicInteger dependentValue = new AtomicInteger();
+		try (ExecutionCoordinator coordinator1 = Coordinators.createExecutionCoordinator()) {
+			coordinator1.configure().taskType(TaskType.BLOCKING).cacheResult(cache, KEY).execute(this::computeValueSlowly);
+			try (ExecutionCoordinator coordinator2 = Coordinators.createExecutionCoordinator()) {
+				ResultHandle<Integer> handle = coordinator2.configure().taskType(TaskType.BLOCKING).cacheResult(cache, KEY).execute(this::computeValueSlowly);
+				coordinator2.configure().dependencies(handle).execute(() -> dependentValue.set(handle.get()));
+			}
+		}
+		Assertions.assertEquals(1, numComputations.get(), "The value should only have been computed once");
+		Assertions.assertEquals(VALUE, dependentValue.get(), "The dependent task has not seen the value of the attached task");
+		Assertions.assertEquals(1, cache.getNumberOfAttachedTasks(), "Wrong number of attached tasks");
+		Assertions.assertEquals(1, cache.getNumberOfMisses(), "Wrong number of misses");
+	}
+
+	@Test
+	void testFailingLeader() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(10).build();
+		AtomicReference<ResultHandle<Integer>> handle = new AtomicReference<>();
+		Assertions.assertThrows(TestException.class, () -> {
+			try (ExecutionCoordinator coordinator1 = Coordinators.createExecutionCoordinator()) {
+				coordinator1.configure().taskType(TaskType.BLOCKING).cacheResult(cache, KEY).execute(this::failSlowly);
+				try (ExecutionCoordinator coordinator2 = Coordinators.createExecutionCoordinator()) {
+					handle.set(coordinator2.configure().taskType(TaskType.BLOCKING).cacheResult(cache, KEY).execute(this::computeValue));
+				}
+			}
+		});
+		Assertions.assertEquals(VALUE, (int) handle.get().get(), "The attached task should have computed its value itself");
+		Assertions.assertEquals(2, numComputations.get(), "Wrong number of computations");
+		Assertions.assertEquals(1, cache.getNumberOfAttachedTasks(), "Wrong number of attached tasks");
+	}
+
+	@Test
+	void testEviction() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(1).build();
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+			coordinator.configure().cacheResult(cache, OTHER_KEY).execute(this::computeValue);
+		}
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+		}
+		Assertions.assertEquals(3, numComputations.get(), "The evicted value should have been computed again");
+		Assertions.assertEquals(2, cache.getNumberOfEvictions(), "Wrong number of evictions");
+		Assertions.assertEquals(1, cache.size(), "Wrong cache size");
+	}
+
+	@Test
+	void testExpiration() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(10).expireAfterWrite(Duration.ofMillis(TIME_TO_LIVE_MS)).build();
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+		}
+		sleep(2 * TIME_TO_LIVE_MS);
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			coordinator.configure().cacheResult(cache, KEY).execute(this::computeValue);
+		}
+		Assertions.assertEquals(2, numComputations.get(), "The expired value should have been computed again");
+	}
+
+	@Test
+	void testInvalidConfiguration() {
+		Assertions.assertThrows(IllegalStateException.class, () -> TaskResultCaches.configureTaskResultCache().build());
+		Assertions.assertThrows(IllegalStateException.class, () -> TaskResultCaches.configureTaskResultCache().maximumSize(10).maximumWeight(10, value -> 1).build());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TaskResultCaches.configureTaskResultCache().maximumSize(-1));
+	}
+
+	private int computeValue() {
+		numComputations.incrementAndGet();
+		return VALUE;
+	}
+
+	private int computeValueSlowly() {
+		sleep(TASK_TIME_MS);
+		return computeValue();
+	}
+
+	private int failSlowly() throws TestException {
+		sleep(TASK_TIME_MS);
+		numComputations.incrementAndGet();
+		throw new TestException();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package dd.kms.hippodamus.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.Aggregators;
+import dd.kms.hippodamus.api.aggregation.MergeableAggregator;
+import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that an {@link AggregationCoordinator} with a {@link MergeableAggregator} aggregates all values,
+ * that it never accesses a partial aggregator concurrently, and that short circuit evaluation considers the values
+ * of all partial aggregators. It also verifies that partial aggregators are reused and that they are only merged when
+ * the coordinator is closed if the aggregator does not support short circuit evaluation.
+ */
+class MergeableAggregationTest
+{
+	private static final int	NUM_THREADS			= 8;
+	private static final int	NUM_TASKS			= 10_000;
+	private static final int	NUM_SLOW_TASKS		= 200;
+	private static final long	SLOW_TASK_TIME_MS	= 10;
+	private static final long	THRESHOLD			= 20;
+
+	@Test
+	void testParallelAggregation() {
+		SumAggregator aggregator = new SumAggregator(true);
+		aggregateInParallel(aggregator);
+		Assertions.assertTrue(aggregator.numPartialAggregators.get() <= 2 * getMaxNumberOfStripes(), "Partial aggregators have not been reused: " + aggregator.numPartialAggregators.get() + " partial aggregators have been created");
+	}
+
+	@Test
+	void testAggregationWithoutShortCircuitEvaluation() {
+		SumAggregator aggregator = new SumAggregator(false);
+		aggregateInParallel(aggregator);
+		Assertions.assertTrue(aggregator.numMerges.get() <= getMaxNumberOfStripes(), "Partial aggregators should only be merged when the coordinator is closed, but they have been merged " + aggregator.numMerges.get() + " times");
+	}
+
+	private static void aggregateInParallel(SumAggregator aggregator) {
+		AggregationCoordinatorBuilder<Long, Long> coordinatorBuilder = Coordinators.configureAggregationCoordinator(aggregator)
+			.executorService(TaskType.COMPUTATIONAL, Executors.newFixedThreadPool(NUM_THREADS), true);
+		try (AggregationCoordinator<Long, Long> coordinator = coordinatorBuilder.build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				long value = i;
+				coordinator.aggregate(() -> value);
+			}
+		}
+		long expectedSum = (long) NUM_TASKS * (NUM_TASKS - 1) / 2;
+		Assertions.assertEquals(expectedSum, (long) aggregator.getAggregatedValue(), "Wrong aggregated value");
+		Assertions.assertFalse(aggregator.concurrentAccess.get(), "A partial aggregator has been accessed concurrently");
+	}
+
+	/**
+	 * The number of stripes is the smallest power of two that is not less than the number of processors.
+	 */
+	private static int getMaxNumberOfStripes() {
+		return 2 * Runtime.getRuntime().availableProcessors();
+	}
+
+	@Test
+	void testShortCircuitEvaluation() {
+		AtomicInteger numExecutedTasks = new AtomicInteger();
+		MergeableAggregator<Long, Long> aggregator = Aggregators.createMergeableAggregator(0L, Long::sum, Long::sum, sum -> sum >= THRESHOLD);
+		AggregationCoordinatorBuilder<Long, Long> coordinatorBuilder = Coordinators.configureAggregationCoordinator(aggregator)
+			.executorService(TaskType.BLOCKING, Executors.newFixedThreadPool(NUM_THREADS), true)
+			.maximumParallelism(TaskType.BLOCKING, NUM_THREADS);
+		try (AggregationCoordinator<Long, Long> coordinator = coordinatorBuilder.build()) {
+			for (int i = 0; i < NUM_SLOW_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).aggregate(() -> {
+					numExecutedTasks.incrementAndGet();
+					TestUtils.simulateWork(SLOW_TASK_TIME_MS);
+					return 1L;
+				});
+			}
+		}
+		Assertions.assertTrue(aggregator.getAggregatedValue() >= THRESHOLD, "Wrong aggregated value");
+		Assertions.assertTrue(numExecutedTasks.get() <= THRESHOLD + 2 * NUM_THREADS, "Short circuit evaluation has not been applied promptly: " + numExecutedTasks.get() + " tasks have been executed");
+	}
+
+	private static class SumAggregator implements MergeableAggregator<Long, Long>
+	{
+		private final boolean		shortCircuitEvaluation;
+		private final AtomicBoolean	concurrentAccess;
+		private final AtomicInteger	numPartialAggregators;
+		private final AtomicInteger	numMerges;
+		private final AtomicBoolean	accessed				= new AtomicBoolean();
+		private long				sum;
+
+		SumAggregator(boolean shortCircuitEvaluation) {
+			this(shortCircuitEvaluation, new AtomicBoolean(), new AtomicInteger(), new AtomicInteger());
+		}
+
+		private SumAggregator(boolean shortCircuitEvaluation, AtomicBoolean concurrentAccess, AtomicInteger numPartialAggregators, AtomicInteger numMerges) {
+			this.shortCircuitEvaluation = shortCircuitEvaluation;
+			this.concurrentAccess = concurrentAccess;
+			this.numPartialAggregators = numPartialAggregators;
+			this.numMerges = numMerges;
+		}
+
+		@Override
+		public void aggregate(Long value) {
+			if (!accessed.compareAndSet(false, true)) {
+				concurrentAccess.set(true);
+			}
+			sum += value;
+			accessed.set(false);
+		}
+
+		@Override
+		public Long getAggregatedValue() {
+			return sum;
+		}
+
+		@Override
+		public boolean hasAggregationCompleted() {
+			return false;
+		}
+
+		@Override
+		public MergeableAggregator<Long, Long> createPartialAggregator() {
+			numPartialAggregators.incrementAndGet();
+			return new SumAggregator(shortCircuitEvaluation, concurrentAccess, numPartialAggregators, numMerges);
+		}
+
+		@Override
+		public void merge(MergeableAggregator<Long, Long> partialAggregator) {
+			numMerges.incrementAndGet();
+			sum += partialAggregator.getAggregatedValue();
+		}
+
+		@Override
+		public boolean supportsShortCircuitEvaluation() {
+			return shortCircuitEvaluation;
+		}
+
+		@Override
+		public boolean tryReset() {
+			sum = 0;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package dd.kms.hippodamus.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.Aggregators;
+import dd.kms.hippodamus.api.aggregation.DoubleAggregator;
+import dd.kms.hippodamus.api.aggregation.IntAggregator;
+import dd.kms.hippodamus.api.aggregation.LongAggregator;
+import dd.kms.hippodamus.api.cache.TaskResultCache;
+import dd.kms.hippodamus.api.cache.TaskResultCaches;
+import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that values of tasks that return primitive values are aggregated by primitive aggregators,
+ * that their handles provide the results of the tasks, and that the primitive entry points reject aggregators
+ * that are no primitive aggregators.
+ */
+class PrimitiveAggregationTest
+{
+	private static final int	NUM_TASKS			= 1000;
+	private static final int	NUM_SLOW_TASKS		= 200;
+	private static final long	SLOW_TASK_TIME_MS	= 10;
+	private static final double	THRESHOLD			= 10.0;
+	private static final long	STRAGGLER_TIME_MS	= 3000;
+	private static final long	HEDGING_DELAY_MS	= 100;
+	private static final int	NUM_THREADS			= 4;
+
+	@Test
+	void testLongAggregation() {
+		LongAggregator aggregator = Aggregators.createLongAggregator(0, Long::sum);
+		LongResultHandle lastHandle = null;
+		try (AggregationCoordinator<Long, Long> coordinator = Coordinators.createAggregationCoordinator(aggregator)) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				long value = i;
+				lastHandle = coordinator.aggregateLong(() -> value);
+			}
+		}
+		long expectedSum = (long) NUM_TASKS * (NUM_TASKS - 1) / 2;
+		Assertions.assertEquals(expectedSum, aggregator.getAggregatedValueAsLong(), "Wrong aggregated value");
+		Assertions.assertEquals(NUM_TASKS - 1, lastHandle.getAsLong(), "Wrong task result");
+	}
+
+	@Test
+	void testDoubleShortCircuitEvaluation() {
+		AtomicInteger numExecutedTasks = new AtomicInteger();
+		DoubleAggregator aggregator = Aggregators.createDoubleAggregator(0.0, Double::sum, sum -> sum >= THRESHOLD);
+		AggregationCoordinatorBuilder<Double, Double> coordinatorBuilder = Coordinators.configureAggregationCoordinator(aggregator)
+			.maximumParallelism(TaskType.BLOCKING, NUM_THREADS);
+		try (AggregationCoordinator<Double, Double> coordinator = coordinatorBuilder.build()) {
+			for (int i = 0; i < NUM_SLOW_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).aggregateDouble(() -> {
+					numExecutedTasks.incrementAndGet();
+					TestUtils.simulateWork(SLOW_TASK_TIME_MS);
+					return 0.5;
+				});
+			}
+		}
+		Assertions.assertTrue(aggregator.getAggregatedValueAsDouble() >= THRESHOLD, "Wrong aggregated value");
+		Assertions.assertTrue(numExecutedTasks.get() <= 2 * THRESHOLD + NUM_THREADS, "Short circuit evaluation has not been applied: " + numExecutedTasks.get() + " tasks have been executed");
+	}
+
+	@Test
+	void testHedgedTask() {
+		AtomicInteger numAttempts = new AtomicInteger();
+		IntAggregator aggregator = Aggregators.createIntAggregator(0, Integer::sum);
+		IntResultHandle handle;
+		AggregationCoordinatorBuilder<Integer, Integer> coordinatorBuilder = Coordinators.configureAggregationCoordinator(aggregator)
+			.maximumParallelism(TaskType.BLOCKING, 2);
+		try (AggregationCoordinator<Integer, Integer> coordinator = coordinatorBuilder.build()) {
+			handle = coordinator.configure().taskType(TaskType.BLOCKING).hedgeAfter(Duration.ofMillis(HEDGING_DELAY_MS)).aggregateInt(() -> {
+				int attempt = numAttempts.getAndIncrement();
+				if (attempt == 0) {
+					sleep(STRAGGLER_TIME_MS);
+				}
+				return attempt + 1;
+			});
+		}
+		Assertions.assertEquals(1, handle.getWinningAttempt(), "The duplicate should have won");
+		Assertions.assertEquals(2, handle.getAsInt(), "The result of the duplicate should have been used");
+		Assertions.assertEquals(2, aggregator.getAggregatedValueAsInt(), "The result of the duplicate should have been aggregated");
+	}
+
+	@Test
+	void testCachedResult() {
+		TaskResultCache cache = TaskResultCaches.configureTaskResultCache().maximumSize(10).build();
+		AtomicInteger numComputations = new AtomicInteger();
+		LongAggregator aggregator = Aggregators.createLongAggregator(0, Long::sum);
+		for (int i = 0; i < 2; i++) {
+			try (AggregationCoordinator<Long, Long> coordinator = Coordinators.createAggregationCoordinator(aggregator)) {
+				LongResultHandle handle = coordinator.configure().cacheResult(cache, "key").aggregateLong(() -> {
+					numComputations.incrementAndGet();
+					return 42L;
+				});
+				coordinator.configure().dependencies(handle).execute(() -> Assertions.assertEquals(42L, handle.getAsLong(), "Wrong task result"));
+			}
+		}
+		Assertions.assertEquals(1, numComputations.get(), "The value should only have been computed once");
+		Assertions.assertEquals(84L, aggregator.getAggregatedValueAsLong(), "Wrong aggregated value");
+	}
+
+	@Test
+	void testUnsupportedAggregators() {
+		try (AggregationCoordinator<Long, Long> coordinator = Coordinators.createAggregationCoordinator(Aggregators.createAggregator(0L, Long::sum))) {
+			Assertions.assertThrows(IllegalStateException.class, () -> coordinator.aggregateLong(() -> 1L));
+		}
+		try (AggregationCoordinator<Boolean, Boolean> coordinator = Coordinators.createAggregationCoordinator(Aggregators.disjunction())) {
+			Assertions.assertThrows(IllegalStateException.class, () -> coordinator.aggregateInt(() -> 1));
+		}
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package dd.kms.hippodamus.benchmark;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures how many bytes are allocated per task when executing many tiny tasks. This comprises the registration
+ * of the tasks in the coordinator's thread as well as the execution of the tasks in a worker thread. For many tiny
+ * tasks, this per-task bookkeeping dominates the garbage collection costs.<br>
+ * <br>
+ * The measurement relies on {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. If the JVM does
+ * not support this, then the benchmark is skipped.
+ */
+class AllocationBenchmark
+{
+	private static final int	NUM_TASKS				= 200_000;
+	private static final int	NUM_WARMUP_TASKS		= 50_000;
+
+	/**
+	 * Upper bound for the number of allocated bytes per task. This includes, among others, the handle, the task's
+	 * name, the entries in the coordinator's set of task names and in the registry of handles, and the
+	 * {@link java.util.concurrent.Future} of the {@code ExecutorService}.
+	 */
+	private static final long	MAX_BYTES_PER_TASK		= 600;
+
+	@Test
+	void benchmarkAllocatedBytesPerTask() {
+		com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+		Assumptions.assumeTrue(threadMXBean != null, "Measuring allocated bytes per thread is not supported");
+
+		List<Thread> workerThreads = new CopyOnWriteArrayList<>();
+		ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable);
+			workerThreads.add(thread);
+			return thread;
+		});
+		try {
+			runTasks(executorService, NUM_WARMUP_TASKS);
+
+			long allocatedBytesBefore = getAllocatedBytes(threadMXBean, workerThreads);
+			runTasks(executorService, NUM_TASKS);
+			long allocatedBytes = getAllocatedBytes(threadMXBean, workerThreads) - allocatedBytesBefore;
+
+			long bytesPerTask = allocatedBytes / NUM_TASKS;
+			System.out.println(MessageFormat.format("Allocated bytes per task: {0,number,#}", bytesPerTask));
+			Assertions.assertTrue(bytesPerTask <= MAX_BYTES_PER_TASK, "Allocated " + bytesPerTask + " bytes per task, but expected at most " + MAX_BYTES_PER_TASK);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private void runTasks(ExecutorService executorService, int numTasks) {
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().executorService(TaskType.COMPUTATIONAL, executorService, false).build()) {
+			for (int i = 0; i < numTasks; i++) {
+				coordinator.execute(this::runTask);
+			}
+		}
+	}
+
+	private void runTask() {
+		// nothing to do; we only measure the bookkeeping overhead
+	}
+
+	private static long getAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean, List<Thread> workerThreads) {
+		long allocatedBytes = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		for (Thread workerThread : workerThreads) {
+			allocatedBytes += threadMXBean.getThreadAllocatedBytes(workerThread.getId());
+		}
+		return allocatedBytes;
+	}
+
+	private static com.sun.management.ThreadMXBean getThreadMXBean() {
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+		return sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()
+			? sunThreadMXBean
+			: null;
+	}
+}
@@ -0,0 +1,145 @@
+package dd.kms.hippodamus.benchmark;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tasks may be registered at an {@link ExecutionCoordinator} from multiple threads at once, e.g., when tasks spawn
+ * subtasks or when a task graph is built by multiple threads. In this benchmark we register a fixed number of tasks
+ * from a varying number of threads and measure the time required for the registration.<br>
+ * <br>
+ * We report the registration throughput for every number of producer threads. How much additional producer threads
+ * can speed up the registration depends on the number of available cores, which we cannot rely on. Hence, we also
+ * measure the speedup of purely computational work for the same number of threads. If that reference speedup shows
+ * that the threads can really run in parallel, then we require the registration to scale as well. Otherwise, e.g.,
+ * on a single core, we only report the throughput because the result is dominated by thread scheduling.
+ */
+class ConcurrentRegistrationBenchmark
+{
+	/**
+	 * The coordinator retires handles when their tasks terminate, but registering these trivial tasks is faster than
+	 * executing them. Hence, most handles are still pending during the registration, and the number of registered
+	 * tasks is limited by the memory available in the test environment.
+	 */
+	private static final int	NUM_TASKS					= 1_000_000;
+	private static final int[]	NUM_PRODUCERS				= { 1, 2, 4, 8 };
+
+	private static final long	NUM_REFERENCE_ITERATIONS	= 400_000_000L;
+	private static final double	MIN_REFERENCE_SPEEDUP		= 2.0;
+	private static final double	MIN_SPEEDUP					= 1.5;
+
+	@Test
+	void benchmarkConcurrentRegistration() {
+		System.out.println("Registration throughput\n=======================");
+
+		// warm-up
+		measureReferenceTime(1);
+		measureRegistrationTime(1);
+
+		long singleThreadReferenceTimeMs = measureReferenceTime(1);
+		long singleProducerTimeMs = -1;
+		for (int numProducers : NUM_PRODUCERS) {
+			double referenceSpeedup = (double) singleThreadReferenceTimeMs / Math.max(measureReferenceTime(numProducers), 1);
+
+			TestUtils.waitForEmptyCommonForkJoinPool();
+			System.gc();
+			long registrationTimeMs = measureRegistrationTime(numProducers);
+			if (singleProducerTimeMs < 0) {
+				singleProducerTimeMs = registrationTimeMs;
+			}
+			double throughput = (double) NUM_TASKS / Math.max(registrationTimeMs, 1);
+			double speedup = (double) singleProducerTimeMs / Math.max(registrationTimeMs, 1);
+			System.out.println(MessageFormat.format("{0} producer(s): {1,number,#} tasks/ms (speedup: {2,number,#.##}, reference speedup: {3,number,#.##})", numProducers, throughput, speedup, referenceSpeedup));
+
+			if (referenceSpeedup >= MIN_REFERENCE_SPEEDUP) {
+				Assertions.assertTrue(speedup >= MIN_SPEEDUP, MessageFormat.format("Registration does not scale: {0} producers only achieved a speedup of {1,number,#.##}", numProducers, speedup));
+			}
+		}
+	}
+
+	/**
+	 * Distributes purely computational work among the specified number of threads. The ratio of the time required
+	 * by a single thread and the time required by multiple threads is the speedup we can expect at most.
+	 */
+	private long measureReferenceTime(int numThreads) {
+		ExecutorService threadService = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Future<Long>> futures = new ArrayList<>(numThreads);
+			StopWatch stopWatch = new StopWatch();
+			for (int i = 0; i < numThreads; i++) {
+				long numIterations = NUM_REFERENCE_ITERATIONS / numThreads;
+				futures.add(threadService.submit(() -> computeReferenceValue(numIterations)));
+			}
+			long value = 0;
+			for (Future<Long> future : futures) {
+				value += future.get();
+			}
+			long elapsedTimeMs = stopWatch.getElapsedTimeMs();
+			Assertions.assertNotEquals(-1, value, "Unexpected reference value");	// prevents dead code elimination
+			return elapsedTimeMs;
+		} catch (InterruptedException | ExecutionException e) {
+			Assertions.fail("Exception when measuring the reference time: " + e);
+			return -1;
+		} finally {
+			threadService.shutdown();
+		}
+	}
+
+	private static long computeReferenceValue(long numIterations) {
+		long value = 0;
+		for (long i = 0; i < numIterations; i++) {
+			value = 31*value + (i ^ (value >>> 7));
+		}
+		return value;
+	}
+
+	private long measureRegistrationTime(int numProducers) {
+		ExecutorService producerService = Executors.newFixedThreadPool(numProducers);
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			CountDownLatch startLatch = new CountDownLatch(1);
+			List<Future<?>> producers = new ArrayList<>(numProducers);
+			for (int i = 0; i < numProducers; i++) {
+				int numTasksToRegister = NUM_TASKS / numProducers + (i < NUM_TASKS % numProducers ? 1 : 0);
+				producers.add(producerService.submit(() -> {
+					registerTasks(coordinator, numTasksToRegister, startLatch);
+					return null;
+				}));
+			}
+			StopWatch stopWatch = new StopWatch();
+			startLatch.countDown();
+			for (Future<?> producer : producers) {
+				producer.get();
+			}
+			return stopWatch.getElapsedTimeMs();
+		} catch (InterruptedException | ExecutionException e) {
+			Assertions.fail("Exception when registering tasks: " + e);
+			return -1;
+		} finally {
+			producerService.shutdown();
+		}
+	}
+
+	private void registerTasks(ExecutionCoordinator coordinator, int numTasks, CountDownLatch startLatch) throws InterruptedException {
+		startLatch.await();
+		for (int i = 0; i < numTasks; i++) {
+			coordinator.execute(this::runTask);
+		}
+	}
+
+	private void runTask() {
+		// nothing to do; we only measure the registration overhead
+	}
+}
@@ -0,0 +1,72 @@
+package dd.kms.hippodamus.benchmark;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.concurrent.Executors;
+
+/**
+ * Long chains of tiny tasks are dominated by the latency of submitting each task to the
+ * {@link java.util.concurrent.ExecutorService} when its predecessor completes. This benchmark verifies that
+ * executing successors directly in the completing thread (continuation handoff) is not slower than submitting them.
+ * We use a {@link java.util.concurrent.ThreadPoolExecutor} because a {@link java.util.concurrent.ForkJoinPool} tends to
+ * execute tasks submitted by a worker thread in that same thread anyway.
+ */
+class ContinuationHandoffBenchmark
+{
+	private static final int	CHAIN_LENGTH	= 20_000;
+	private static final int	NUM_THREADS		= 2;
+	private static final int	NUM_WARMUPS		= 3;
+	private static final long	PRECISION_MS	= 100;
+	private static final double	TOLERANCE		= 1.05;
+
+	@Test
+	void benchmarkContinuationHandoff() {
+		for (int i = 0; i < NUM_WARMUPS; i++) {
+			runChain(false);
+			runChain(true);
+		}
+		long submissionTimeMs = runChain(false);
+		long handoffTimeMs = runChain(true);
+
+		System.out.println(MessageFormat.format("Times (submission/continuation handoff): {0} ms/{1} ms", submissionTimeMs, handoffTimeMs));
+
+		long maxAllowedTimeMs = Math.round(TOLERANCE*submissionTimeMs + PRECISION_MS);
+		TestUtils.assertTimeUpperBound(maxAllowedTimeMs, handoffTimeMs);
+	}
+
+	/**
+	 * Registers the whole chain before permitting task submission. Otherwise, every task might complete before
+	 * its successor is registered. Only the execution of the chain is measured.
+	 *
+	 * @return The execution time of the chain in milliseconds
+	 */
+	private long runChain(boolean continuationHandoff) {
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.executorService(TaskType.COMPUTATIONAL, Executors.newFixedThreadPool(NUM_THREADS), true)
+			.continuationHandoff(continuationHandoff);
+		ResultHandle<Integer> handle;
+		StopWatch stopWatch;
+		try (ExecutionCoordinator coordinator = builder.build()) {
+			coordinator.permitTaskSubmission(false);
+			handle = coordinator.execute(() -> 0);
+			for (int i = 1; i < CHAIN_LENGTH; i++) {
+				ResultHandle<Integer> predecessor = handle;
+				handle = coordinator.configure().dependencies(predecessor).execute(() -> predecessor.get() + 1);
+			}
+			stopWatch = new StopWatch();
+			coordinator.permitTaskSubmission(true);
+		}
+		long elapsedTimeMs = stopWatch.getElapsedTimeMs();
+		Assertions.assertEquals(CHAIN_LENGTH - 1, handle.get(), "Wrong result");
+		return elapsedTimeMs;
+	}
+}
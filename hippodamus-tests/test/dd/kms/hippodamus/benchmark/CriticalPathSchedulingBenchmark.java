@@ -0,0 +1,120 @@
+package dd.kms.hippodamus.benchmark;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compares the time required for executing random task graphs when the maximum parallelism is limited, once with
+ * tasks being submitted in the order of their registration and once with critical path scheduling. Each task
+ * depends on up to {@link #MAX_NUM_DEPENDENCIES} tasks randomly chosen among the
+ * {@link #DEPENDENCY_WINDOW} tasks that have been registered before it. The
+ * tasks sleep for their cost such that the result does not depend on the number of available processors.
+ */
+class CriticalPathSchedulingBenchmark
+{
+	private static final int	NUM_TASKS				= 60;
+	private static final int	MAX_NUM_DEPENDENCIES	= 2;
+	private static final int	DEPENDENCY_WINDOW		= 10;
+	private static final int	MAX_TASK_COST_MS		= 20;
+	private static final int	MAX_PARALLELISM			= 3;
+	private static final int	NUM_GRAPHS				= 5;
+	private static final long	SEED					= 42;
+
+	private static final long	PRECISION_MS			= 100;
+	private static final double	TOLERANCE				= 1.05;
+
+	@Test
+	void benchmarkCriticalPathScheduling() {
+		Random random = new Random(SEED);
+		List<TaskGraph> graphs = new ArrayList<>();
+		for (int i = 0; i < NUM_GRAPHS; i++) {
+			graphs.add(new TaskGraph(random));
+		}
+
+		// warm up
+		execute(graphs.get(0), false);
+		execute(graphs.get(0), true);
+
+		long timeByIdMs = 0;
+		long timeByCriticalPathMs = 0;
+		for (TaskGraph graph : graphs) {
+			timeByIdMs += execute(graph, false);
+			timeByCriticalPathMs += execute(graph, true);
+		}
+
+		System.out.println("Submission by id:            " + timeByIdMs + " ms");
+		System.out.println("Critical path scheduling:    " + timeByCriticalPathMs + " ms");
+
+		long maxAllowedTimeMs = Math.round(TOLERANCE*timeByIdMs + PRECISION_MS);
+		TestUtils.assertTimeUpperBound(maxAllowedTimeMs, timeByCriticalPathMs, "Critical path scheduling");
+	}
+
+	private long execute(TaskGraph graph, boolean criticalPathScheduling) {
+		ExecutorService executorService = Executors.newFixedThreadPool(MAX_PARALLELISM);
+		StopWatch stopWatch;
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator()
+				.executorService(TaskType.COMPUTATIONAL, executorService, true)
+				.maximumParallelism(TaskType.COMPUTATIONAL, MAX_PARALLELISM)
+				.criticalPathScheduling(criticalPathScheduling)
+				.build()) {
+			coordinator.permitTaskSubmission(false);
+			List<Handle> handles = new ArrayList<>();
+			for (int i = 0; i < NUM_TASKS; i++) {
+				List<Handle> dependencies = new ArrayList<>();
+				for (int dependencyIndex : graph.dependencies.get(i)) {
+					dependencies.add(handles.get(dependencyIndex));
+				}
+				long costMs = graph.costsMs[i];
+				Handle handle = coordinator.configure()
+					.dependencies(dependencies)
+					.cost(costMs)
+					.execute(() -> sleep(costMs));
+				handles.add(handle);
+			}
+			stopWatch = new StopWatch();
+			coordinator.permitTaskSubmission(true);
+		}
+		return stopWatch.getElapsedTimeMs();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+
+	private static class TaskGraph
+	{
+		final long[]				costsMs			= new long[NUM_TASKS];
+		final List<List<Integer>>	dependencies	= new ArrayList<>();
+
+		TaskGraph(Random random) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				costsMs[i] = 1 + random.nextInt(MAX_TASK_COST_MS);
+				List<Integer> taskDependencies = new ArrayList<>();
+				int numDependencies = i == 0 ? 0 : random.nextInt(MAX_NUM_DEPENDENCIES + 1);
+				for (int j = 0; j < numDependencies; j++) {
+					int dependency = i - 1 - random.nextInt(Math.min(i, DEPENDENCY_WINDOW));
+					if (!taskDependencies.contains(dependency)) {
+						taskDependencies.add(dependency);
+					}
+				}
+				dependencies.add(taskDependencies);
+			}
+		}
+	}
+}
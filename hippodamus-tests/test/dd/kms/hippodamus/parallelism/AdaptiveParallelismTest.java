@@ -0,0 +1,115 @@
+package dd.kms.hippodamus.parallelism;
+
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.testUtils.TestException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that an {@link AdaptiveParallelism} increases its limit while the execution times of the
+ * tasks remain stable, that it decreases its limit when the execution times grow with the number of parallel
+ * tasks, and that it decreases its limit when a task throws an exception.
+ */
+class AdaptiveParallelismTest
+{
+	private static final int	NUM_TASKS			= 200;
+	private static final int	NUM_THREADS			= 16;
+	private static final long	TASK_TIME_MS		= 10;
+
+	/**
+	 * The number of tasks the simulated downstream system can handle in parallel without slowing down
+	 */
+	private static final int	DOWNSTREAM_CAPACITY	= 2;
+
+	private final AtomicInteger	parallelism			= new AtomicInteger();
+	private final AtomicInteger	maxParallelism		= new AtomicInteger();
+
+	@Test
+	void testIncreaseLimit() {
+		AdaptiveParallelism adaptiveParallelism = Coordinators.createAdaptiveParallelism(1, 8);
+		executeTasks(adaptiveParallelism, () -> runTask(TASK_TIME_MS));
+		Assertions.assertTrue(adaptiveParallelism.getCurrentLimit() >= 4, "The limit should have increased, but is " + adaptiveParallelism.getCurrentLimit());
+		Assertions.assertTrue(maxParallelism.get() <= 8, "The maximum parallelism has been exceeded: " + maxParallelism.get());
+		Assertions.assertEquals(0, adaptiveParallelism.getNumberOfActiveTasks(), "All slots should have been released");
+	}
+
+	@Test
+	void testDecreaseLimitOnOverload() {
+		AdaptiveParallelism adaptiveParallelism = Coordinators.createAdaptiveParallelism(1, NUM_THREADS);
+		executeTasks(adaptiveParallelism, this::runOverloadedTask);
+		Assertions.assertTrue(maxParallelism.get() > DOWNSTREAM_CAPACITY, "The limit should have exceeded the capacity of the downstream system temporarily");
+		Assertions.assertTrue(adaptiveParallelism.getCurrentLimit() <= 2 * DOWNSTREAM_CAPACITY, "The limit should stay close to the capacity of the downstream system, but is " + adaptiveParallelism.getCurrentLimit());
+	}
+
+	@Test
+	void testDecreaseLimitOnException() {
+		AdaptiveParallelism adaptiveParallelism = Coordinators.createAdaptiveParallelism(1, 8);
+		executeTasks(adaptiveParallelism, () -> runTask(TASK_TIME_MS));
+		int limitBeforeException = adaptiveParallelism.getCurrentLimit();
+
+		// the adaptive parallelism is shared by both coordinators
+		ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.executorService(TaskType.BLOCKING, executorService, true)
+			.adaptiveParallelism(TaskType.BLOCKING, adaptiveParallelism);
+		Assertions.assertThrows(TestException.class, () -> {
+			try (ExecutionCoordinator coordinator = builder.build()) {
+				for (int i = 0; i < NUM_TASKS; i++) {
+					coordinator.configure().taskType(TaskType.BLOCKING).execute(this::runExceptionalTask);
+				}
+			}
+		});
+		Assertions.assertTrue(adaptiveParallelism.getCurrentLimit() < limitBeforeException, "The limit should have decreased after an exception");
+		Assertions.assertEquals(0, adaptiveParallelism.getNumberOfActiveTasks(), "The slots of the stopped coordinator should have been released");
+	}
+
+	@Test
+	void testInvalidLimits() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.createAdaptiveParallelism(0, 8));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.createAdaptiveParallelism(4, 2));
+	}
+
+	private void executeTasks(AdaptiveParallelism adaptiveParallelism, Runnable task) {
+		ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.executorService(TaskType.BLOCKING, executorService, true)
+			.adaptiveParallelism(TaskType.BLOCKING, adaptiveParallelism);
+		try (ExecutionCoordinator coordinator = builder.build()) {
+			for (int i = 0; i < NUM_TASKS; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(task::run);
+			}
+		}
+	}
+
+	private void runOverloadedTask() {
+		// the downstream system slows down significantly when its capacity is exceeded
+		int currentParallelism = parallelism.get() + 1;
+		long taskTimeMs = TASK_TIME_MS * (1 + 2 * Math.max(0, currentParallelism - DOWNSTREAM_CAPACITY));
+		runTask(taskTimeMs);
+	}
+
+	private void runExceptionalTask() throws TestException {
+		runTask(TASK_TIME_MS);
+		throw new TestException();
+	}
+
+	private void runTask(long taskTimeMs) {
+		maxParallelism.accumulateAndGet(parallelism.incrementAndGet(), Math::max);
+		try {
+			Thread.sleep(taskTimeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		} finally {
+			parallelism.decrementAndGet();
+		}
+	}
+}
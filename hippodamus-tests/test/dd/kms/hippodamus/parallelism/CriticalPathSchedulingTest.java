@@ -0,0 +1,45 @@
+package dd.kms.hippodamus.parallelism;
+
+import com.google.common.collect.ImmutableList;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.Handle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This test verifies the order in which tasks are submitted when the maximum parallelism is 1. There are two
+ * independent cheap tasks A and B and a chain of two tasks C and D, where D is expensive. The tasks are registered
+ * in this order. Without critical path scheduling, they are executed in this order as well. With critical path
+ * scheduling, C is executed first because D depends on it. D is executed next because it is more expensive than
+ * A and B.
+ */
+class CriticalPathSchedulingTest
+{
+	@ParameterizedTest(name = "critical path scheduling: {0}")
+	@ValueSource(booleans = {false, true})
+	void testExecutionOrder(boolean criticalPathScheduling) {
+		List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator()
+				.maximumParallelism(TaskType.COMPUTATIONAL, 1)
+				.criticalPathScheduling(criticalPathScheduling)
+				.build()) {
+			coordinator.permitTaskSubmission(false);
+			coordinator.configure().cost(1).execute(() -> executionOrder.add("A"));
+			coordinator.configure().cost(1).execute(() -> executionOrder.add("B"));
+			Handle c = coordinator.configure().cost(1).execute(() -> executionOrder.add("C"));
+			coordinator.configure().cost(10).dependencies(c).execute(() -> executionOrder.add("D"));
+			coordinator.permitTaskSubmission(true);
+		}
+		List<String> expectedExecutionOrder = criticalPathScheduling
+			? ImmutableList.of("C", "D", "A", "B")
+			: ImmutableList.of("A", "B", "C", "D");
+		Assertions.assertEquals(expectedExecutionOrder, executionOrder, "Wrong execution order");
+	}
+}
@@ -0,0 +1,56 @@
+package dd.kms.hippodamus.parallelism;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This test verifies that a task that waits for another task in a {@link ForkJoinPool} does not block the pool. In
+ * this test, a task registers a subtask and waits for its result without being able to declare it as dependency.
+ * The pool has only one worker. Since the waiting task occupies this worker, the subtask can only be executed if the
+ * pool compensates for the blocked worker.
+ */
+class ManagedBlockingTest
+{
+	private static final long	TASK_TIME_MS	= 300;
+	private static final long	PRECISION_MS	= 200;
+
+	@Test
+	void testNoDeadlock() {
+		ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator()
+				.executorService(TaskType.COMPUTATIONAL, forkJoinPool, true)
+				.build()) {
+			ResultHandle<Integer> task = coordinator.execute(() -> {
+				ResultHandle<Integer> subtask = coordinator.execute(() -> returnWithDelay(1));
+				return subtask.get() + 1;
+			});
+
+			// see NoDeadlockTest
+			new Thread(() -> {
+				TestUtils.simulateWork(TASK_TIME_MS + 2*PRECISION_MS);
+				coordinator.stop();
+			}).start();
+
+			Assertions.assertEquals(2, task.get(), "Wrong return value of task");
+		} catch (CancellationException e) {
+			Assertions.fail("Detected a deadlock");
+		}
+	}
+
+	private int returnWithDelay(int value) {
+		try {
+			Thread.sleep(TASK_TIME_MS);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+		return value;
+	}
+}
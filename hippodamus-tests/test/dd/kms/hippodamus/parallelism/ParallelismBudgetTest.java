@@ -0,0 +1,110 @@
+package dd.kms.hippodamus.parallelism;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test verifies that the maximum total parallelism limits the number of tasks of all types that are executed
+ * in parallel and that reserved slots can only be used by tasks of the type they are reserved for.
+ */
+class ParallelismBudgetTest
+{
+	private static final int	NUM_TASKS_PER_TYPE	= 4;
+	private static final long	TASK_TIME_MS		= 100;
+
+	private final ParallelismCounter	totalCounter			= new ParallelismCounter();
+	private final ParallelismCounter	computationalCounter	= new ParallelismCounter();
+	private final ParallelismCounter	blockingCounter			= new ParallelismCounter();
+
+	@Test
+	void testMaximumTotalParallelism() {
+		ExecutorService executorService = Executors.newFixedThreadPool(NUM_TASKS_PER_TYPE);
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.executorService(TaskType.COMPUTATIONAL, executorService, true)
+			.maximumParallelism(TaskType.BLOCKING, NUM_TASKS_PER_TYPE)
+			.maximumTotalParallelism(3);
+		executeTasks(builder);
+		Assertions.assertEquals(3, totalCounter.getMaxParallelism(), "Wrong maximum number of tasks executed in parallel");
+	}
+
+	@Test
+	void testReservedParallelism() {
+		ExecutorService executorService = Executors.newFixedThreadPool(NUM_TASKS_PER_TYPE);
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.executorService(TaskType.COMPUTATIONAL, executorService, true)
+			.maximumParallelism(TaskType.BLOCKING, NUM_TASKS_PER_TYPE)
+			.maximumTotalParallelism(3)
+			.reservedParallelism(TaskType.BLOCKING, 2);
+		executeTasks(builder);
+		Assertions.assertEquals(1, computationalCounter.getMaxParallelism(), "Computational tasks must not use the slots reserved for blocking tasks");
+		Assertions.assertTrue(blockingCounter.getMaxParallelism() >= 2, "Blocking tasks should use their reserved slots");
+		Assertions.assertEquals(3, totalCounter.getMaxParallelism(), "Wrong maximum number of tasks executed in parallel");
+	}
+
+	@Test
+	void testReservationWithoutTotalParallelism() {
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.reservedParallelism(TaskType.BLOCKING, 1);
+		Assertions.assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	@Test
+	void testReservationExceedingTotalParallelism() {
+		ExecutionCoordinatorBuilder builder = Coordinators.configureExecutionCoordinator()
+			.maximumTotalParallelism(2)
+			.reservedParallelism(TaskType.BLOCKING, 2)
+			.reservedParallelism(TaskType.COMPUTATIONAL, 1);
+		Assertions.assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	private void executeTasks(ExecutionCoordinatorBuilder builder) {
+		try (ExecutionCoordinator coordinator = builder.build()) {
+			for (int i = 0; i < NUM_TASKS_PER_TYPE; i++) {
+				coordinator.execute(() -> runTask(computationalCounter));
+			}
+			for (int i = 0; i < NUM_TASKS_PER_TYPE; i++) {
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> runTask(blockingCounter));
+			}
+		}
+	}
+
+	private void runTask(ParallelismCounter typeCounter) {
+		totalCounter.onTaskStarted();
+		typeCounter.onTaskStarted();
+		try {
+			Thread.sleep(TASK_TIME_MS);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		} finally {
+			typeCounter.onTaskFinished();
+			totalCounter.onTaskFinished();
+		}
+	}
+
+	private static class ParallelismCounter
+	{
+		private final AtomicInteger	parallelism		= new AtomicInteger();
+		private final AtomicInteger	maxParallelism	= new AtomicInteger();
+
+		void onTaskStarted() {
+			maxParallelism.accumulateAndGet(parallelism.incrementAndGet(), Math::max);
+		}
+
+		void onTaskFinished() {
+			parallelism.decrementAndGet();
+		}
+
+		int getMaxParallelism() {
+			return maxParallelism.get();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package dd.kms.hippodamus.stopping;
+
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.exceptions.DeadlineExceededException;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.testUtils.StopWatch;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This test verifies that tasks and coordinators that exceed their deadlines are stopped promptly and that
+ * {@link ExecutionCoordinator#close()} throws a {@link DeadlineExceededException} in that case.
+ */
+class DeadlineTest
+{
+	private static final long	LONG_TASK_TIME_MS	= 3000;
+	private static final long	SHORT_TASK_TIME_MS	= 100;
+	private static final long	DEADLINE_MS			= 300;
+	private static final long	PRECISION_MS		= 300;
+
+	@Test
+	void testTaskDeadline() {
+		StopWatch stopWatch = new StopWatch();
+		DeadlineExceededException exception = Assertions.assertThrows(DeadlineExceededException.class, () -> {
+			try (ExecutionCoordinator coordinator = createCoordinator()) {
+				coordinator.configure().taskType(TaskType.BLOCKING).name("Slow task").deadline(Duration.ofMillis(DEADLINE_MS)).execute(() -> sleep(LONG_TASK_TIME_MS));
+				coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(LONG_TASK_TIME_MS));
+			}
+		});
+		TestUtils.assertTimeBounds(DEADLINE_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Stopping task with exceeded deadline");
+		Assertions.assertTrue(exception.getMessage().contains("Slow task"), "The exception should name the task that exceeded its deadline");
+	}
+
+	@Test
+	void testTaskWithinDeadline() {
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			coordinator.configure().taskType(TaskType.BLOCKING).deadline(Duration.ofMillis(DEADLINE_MS)).execute(() -> sleep(SHORT_TASK_TIME_MS));
+		}
+	}
+
+	@Test
+	void testWaitingTimeNotConsideredForTaskDeadline() {
+		try (ExecutionCoordinator coordinator = createCoordinator()) {
+			Handle dependency = coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(2 * DEADLINE_MS));
+			coordinator.configure().taskType(TaskType.BLOCKING).dependencies(dependency).deadline(Duration.ofMillis(DEADLINE_MS)).execute(() -> sleep(SHORT_TASK_TIME_MS));
+		}
+	}
+
+	@Test
+	void testCoordinatorDeadline() {
+		StopWatch stopWatch = new StopWatch();
+		Assertions.assertThrows(DeadlineExceededException.class, () -> {
+			try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, 2).deadline(Duration.ofMillis(DEADLINE_MS)).build()) {
+				Handle dependency = coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(LONG_TASK_TIME_MS));
+				coordinator.configure().taskType(TaskType.BLOCKING).dependencies(dependency).execute(() -> sleep(LONG_TASK_TIME_MS));
+			}
+		});
+		TestUtils.assertTimeBounds(DEADLINE_MS, PRECISION_MS, stopWatch.getElapsedTimeMs(), "Stopping coordinator with exceeded deadline");
+	}
+
+	@Test
+	void testCoordinatorWithinDeadline() {
+		try (ExecutionCoordinator coordinator = Coordinators.configureExecutionCoordinator().deadline(Duration.ofMillis(DEADLINE_MS)).build()) {
+			coordinator.configure().taskType(TaskType.BLOCKING).execute(() -> sleep(SHORT_TASK_TIME_MS));
+		}
+		// the deadline must not affect the closed coordinator
+		sleep(DEADLINE_MS + SHORT_TASK_TIME_MS);
+	}
+
+	@Test
+	void testInvalidDeadline() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Coordinators.configureExecutionCoordinator().deadline(Duration.ZERO));
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			Assertions.assertThrows(IllegalArgumentException.class, () -> coordinator.configure().deadline(Duration.ofMillis(-1)));
+		}
+	}
+
+	private ExecutionCoordinator createCoordinator() {
+		return Coordinators.configureExecutionCoordinator().maximumParallelism(TaskType.BLOCKING, 2).build();
+	}
+
+	private static void sleep(long timeMs) {
+		try {
+			Thread.sleep(timeMs);
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package dd.kms.hippodamus.templates;
+
+import com.google.common.collect.ImmutableList;
+import dd.kms.hippodamus.api.coordinator.Coordinators;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.templates.TaskGraphInstance;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplate;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplateBuilder;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplates;
+import dd.kms.hippodamus.api.templates.TaskTemplate;
+import dd.kms.hippodamus.testUtils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This test verifies that a {@link TaskGraphTemplate} can be instantiated multiple times with different inputs
+ * and that the tasks of every instance respect the dependencies specified in the template.
+ */
+class TaskGraphTemplateTest
+{
+	private static final long	TASK_TIME_MS	= 50;
+
+	@Test
+	void testInstantiation() {
+		TaskGraphTemplateBuilder<Integer, RuntimeException> builder = TaskGraphTemplates.configureTaskGraphTemplate();
+		TaskTemplate<Integer> square = builder.task("Square", (input, instance) -> {
+			TestUtils.simulateWork(TASK_TIME_MS);
+			return input * input;
+		});
+		TaskTemplate<Integer> twice = builder.task("Twice", TaskType.BLOCKING, (input, instance) -> {
+			TestUtils.simulateWork(TASK_TIME_MS);
+			return 2 * input;
+		});
+		TaskTemplate<Integer> sum = builder.task("Sum", (input, instance) -> instance.get(square) + instance.get(twice), square, twice);
+		TaskTemplate<String> text = builder.task("Text", (input, instance) -> input + " -> " + instance.get(sum), sum);
+		TaskGraphTemplate<Integer, RuntimeException> template = builder.build();
+
+		List<String> taskNames = template.getTasks().stream().map(TaskTemplate::getName).collect(Collectors.toList());
+		Assertions.assertEquals(ImmutableList.of("Square", "Twice", "Sum", "Text"), taskNames, "Tasks are not in topological order");
+
+		TaskGraphInstance instance1;
+		TaskGraphInstance instance2;
+		try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+			// names are only unique among pending tasks
+			coordinator.permitTaskSubmission(false);
+			instance1 = template.instantiate(coordinator, 3);
+			instance2 = template.instantiate(coordinator, 5);
+			coordinator.permitTaskSubmission(true);
+		}
+
+		Assertions.assertEquals("3 -> 15", instance1.get(text));
+		Assertions.assertEquals("5 -> 35", instance2.get(text));
+
+		Assertions.assertEquals("Sum", instance1.getHandle(sum).getTaskName());
+		Assertions.assertEquals("Sum (2)", instance2.getHandle(sum).getTaskName(), "Task names of the second instance should have been made unique");
+	}
+
+	@Test
+	void testValidation() {
+		TaskGraphTemplateBuilder<Integer, RuntimeException> builder = TaskGraphTemplates.configureTaskGraphTemplate();
+		TaskTemplate<Integer> task = builder.task("Task", (input, instance) -> input);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> builder.task("Task", (input, instance) -> input), "Duplicate task names should be rejected");
+
+		TaskGraphTemplateBuilder<Integer, RuntimeException> otherBuilder = TaskGraphTemplates.configureTaskGraphTemplate();
+		Assertions.assertThrows(IllegalArgumentException.class, () -> otherBuilder.task("Other task", (input, instance) -> input, task), "Dependencies of other templates should be rejected");
+
+		builder.build();
+		Assertions.assertThrows(IllegalStateException.class, () -> builder.task("Late task", (input, instance) -> input), "Tasks must not be added after the template has been built");
+	}
+}
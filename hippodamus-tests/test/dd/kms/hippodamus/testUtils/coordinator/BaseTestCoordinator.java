@@ -3,14 +3,18 @@ package dd.kms.hippodamus.testUtils.coordinator;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
+import dd.kms.hippodamus.api.handles.CompletionQueue;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
 import dd.kms.hippodamus.testUtils.events.HandleEvent;
 import dd.kms.hippodamus.testUtils.events.TestEvent;
 import dd.kms.hippodamus.testUtils.events.TestEventManager;
 import dd.kms.hippodamus.testUtils.events.TestEvents;
 import dd.kms.hippodamus.testUtils.states.HandleState;
 
+import java.util.Collection;
+
 public abstract class BaseTestCoordinator<C extends ExecutionCoordinator> implements ExecutionCoordinator
 {
 	final C										wrappedCoordinator;
@@ -42,6 +46,11 @@ public abstract class BaseTestCoordinator<C extends ExecutionCoordinator> implem
 		wrappedCoordinator.permitTaskSubmission(permit);
 	}
 
+	@Override
+	public <V> CompletionQueue<V> createCompletionQueue() {
+		return wrappedCoordinator.createCompletionQueue();
+	}
+
 	@Override
 	public void stop() {
 		wrappedCoordinator.stop();
@@ -77,4 +86,9 @@ public abstract class BaseTestCoordinator<C extends ExecutionCoordinator> implem
 	public <V, T extends Throwable> ResultHandle<V> execute(ExceptionalCallable<V, T> callable) throws T {
 		return configure().execute(callable);
 	}
+
+	@Override
+	public <V, T extends Throwable> ResultHandleGroup<V> executeAll(Collection<? extends ExceptionalCallable<V, T>> callables) throws T {
+		return configure().executeAll(callables);
+	}
 }
@@ -2,7 +2,13 @@ package dd.kms.hippodamus.testUtils.coordinator;
 
 import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
 import dd.kms.hippodamus.api.execution.configuration.AggregationConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.DoubleResultHandle;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.testUtils.events.TestEventManager;
 import dd.kms.hippodamus.testUtils.execution.configuration.TestAggregationConfigurationBuilder;
@@ -22,4 +28,19 @@ public class TestAggregationCoordinator<S, R> extends BaseTestCoordinator<Aggreg
 	public <T extends Throwable> ResultHandle<S> aggregate(ExceptionalCallable<S, T> callable) throws T {
 		return configure().aggregate(callable);
 	}
+
+	@Override
+	public <T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable) throws T {
+		return configure().aggregateInt(callable);
+	}
+
+	@Override
+	public <T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable) throws T {
+		return configure().aggregateLong(callable);
+	}
+
+	@Override
+	public <T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable) throws T {
+		return configure().aggregateDouble(callable);
+	}
 }
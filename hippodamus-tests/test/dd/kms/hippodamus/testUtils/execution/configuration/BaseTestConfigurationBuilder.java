@@ -1,17 +1,23 @@
 package dd.kms.hippodamus.testUtils.execution.configuration;
 
+import dd.kms.hippodamus.api.cache.TaskResultCache;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
 import dd.kms.hippodamus.api.resources.Resource;
 import dd.kms.hippodamus.testUtils.coordinator.BaseTestCoordinator;
 import dd.kms.hippodamus.testUtils.exceptions.TestCallable;
 import dd.kms.hippodamus.testUtils.exceptions.TestRunnable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -52,6 +58,36 @@ abstract class BaseTestConfigurationBuilder<B extends ExecutionConfigurationBuil
 		return getBuilder();
 	}
 
+	@Override
+	public B cost(long cost) {
+		wrappedBuilder.cost(cost);
+		return getBuilder();
+	}
+
+	@Override
+	public B deadline(Duration deadline) {
+		wrappedBuilder.deadline(deadline);
+		return getBuilder();
+	}
+
+	@Override
+	public B hedgeAfter(Duration delay) {
+		wrappedBuilder.hedgeAfter(delay);
+		return getBuilder();
+	}
+
+	@Override
+	public B hedgeAfterPercentile(double percentile) {
+		wrappedBuilder.hedgeAfterPercentile(percentile);
+		return getBuilder();
+	}
+
+	@Override
+	public B cacheResult(TaskResultCache cache, Object key) {
+		wrappedBuilder.cacheResult(cache, key);
+		return getBuilder();
+	}
+
 	@Override
 	public <T> B requiredResource(Resource<T> resource, Supplier<T> resourceShareSupplier) {
 		wrappedBuilder.requiredResource(resource, resourceShareSupplier);
@@ -85,4 +121,20 @@ abstract class BaseTestConfigurationBuilder<B extends ExecutionConfigurationBuil
 			})
 			.execute(testCallable);
 	}
+
+	@Override
+	public <V, T extends Throwable> ResultHandleGroup<V> executeAll(Collection<? extends ExceptionalCallable<V, T>> callables) throws T {
+		List<TestCallable<V, T>> testCallables = new ArrayList<>(callables.size());
+		for (ExceptionalCallable<V, T> callable : callables) {
+			testCallables.add(new TestCallable<>(testCoordinator, callable));
+		}
+		// the handle consumer is called for the handles in the order of the callables
+		Iterator<TestCallable<V, T>> testCallableIterator = testCallables.iterator();
+		return wrappedBuilder
+			.onHandleCreation(handle -> {
+				testCallableIterator.next().setHandle(handle);
+				handleConsumer.accept(handle);
+			})
+			.executeAll(testCallables);
+	}
 }
@@ -1,7 +1,13 @@
 package dd.kms.hippodamus.testUtils.execution.configuration;
 
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
 import dd.kms.hippodamus.api.execution.configuration.AggregationConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.DoubleResultHandle;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.testUtils.coordinator.BaseTestCoordinator;
 import dd.kms.hippodamus.testUtils.exceptions.TestCallable;
@@ -27,4 +33,22 @@ public class TestAggregationConfigurationBuilder<S, R> extends BaseTestConfigura
 			})
 			.aggregate(testCallable);
 	}
+
+	/*
+	 * Tasks that return primitive values are not instrumented. They are only used for testing primitive aggregation.
+	 */
+	@Override
+	public <T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable) throws T {
+		return wrappedBuilder.onHandleCreation(handleConsumer).aggregateInt(callable);
+	}
+
+	@Override
+	public <T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable) throws T {
+		return wrappedBuilder.onHandleCreation(handleConsumer).aggregateLong(callable);
+	}
+
+	@Override
+	public <T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable) throws T {
+		return wrappedBuilder.onHandleCreation(handleConsumer).aggregateDouble(callable);
+	}
 }
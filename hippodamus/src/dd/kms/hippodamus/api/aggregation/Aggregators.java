@@ -1,6 +1,13 @@
 package dd.kms.hippodamus.api.aggregation;
 
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 /**
@@ -26,12 +33,82 @@ public class Aggregators
 		return new dd.kms.hippodamus.impl.aggregation.AggregatorImpl<>(initValue, aggregationFunction, finalValuePredicate);
 	}
 
+	/**
+	 * Creates a {@link MergeableAggregator} with the given update function
+	 * {@code (current aggregated value, value) -> new aggregated value} and without short circuit evaluation.
+	 * The combiner merges two aggregated values. It must be associative and {@code identity} must be an identity
+	 * element of it.
+	 */
+	public static <S, R> MergeableAggregator<S, R> createMergeableAggregator(R identity, BiFunction<R, S, R> aggregationFunction, BinaryOperator<R> combiner) {
+		return new dd.kms.hippodamus.impl.aggregation.MergeableAggregatorImpl<>(identity, aggregationFunction, combiner, null);
+	}
+
+	/**
+	 * Creates a {@link MergeableAggregator} like {@link #createMergeableAggregator(Object, BiFunction, BinaryOperator)},
+	 * but you can specify a predicate that returns, depending on the current aggregated value, whether short circuit
+	 * evaluation can be applied.
+	 */
+	public static <S, R> MergeableAggregator<S, R> createMergeableAggregator(R identity, BiFunction<R, S, R> aggregationFunction, BinaryOperator<R> combiner, Predicate<R> finalValuePredicate) {
+		return new dd.kms.hippodamus.impl.aggregation.MergeableAggregatorImpl<>(identity, aggregationFunction, combiner, finalValuePredicate);
+	}
+
+	/**
+	 * Creates an {@link IntAggregator} with the given initial value and the update function
+	 * {@code (current aggregated value, value) -> new aggregated value} and without short circuit evaluation.
+	 */
+	public static IntAggregator createIntAggregator(int initValue, IntBinaryOperator aggregationFunction) {
+		return createIntAggregator(initValue, aggregationFunction, value -> false);
+	}
+
+	/**
+	 * Creates an {@link IntAggregator} like {@link #createIntAggregator(int, IntBinaryOperator)}, but you can
+	 * specify a predicate that returns, depending on the current aggregated value, whether short circuit evaluation
+	 * can be applied.
+	 */
+	public static IntAggregator createIntAggregator(int initValue, IntBinaryOperator aggregationFunction, IntPredicate finalValuePredicate) {
+		return new dd.kms.hippodamus.impl.aggregation.IntAggregatorImpl(initValue, aggregationFunction, finalValuePredicate);
+	}
+
+	/**
+	 * Creates an {@link LongAggregator} with the given initial value and the update function
+	 * {@code (current aggregated value, value) -> new aggregated value} and without short circuit evaluation.
+	 */
+	public static LongAggregator createLongAggregator(long initValue, LongBinaryOperator aggregationFunction) {
+		return createLongAggregator(initValue, aggregationFunction, value -> false);
+	}
+
+	/**
+	 * Creates an {@link LongAggregator} like {@link #createLongAggregator(long, LongBinaryOperator)}, but you can
+	 * specify a predicate that returns, depending on the current aggregated value, whether short circuit evaluation
+	 * can be applied.
+	 */
+	public static LongAggregator createLongAggregator(long initValue, LongBinaryOperator aggregationFunction, LongPredicate finalValuePredicate) {
+		return new dd.kms.hippodamus.impl.aggregation.LongAggregatorImpl(initValue, aggregationFunction, finalValuePredicate);
+	}
+
+	/**
+	 * Creates an {@link DoubleAggregator} with the given initial value and the update function
+	 * {@code (current aggregated value, value) -> new aggregated value} and without short circuit evaluation.
+	 */
+	public static DoubleAggregator createDoubleAggregator(double initValue, DoubleBinaryOperator aggregationFunction) {
+		return createDoubleAggregator(initValue, aggregationFunction, value -> false);
+	}
+
+	/**
+	 * Creates an {@link DoubleAggregator} like {@link #createDoubleAggregator(double, DoubleBinaryOperator)}, but you can
+	 * specify a predicate that returns, depending on the current aggregated value, whether short circuit evaluation
+	 * can be applied.
+	 */
+	public static DoubleAggregator createDoubleAggregator(double initValue, DoubleBinaryOperator aggregationFunction, DoublePredicate finalValuePredicate) {
+		return new dd.kms.hippodamus.impl.aggregation.DoubleAggregatorImpl(initValue, aggregationFunction, finalValuePredicate);
+	}
+
 	/**
 	 * Returns an aggregator that computes the logical disjunction of boolean values and allows
 	 * short circuit evaluation if at least one of the values considered so was true.
 	 */
 	public static Aggregator<Boolean, Boolean> disjunction() {
-		return createAggregator(false, (a, b) -> a || b, total -> total);
+		return createMergeableAggregator(false, (a, b) -> a || b, (a, b) -> a || b, total -> total);
 	}
 
 	/**
@@ -39,6 +116,6 @@ public class Aggregators
 	 * short circuit evaluation if at least one of the values considered so was false.
 	 */
 	public static Aggregator<Boolean, Boolean> conjunction() {
-		return createAggregator(true, (a, b) -> a && b, total -> !total);
+		return createMergeableAggregator(true, (a, b) -> a && b, (a, b) -> a && b, total -> !total);
 	}
 }
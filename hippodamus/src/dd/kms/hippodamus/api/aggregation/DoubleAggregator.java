@@ -0,0 +1,29 @@
+package dd.kms.hippodamus.api.aggregation;
+
+/**
+ * An {@link Aggregator} for primitive {@code double} values. Values aggregated via
+ * {@link dd.kms.hippodamus.api.execution.AggregationManager#aggregateDouble(dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable)
+ * aggregateDouble()} are passed to {@link #aggregate(double)} without boxing them.
+ */
+public interface DoubleAggregator extends Aggregator<Double, Double>
+{
+	/**
+	 * Aggregates the value
+	 */
+	void aggregate(double value);
+
+	/**
+	 * @return The accumulated value
+	 */
+	double getAggregatedValueAsDouble();
+
+	@Override
+	default void aggregate(Double value) {
+		aggregate(value.doubleValue());
+	}
+
+	@Override
+	default Double getAggregatedValue() {
+		return getAggregatedValueAsDouble();
+	}
+}
@@ -0,0 +1,29 @@
+package dd.kms.hippodamus.api.aggregation;
+
+/**
+ * An {@link Aggregator} for primitive {@code int} values. Values aggregated via
+ * {@link dd.kms.hippodamus.api.execution.AggregationManager#aggregateInt(dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable)
+ * aggregateInt()} are passed to {@link #aggregate(int)} without boxing them.
+ */
+public interface IntAggregator extends Aggregator<Integer, Integer>
+{
+	/**
+	 * Aggregates the value
+	 */
+	void aggregate(int value);
+
+	/**
+	 * @return The accumulated value
+	 */
+	int getAggregatedValueAsInt();
+
+	@Override
+	default void aggregate(Integer value) {
+		aggregate(value.intValue());
+	}
+
+	@Override
+	default Integer getAggregatedValue() {
+		return getAggregatedValueAsInt();
+	}
+}
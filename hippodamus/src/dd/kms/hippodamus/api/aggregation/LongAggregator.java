@@ -0,0 +1,29 @@
+package dd.kms.hippodamus.api.aggregation;
+
+/**
+ * An {@link Aggregator} for primitive {@code long} values. Values aggregated via
+ * {@link dd.kms.hippodamus.api.execution.AggregationManager#aggregateLong(dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable)
+ * aggregateLong()} are passed to {@link #aggregate(long)} without boxing them.
+ */
+public interface LongAggregator extends Aggregator<Long, Long>
+{
+	/**
+	 * Aggregates the value
+	 */
+	void aggregate(long value);
+
+	/**
+	 * @return The accumulated value
+	 */
+	long getAggregatedValueAsLong();
+
+	@Override
+	default void aggregate(Long value) {
+		aggregate(value.longValue());
+	}
+
+	@Override
+	default Long getAggregatedValue() {
+		return getAggregatedValueAsLong();
+	}
+}
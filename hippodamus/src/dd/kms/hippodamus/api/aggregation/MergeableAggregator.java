@@ -0,0 +1,46 @@
+package dd.kms.hippodamus.api.aggregation;
+
+/**
+ * An {@link Aggregator} whose aggregation can be split into partial aggregations that are merged afterwards. An
+ * {@link dd.kms.hippodamus.api.coordinator.AggregationCoordinator AggregationCoordinator} with a mergeable aggregator
+ * aggregates the values of its tasks in parallel: Each thread aggregates into one of several partial aggregators,
+ * which are merged into this aggregator when the coordinator is closed and, if the aggregator supports short circuit
+ * evaluation, before short circuit evaluation is checked.<br>
+ * <br>
+ * Aggregating values into several partial aggregators and merging them in any order must yield the same result as
+ * aggregating all values into a single aggregator. Partial aggregators are never accessed by multiple threads
+ * concurrently.
+ */
+public interface MergeableAggregator<S, R> extends Aggregator<S, R>
+{
+	/**
+	 * @return A new aggregator of the same kind that has not aggregated any value yet
+	 */
+	MergeableAggregator<S, R> createPartialAggregator();
+
+	/**
+	 * Merges the values aggregated by {@code partialAggregator} into this aggregator. The partial aggregator has
+	 * been created by {@link #createPartialAggregator()}. Afterwards, it is only used again if its {@link #tryReset()}
+	 * method returns {@code true}.
+	 */
+	void merge(MergeableAggregator<S, R> partialAggregator);
+
+	/**
+	 * Returns whether {@link #hasAggregationCompleted()} may ever return {@code true}. If not, then the partial
+	 * aggregators are only merged into this aggregator when the coordinator is closed, which makes aggregating values
+	 * cheaper. The default implementation returns {@code true}.
+	 */
+	default boolean supportsShortCircuitEvaluation() {
+		return true;
+	}
+
+	/**
+	 * Called for a partial aggregator after it has been merged. If the partial aggregator can be reset to the state
+	 * of a newly created partial aggregator, then it should do so and return {@code true}. It will then be reused
+	 * instead of creating a new partial aggregator. The default implementation returns {@code false}, in which case
+	 * the partial aggregator is not used anymore.
+	 */
+	default boolean tryReset() {
+		return false;
+	}
+}
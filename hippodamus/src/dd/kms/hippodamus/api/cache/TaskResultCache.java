@@ -0,0 +1,64 @@
+package dd.kms.hippodamus.api.cache;
+
+import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
+
+/**
+ * A bounded cache for the results of tasks. Use {@link TaskResultCaches#configureTaskResultCache()} to create an
+ * instance and {@link ExecutionConfigurationBuilder#cacheResult(TaskResultCache, Object)} to let a task use it.<br>
+ * <br>
+ * When a task that uses the cache becomes ready, i.e., when all of its dependencies have completed, then the cache
+ * is queried for the task's key:
+ * <ul>
+ *     <li>
+ *         If the cache contains a value for the key, then the task completes immediately with this value without
+ *         being submitted to its {@link java.util.concurrent.ExecutorService}.
+ *     </li>
+ *     <li>
+ *         If another task with the same key is currently being executed, then the task is attached to that task
+ *         and completes with the same value. This also holds if the other task is managed by another coordinator.
+ *         If the other task fails or is stopped, then the attached task is executed on its own.
+ *     </li>
+ *     <li>
+ *         Otherwise, the task is executed and its result is stored in the cache.
+ *     </li>
+ * </ul>
+ * Exceptions are not cached.<br>
+ * <br>
+ * A cache can be shared by multiple coordinators. This is its main purpose: Avoiding that concurrent coordinators
+ * compute the same expensive results, e.g., by loading the same data.
+ */
+public interface TaskResultCache
+{
+	/**
+	 * @return The number of tasks that have completed with a value found in the cache
+	 */
+	long getNumberOfHits();
+
+	/**
+	 * @return The number of tasks that have been executed because the cache did not contain a value for their key
+	 * 			and no other task with the same key was being executed
+	 */
+	long getNumberOfMisses();
+
+	/**
+	 * @return The number of tasks that have been attached to another task with the same key because that task
+	 * 			was being executed
+	 */
+	long getNumberOfAttachedTasks();
+
+	/**
+	 * @return The number of values that have been evicted because the cache exceeded its bound or because the
+	 * 			values have expired
+	 */
+	long getNumberOfEvictions();
+
+	/**
+	 * @return The approximate number of values in the cache
+	 */
+	long size();
+
+	/**
+	 * Removes all values from the cache. Tasks that are currently executed are not affected.
+	 */
+	void invalidateAll();
+}
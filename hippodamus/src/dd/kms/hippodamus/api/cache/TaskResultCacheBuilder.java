@@ -0,0 +1,40 @@
+package dd.kms.hippodamus.api.cache;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Use this interface to configure a {@link TaskResultCache}. A cache must be bounded either by the number of values
+ * or by their total weight. If the bound is exceeded, then the values that have been used least recently are
+ * evicted first.
+ */
+public interface TaskResultCacheBuilder
+{
+	/**
+	 * Specifies the maximum number of values the cache may contain.
+	 *
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative
+	 */
+	TaskResultCacheBuilder maximumSize(long maximumSize);
+
+	/**
+	 * Specifies the maximum total weight of the values the cache may contain. The weight of a value is determined
+	 * by {@code weigher} when the value is stored. Note that the weigher is also called for {@code null} values.
+	 *
+	 * @throws IllegalArgumentException if {@code maximumWeight} is negative
+	 */
+	TaskResultCacheBuilder maximumWeight(long maximumWeight, ToIntFunction<Object> weigher);
+
+	/**
+	 * Specifies how long a value remains in the cache after it has been stored. By default, values do not expire.
+	 *
+	 * @throws IllegalArgumentException if {@code timeToLive} is not positive
+	 */
+	TaskResultCacheBuilder expireAfterWrite(Duration timeToLive);
+
+	/**
+	 * @throws IllegalStateException if neither a maximum size nor a maximum weight has been specified or if
+	 * both have been specified
+	 */
+	TaskResultCache build();
+}
@@ -0,0 +1,14 @@
+package dd.kms.hippodamus.api.cache;
+
+/**
+ * Utility class for creating {@link TaskResultCache}s.
+ */
+public class TaskResultCaches
+{
+	/**
+	 * Returns a {@link TaskResultCacheBuilder} for configuring and creating a {@link TaskResultCache}.
+	 */
+	public static TaskResultCacheBuilder configureTaskResultCache() {
+		return new dd.kms.hippodamus.impl.cache.TaskResultCacheBuilderImpl();
+	}
+}
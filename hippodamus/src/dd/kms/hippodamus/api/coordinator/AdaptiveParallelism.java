@@ -0,0 +1,41 @@
+package dd.kms.hippodamus.api.coordinator;
+
+import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+
+/**
+ * Limits the number of tasks that are executed in parallel and adjusts this limit based on the execution times
+ * and exceptions of the tasks. Use {@link Coordinators#createAdaptiveParallelism(int, int)} to create an instance
+ * and {@link ExecutionCoordinatorBuilder#adaptiveParallelism(TaskType, AdaptiveParallelism)} to apply it to the tasks
+ * of a certain type.<br>
+ * <br>
+ * The limit follows the AIMD (additive increase, multiplicative decrease) rule known from TCP congestion control:
+ * <ul>
+ *     <li>
+ *         The limit is decreased by a constant factor if a task throws an exception or if its execution time is
+ *         significantly longer than the shortest execution time recently observed. This indicates that the system
+ *         the tasks interact with is overloaded.
+ *     </li>
+ *     <li>
+ *         Otherwise, the limit is increased by 1 after about as many tasks as the current limit have completed,
+ *         provided that the limit is exploited.
+ *     </li>
+ * </ul>
+ * The limit always lies between the minimum and the maximum parallelism specified when creating the instance.<br>
+ * <br>
+ * An instance can be shared by multiple coordinators. In that case, the limit applies to the tasks of all of these
+ * coordinators and it is adjusted based on the tasks of all of them. This is useful if many short-lived coordinators
+ * interact with the same system.
+ */
+public interface AdaptiveParallelism
+{
+	/**
+	 * Returns the current maximum number of tasks that may be executed in parallel.
+	 */
+	int getCurrentLimit();
+
+	/**
+	 * Returns the number of tasks that are currently submitted to their {@link java.util.concurrent.ExecutorService}
+	 * and that have not yet completed.
+	 */
+	int getNumberOfActiveTasks();
+}
@@ -3,9 +3,11 @@ package dd.kms.hippodamus.api.coordinator;
 import dd.kms.hippodamus.api.aggregation.Aggregator;
 import dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder;
 import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.api.coordinator.configuration.ServiceCoordinatorBuilder;
 
 /**
- * Utility class for creating {@link ExecutionCoordinator}s and {@link AggregationCoordinator}s.
+ * Utility class for creating {@link ExecutionCoordinator}s, {@link AggregationCoordinator}s, and
+ * {@link ServiceCoordinator}s.
  */
 public class Coordinators
 {
@@ -37,4 +39,29 @@ public class Coordinators
 	public static <S, T> AggregationCoordinatorBuilder<S, T> configureAggregationCoordinator(Aggregator<S, T> aggregator) {
 		return new dd.kms.hippodamus.impl.coordinator.configuration.AggregationCoordinatorBuilderImpl<>(aggregator);
 	}
+
+	/**
+	 * Creates a {@link ServiceCoordinator} with default settings.
+	 */
+	public static ServiceCoordinator createServiceCoordinator() {
+		return configureServiceCoordinator().build();
+	}
+
+	/**
+	 * Returns a {@link ServiceCoordinatorBuilder} for configuring and creating a {@link ServiceCoordinator}. The
+	 * configuration applies to the service and to all of its scopes.
+	 */
+	public static ServiceCoordinatorBuilder configureServiceCoordinator() {
+		return new dd.kms.hippodamus.impl.coordinator.configuration.ServiceCoordinatorBuilderImpl();
+	}
+
+	/**
+	 * Creates an {@link AdaptiveParallelism} whose limit lies between {@code minParallelism} and {@code maxParallelism}.
+	 * Initially, the limit is {@code minParallelism}.
+	 *
+	 * @throws IllegalArgumentException if {@code minParallelism} is not positive or if it exceeds {@code maxParallelism}.
+	 */
+	public static AdaptiveParallelism createAdaptiveParallelism(int minParallelism, int maxParallelism) {
+		return new dd.kms.hippodamus.impl.execution.AdaptiveParallelismImpl(minParallelism, maxParallelism);
+	}
 }
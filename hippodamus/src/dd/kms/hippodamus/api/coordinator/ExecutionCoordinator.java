@@ -3,6 +3,7 @@ package dd.kms.hippodamus.api.coordinator;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.execution.ExecutionManager;
 import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.CompletionQueue;
 
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
@@ -48,6 +49,12 @@ public interface ExecutionCoordinator extends ExecutionManager, AutoCloseable
 	 */
 	void permitTaskSubmission(boolean permit);
 
+	/**
+	 * Creates a {@link CompletionQueue} that provides the handles added to it in the order in which their tasks
+	 * complete. The queue has to be consumed in this coordinator's thread.
+	 */
+	<V> CompletionQueue<V> createCompletionQueue();
+
 	/**
 	 * Stops all tasks created by this service and all of their dependencies.
 	 */
@@ -0,0 +1,53 @@
+package dd.kms.hippodamus.api.coordinator;
+
+/**
+ * Long-lived {@link ExecutionCoordinator} for services that process a continuous stream of jobs. Every job is
+ * processed in a scope of its own (see {@link #openScope()}). All scopes share the {@link java.util.concurrent.ExecutorService}s
+ * and the parallelism limits of the service, but every scope has its own tasks, exceptions, and stop flag:
+ * <pre>
+ * try (ServiceCoordinator service = Coordinators.createServiceCoordinator()) {
+ *     while (hasNextJob()) {
+ *         Job job = nextJob();
+ *         try (ExecutionCoordinator scope = service.openScope()) {
+ *             // register the job's tasks here: scope.execute(...)
+ *         }
+ *     }
+ * }
+ * </pre>
+ * Scopes may be opened and closed by different threads concurrently. Tasks can also be registered at the service
+ * itself. An exception in such a task stops the service and all of its scopes.
+ */
+public interface ServiceCoordinator extends ExecutionCoordinator
+{
+	/**
+	 * Opens a scope for a job. The scope is an {@link ExecutionCoordinator} that has to be closed like any other
+	 * coordinator: Its {@code close()} method waits until all of its tasks have terminated and throws the exception
+	 * of the first failed task, if any. An exception only stops the tasks of the scope, not the tasks of other scopes
+	 * or of the service. Closing a scope does not shut down any {@link java.util.concurrent.ExecutorService}.<br>
+	 * <br>
+	 * Handles of different scopes must not depend on each other.
+	 *
+	 * @throws IllegalStateException if the service is being closed
+	 */
+	ExecutionCoordinator openScope();
+
+	/**
+	 * Returns the number of scopes that have been opened, but not yet closed.
+	 */
+	int getNumberOfOpenScopes();
+
+	/**
+	 * Stops the tasks of the service and of all open scopes.
+	 */
+	@Override
+	void stop();
+
+	/**
+	 * Drains the service and closes it afterwards: No further scopes can be opened. The method waits until all open
+	 * scopes have been closed and all tasks of the service have terminated. Only then, the
+	 * {@link java.util.concurrent.ExecutorService}s are shut down if required. If the current thread is interrupted
+	 * while waiting, then the service and all of its scopes are stopped.
+	 */
+	@Override
+	void close();
+}
@@ -1,19 +1,26 @@
 package dd.kms.hippodamus.api.coordinator.configuration;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
 import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
 
 /**
  * Builder for an {@link AggregationCoordinator} that allows specifying
  * <ul>
  *     <li>the {@link ExecutorService} for tasks of a certain type,</li>
- *     <li>the maximum parallelism,</li>
+ *     <li>the maximum parallelism per task type and in total, possibly adapting to the execution times,</li>
  *     <li>whether to verify the specified dependencies,</li>
- *     <li>how long the {@code AggregationCoordinator}'s {@code close()} method waits, and</li>
- *     <li>a {@link Logger} and the minimum log level</li>
+ *     <li>whether successors may be executed by the thread that completed their last dependency,</li>
+ *     <li>whether to prefer tasks on the critical path when the maximum parallelism is exceeded,</li>
+ *     <li>a deadline after which the {@code AggregationCoordinator} is stopped,</li>
+ *     <li>the maximum number and the maximum total cost of pending tasks,</li>
+ *     <li>a {@link Logger} and the minimum log level, and</li>
+ *     <li>a {@link TaskEventListener} and the sampling rate of task events</li>
  * </ul>
  */
 public interface AggregationCoordinatorBuilder<S, R> extends ExecutionCoordinatorBuilder
@@ -24,12 +31,42 @@ public interface AggregationCoordinatorBuilder<S, R> extends ExecutionCoordinato
 	@Override
 	AggregationCoordinatorBuilder<S, R> maximumParallelism(TaskType taskType, int maxParallelism);
 
+	@Override
+	AggregationCoordinatorBuilder<S, R> maximumTotalParallelism(int maxParallelism);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> reservedParallelism(TaskType taskType, int reservedParallelism);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> adaptiveParallelism(TaskType taskType, AdaptiveParallelism adaptiveParallelism);
+
 	@Override
 	AggregationCoordinatorBuilder<S, R> logger(Logger logger);
 
+	@Override
+	AggregationCoordinatorBuilder<S, R> eventListener(TaskEventListener eventListener);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> eventSamplingRate(int samplingRate);
+
 	@Override
 	AggregationCoordinatorBuilder<S, R> verifyDependencies(boolean verifyDependencies);
 
+	@Override
+	AggregationCoordinatorBuilder<S, R> continuationHandoff(boolean continuationHandoff);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> criticalPathScheduling(boolean criticalPathScheduling);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> deadline(Duration deadline);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> maximumPendingTasks(int maxPendingTasks);
+
+	@Override
+	AggregationCoordinatorBuilder<S, R> maximumPendingTaskCost(long maxPendingTaskCost);
+
 	@Override
 	AggregationCoordinator<S, R> build();
 }
@@ -1,23 +1,31 @@
 package dd.kms.hippodamus.api.coordinator.configuration;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.exceptions.CoordinatorException;
+import dd.kms.hippodamus.api.exceptions.DeadlineExceededException;
 import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
 
 /**
  * Builder for an {@link ExecutionCoordinator} that allows specifying
  * <ul>
  *     <li>the {@link ExecutorService} for tasks of a certain type,</li>
- *     <li>the maximum parallelism,</li>
+ *     <li>the maximum parallelism per task type and in total, possibly adapting to the execution times,</li>
  *     <li>whether to verify the specified dependencies,</li>
- *     <li>how long the {@code ExecutionCoordinator}'s {@code close()} method waits, and</li>
- *     <li>a {@link Logger} and the minimum log level</li>
+ *     <li>whether successors may be executed by the thread that completed their last dependency,</li>
+ *     <li>whether to prefer tasks on the critical path when the maximum parallelism is exceeded,</li>
+ *     <li>a deadline after which the {@code ExecutionCoordinator} is stopped,</li>
+ *     <li>the maximum number and the maximum total cost of pending tasks,</li>
+ *     <li>a {@link Logger} and the minimum log level, and</li>
+ *     <li>a {@link TaskEventListener} and the sampling rate of task events</li>
  * </ul>
  */
 public interface ExecutionCoordinatorBuilder
@@ -33,8 +41,10 @@ public interface ExecutionCoordinatorBuilder
 	 * @param executorService	The {@code ExecutorService} to be used for the specified type of task.
 	 *                          By default, tasks of type {@code TaskType.COMPUTATIONAL} will be executed on the
 	 *                          common {@link ForkJoinPool}, whereas tasks of type {@code TaskType.BLOCKING} will
-	 *                          be executed on a dedicated single-threaded
-	 *                          {@code ExecutorService}.
+	 *                          be executed on an {@code ExecutorService} that is shared by all coordinators and
+	 *                          that creates threads on demand. Unless a different maximum parallelism is specified
+	 *                          (see {@link #maximumParallelism(TaskType, int)}), a coordinator executes its blocking
+	 *                          tasks on that {@code ExecutorService} sequentially.
 	 * @param shutdownRequired	If set to true, then the specified {@code ExecutorService} will be shut down
 	 *                          when the {@code ExecutionCoordinator} finishes.
 	 */
@@ -69,11 +79,70 @@ public interface ExecutionCoordinatorBuilder
 	 */
 	ExecutionCoordinatorBuilder maximumParallelism(TaskType taskType, int maxParallelism);
 
+	/**
+	 * Specify the maximum number of tasks of all types that are processed by their {@link ExecutorService}s at any
+	 * point in time. By default, this number is not limited. The maximum parallelism of the individual task types
+	 * (see {@link #maximumParallelism(TaskType, int)}) still applies.<br>
+	 * <br>
+	 * Tasks that exceed this limit are queued like tasks that exceed the maximum parallelism of their type. This
+	 * allows limiting the total load of a coordinator, e.g., to the CPU quota of a container, without having to
+	 * model it as {@link dd.kms.hippodamus.api.resources.Resource}. The same remarks regarding deadlocks apply
+	 * as for {@code maximumParallelism(TaskType, int)}.
+	 *
+	 * @throws IllegalArgumentException if {@code maxParallelism} is not positive.
+	 */
+	ExecutionCoordinatorBuilder maximumTotalParallelism(int maxParallelism);
+
+	/**
+	 * Reserves a part of the maximum total parallelism (see {@link #maximumTotalParallelism(int)}) for tasks of a
+	 * certain type. Tasks of other types cannot use reserved slots, even if they are not used. The slots that are not
+	 * reserved for any type are shared by all task types. By default, no slots are reserved.<br>
+	 * <br>
+	 * Reservations ensure that tasks of one type cannot occupy the whole budget, e.g., that blocking tasks can still be
+	 * executed while many computational tasks are waiting.
+	 *
+	 * @throws IllegalArgumentException if {@code reservedParallelism} is negative.
+	 * @throws IllegalStateException when building the coordinator if parallelism is reserved without specifying a
+	 * maximum total parallelism or if the reservations exceed it.
+	 */
+	ExecutionCoordinatorBuilder reservedParallelism(TaskType taskType, int reservedParallelism);
+
+	/**
+	 * Limits the number of tasks of a certain type that are processed by their {@link ExecutorService} at any point
+	 * in time by a limit that adapts to the execution times and exceptions of the tasks (see {@link AdaptiveParallelism}).
+	 * This is useful for blocking tasks that access a system whose capacity is unknown or varies with its load.<br>
+	 * <br>
+	 * If no maximum parallelism is specified for this task type (see {@link #maximumParallelism(TaskType, int)}), then
+	 * the adaptive limit is the only limit for this task type. In particular, blocking tasks are not executed
+	 * sequentially by default in this case. The same {@code AdaptiveParallelism} may be used for multiple task
+	 * types and coordinators. Then the limit applies to all of their tasks.
+	 *
+	 * @throws IllegalArgumentException if {@code adaptiveParallelism} has not been created by
+	 * {@link dd.kms.hippodamus.api.coordinator.Coordinators#createAdaptiveParallelism(int, int)}.
+	 */
+	ExecutionCoordinatorBuilder adaptiveParallelism(TaskType taskType, AdaptiveParallelism adaptiveParallelism);
+
 	/**
 	 * Specifies the logger that is used to log received messages. If not specified, then nothing will be logged.
 	 */
 	ExecutionCoordinatorBuilder logger(Logger logger);
 
+	/**
+	 * Specifies a listener that is informed about typed task events. The listener is informed in addition to the
+	 * logger. If neither a logger nor an event listener is specified, then the coordinator does not collect any
+	 * events at all.
+	 */
+	ExecutionCoordinatorBuilder eventListener(TaskEventListener eventListener);
+
+	/**
+	 * Specifies that only the events of every {@code samplingRate}-th task are reported to the logger and to the event
+	 * listener. This reduces the overhead of logging in production while still giving insight into the tasks.
+	 * Internal errors are always reported. This value defaults to 1, i.e., the events of all tasks are reported.
+	 *
+	 * @throws IllegalArgumentException if {@code samplingRate} is not positive.
+	 */
+	ExecutionCoordinatorBuilder eventSamplingRate(int samplingRate);
+
 	/**
 	 * Specifies whether accessing values of tasks that have not yet completed results in an exception. This
 	 * value defaults to false.<br>
@@ -90,5 +159,84 @@ public interface ExecutionCoordinatorBuilder
 	 */
 	ExecutionCoordinatorBuilder verifyDependencies(boolean verifyDependencies);
 
+	/**
+	 * Specifies whether a thread that completes a task may directly execute one of the task's successors instead of
+	 * submitting it to the {@link ExecutorService}. This value defaults to false.<br>
+	 * <br>
+	 * When a task completes, all of its successors whose dependencies have completed become executable. Usually,
+	 * they are submitted to their {@code ExecutorService}. If continuation handoff is enabled, then one of these
+	 * successors is executed by the thread that completed the task, provided that it has the same {@link TaskType}.
+	 * This avoids the round trip through the {@code ExecutorService} and keeps the data of the completed task in the
+	 * thread's cache. This is particularly beneficial for long chains of short tasks.<br>
+	 * <br>
+	 * The successor takes over the completed task's share of the maximum parallelism. It does not bypass tasks that
+	 * are waiting for a free slot. Required resources are acquired as usual.
+	 */
+	ExecutionCoordinatorBuilder continuationHandoff(boolean continuationHandoff);
+
+	/**
+	 * Specifies in which order tasks are submitted that have to wait because the maximum parallelism of their
+	 * {@link TaskType} has been reached. This value defaults to false.<br>
+	 * <br>
+	 * By default, waiting tasks are submitted in the order they have been registered. If critical path scheduling
+	 * is enabled, then the task with the longest remaining critical path is submitted first. This is the maximum
+	 * total cost (see {@link ExecutionConfigurationBuilder#cost(long)}) of any chain of dependent tasks that starts
+	 * with this task. Tasks that many other tasks transitively depend on are preferred to cheap tasks no other task
+	 * depends on, which usually reduces the time required for executing all tasks.<br>
+	 * <br>
+	 * The remaining critical path of a task can only consider tasks that have been registered before the task
+	 * has to wait. Hence, it is recommended to register all tasks with task submission being disabled (see
+	 * {@link ExecutionCoordinator#permitTaskSubmission(boolean)}).<br>
+	 * <br>
+	 * Note that critical path scheduling relies on all dependencies being specified. If tasks wait for tasks they
+	 * have not declared as dependencies, then this order can lead to deadlocks that are avoided by the default order.
+	 */
+	ExecutionCoordinatorBuilder criticalPathScheduling(boolean criticalPathScheduling);
+
+	/**
+	 * Specifies how long the coordinator may process its tasks, measured from the creation of the coordinator.
+	 * If not all tasks have terminated when this time has elapsed, then the coordinator is stopped (see
+	 * {@link ExecutionCoordinator#stop()}) and its {@code close()} method throws a {@link DeadlineExceededException}.
+	 * By default, a coordinator has no deadline.<br>
+	 * <br>
+	 * Stopping the coordinator interrupts the executing tasks. The {@code close()} method still waits until they have
+	 * terminated. Hence, tasks must react to interrupts to ensure that {@code close()} returns promptly after the
+	 * deadline.<br>
+	 * <br>
+	 * Use {@link ExecutionConfigurationBuilder#deadline(Duration)} to limit the execution time of individual tasks.
+	 *
+	 * @throws IllegalArgumentException if {@code deadline} is not positive
+	 */
+	ExecutionCoordinatorBuilder deadline(Duration deadline);
+
+	/**
+	 * Limits the number of pending tasks, i.e., tasks that have been registered, but have not yet terminated. If
+	 * this limit is reached, then registering a further task blocks until a pending task terminates. This allows
+	 * generating a huge number of tasks without keeping all of them in memory. By default, the number of pending
+	 * tasks is not limited.<br>
+	 * <br>
+	 * The registration does not block while task submission is not permitted (see
+	 * {@link ExecutionCoordinator#permitTaskSubmission(boolean)}) or after the coordinator has been stopped.
+	 * {@link ExecutionCoordinator#executeAll(java.util.Collection)} only waits for the capacity of a single task
+	 * and then registers all tasks. Hence, it may exceed the limit.<br>
+	 * <br>
+	 * The registration does not block either if a task of this coordinator registers further tasks at it because
+	 * the registering task is pending itself. Otherwise, all pending tasks could wait for capacity and none of
+	 * them would ever terminate. Hence, tasks that register subtasks may exceed the limit as well.
+	 *
+	 * @throws IllegalArgumentException if {@code maxPendingTasks} is not positive
+	 */
+	ExecutionCoordinatorBuilder maximumPendingTasks(int maxPendingTasks);
+
+	/**
+	 * Limits the total cost (see {@link ExecutionConfigurationBuilder#cost(long)}) of pending tasks. Registering a
+	 * task blocks until its cost and the cost of all pending tasks do not exceed this limit. A task whose cost
+	 * exceeds the limit is accepted when there are no pending tasks. Otherwise, this behaves like
+	 * {@link #maximumPendingTasks(int)}. By default, the total cost of pending tasks is not limited.
+	 *
+	 * @throws IllegalArgumentException if {@code maxPendingTaskCost} is not positive
+	 */
+	ExecutionCoordinatorBuilder maximumPendingTaskCost(long maxPendingTaskCost);
+
 	ExecutionCoordinator build();
 }
@@ -0,0 +1,73 @@
+package dd.kms.hippodamus.api.coordinator.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
+import dd.kms.hippodamus.api.coordinator.ServiceCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+
+/**
+ * Builder for a {@link ServiceCoordinator} that allows specifying
+ * <ul>
+ *     <li>the {@link ExecutorService} for tasks of a certain type,</li>
+ *     <li>the maximum parallelism per task type and in total, possibly adapting to the execution times,</li>
+ *     <li>whether to verify the specified dependencies,</li>
+ *     <li>whether successors may be executed by the thread that completed their last dependency,</li>
+ *     <li>whether to prefer tasks on the critical path when the maximum parallelism is exceeded,</li>
+ *     <li>a deadline after which the {@code ServiceCoordinator} and all of its scopes are stopped,</li>
+ *     <li>the maximum number and the maximum total cost of pending tasks of the service and of every scope,</li>
+ *     <li>a {@link Logger} and the minimum log level, and</li>
+ *     <li>a {@link TaskEventListener} and the sampling rate of task events</li>
+ * </ul>
+ * The settings apply to the service and to all of its scopes.
+ */
+public interface ServiceCoordinatorBuilder extends ExecutionCoordinatorBuilder
+{
+	@Override
+	ServiceCoordinatorBuilder executorService(TaskType taskType, ExecutorService executorService, boolean shutdownRequired);
+
+	@Override
+	ServiceCoordinatorBuilder maximumParallelism(TaskType taskType, int maxParallelism);
+
+	@Override
+	ServiceCoordinatorBuilder maximumTotalParallelism(int maxParallelism);
+
+	@Override
+	ServiceCoordinatorBuilder reservedParallelism(TaskType taskType, int reservedParallelism);
+
+	@Override
+	ServiceCoordinatorBuilder adaptiveParallelism(TaskType taskType, AdaptiveParallelism adaptiveParallelism);
+
+	@Override
+	ServiceCoordinatorBuilder logger(Logger logger);
+
+	@Override
+	ServiceCoordinatorBuilder eventListener(TaskEventListener eventListener);
+
+	@Override
+	ServiceCoordinatorBuilder eventSamplingRate(int samplingRate);
+
+	@Override
+	ServiceCoordinatorBuilder verifyDependencies(boolean verifyDependencies);
+
+	@Override
+	ServiceCoordinatorBuilder continuationHandoff(boolean continuationHandoff);
+
+	@Override
+	ServiceCoordinatorBuilder criticalPathScheduling(boolean criticalPathScheduling);
+
+	@Override
+	ServiceCoordinatorBuilder deadline(Duration deadline);
+
+	@Override
+	ServiceCoordinatorBuilder maximumPendingTasks(int maxPendingTasks);
+
+	@Override
+	ServiceCoordinatorBuilder maximumPendingTaskCost(long maxPendingTaskCost);
+
+	@Override
+	ServiceCoordinator build();
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutorService;
  *         {@link dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder#logger(dd.kms.hippodamus.api.logging.Logger)}
  *     </li>
  *     <li>The underlying {@link ExecutorService} throws an exception when a task is submitted to it.</li>
+ *     <li>A task or the coordinator has exceeded its deadline (see {@link DeadlineExceededException}).</li>
  * </ul>
  */
 public class CoordinatorException extends RuntimeException
@@ -0,0 +1,17 @@
+package dd.kms.hippodamus.api.exceptions;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown by {@link dd.kms.hippodamus.api.coordinator.ExecutionCoordinator#close()} if a task has
+ * exceeded its deadline (see {@link dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder#deadline(Duration)})
+ * or if the coordinator has exceeded its deadline (see
+ * {@link dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder#deadline(Duration)}). In both
+ * cases, the coordinator has been stopped when the deadline expired.
+ */
+public class DeadlineExceededException extends CoordinatorException
+{
+	public DeadlineExceededException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,11 @@
+package dd.kms.hippodamus.api.exceptions;
+
+/**
+ * Same as {@link ExceptionalCallable}, but {@link #call()} returns a primitive {@code double}. The generic
+ * parameter specifies which type of exception may be thrown.
+ */
+@FunctionalInterface
+public interface ExceptionalDoubleCallable<T extends Throwable>
+{
+	double call() throws T;
+}
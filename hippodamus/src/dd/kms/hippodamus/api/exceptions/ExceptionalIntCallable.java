@@ -0,0 +1,11 @@
+package dd.kms.hippodamus.api.exceptions;
+
+/**
+ * Same as {@link ExceptionalCallable}, but {@link #call()} returns a primitive {@code int}. The generic
+ * parameter specifies which type of exception may be thrown.
+ */
+@FunctionalInterface
+public interface ExceptionalIntCallable<T extends Throwable>
+{
+	int call() throws T;
+}
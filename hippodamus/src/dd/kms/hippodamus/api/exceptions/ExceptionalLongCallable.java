@@ -0,0 +1,11 @@
+package dd.kms.hippodamus.api.exceptions;
+
+/**
+ * Same as {@link ExceptionalCallable}, but {@link #call()} returns a primitive {@code long}. The generic
+ * parameter specifies which type of exception may be thrown.
+ */
+@FunctionalInterface
+public interface ExceptionalLongCallable<T extends Throwable>
+{
+	long call() throws T;
+}
@@ -1,6 +1,15 @@
 package dd.kms.hippodamus.api.execution;
 
+import dd.kms.hippodamus.api.aggregation.DoubleAggregator;
+import dd.kms.hippodamus.api.aggregation.IntAggregator;
+import dd.kms.hippodamus.api.aggregation.LongAggregator;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
+import dd.kms.hippodamus.api.handles.DoubleResultHandle;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 
 /**
@@ -21,4 +30,34 @@ public interface AggregationManager<S> extends ExecutionManager
 	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
 	 */
 	<T extends Throwable> ResultHandle<S> aggregate(ExceptionalCallable<S, T> callable) throws T;
+
+	/**
+	 * Same as {@link #aggregate(ExceptionalCallable)}, but for callables that return a primitive {@code int}. Neither
+	 * the result of the task nor the aggregated value are boxed. This requires the aggregator of the coordinator to
+	 * be an {@link IntAggregator} that is not a {@link dd.kms.hippodamus.api.aggregation.MergeableAggregator}.
+	 *
+	 * @throws IllegalStateException if the aggregator of the coordinator does not satisfy the requirements
+	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
+	 */
+	<T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable) throws T;
+
+	/**
+	 * Same as {@link #aggregate(ExceptionalCallable)}, but for callables that return a primitive {@code long}. Neither
+	 * the result of the task nor the aggregated value are boxed. This requires the aggregator of the coordinator to
+	 * be a {@link LongAggregator} that is not a {@link dd.kms.hippodamus.api.aggregation.MergeableAggregator}.
+	 *
+	 * @throws IllegalStateException if the aggregator of the coordinator does not satisfy the requirements
+	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
+	 */
+	<T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable) throws T;
+
+	/**
+	 * Same as {@link #aggregate(ExceptionalCallable)}, but for callables that return a primitive {@code double}. Neither
+	 * the result of the task nor the aggregated value are boxed. This requires the aggregator of the coordinator to
+	 * be a {@link DoubleAggregator} that is not a {@link dd.kms.hippodamus.api.aggregation.MergeableAggregator}.
+	 *
+	 * @throws IllegalStateException if the aggregator of the coordinator does not satisfy the requirements
+	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
+	 */
+	<T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable) throws T;
 }
@@ -4,6 +4,9 @@ import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
+
+import java.util.Collection;
 
 /**
  * This interface provides methods to execute tasks. You will usually implement against the subinterfaces
@@ -28,4 +31,19 @@ public interface ExecutionManager
 	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
 	 */
 	<V, T extends Throwable> ResultHandle<V> execute(ExceptionalCallable<V, T> callable) throws T;
+
+	/**
+	 * Executes all {@link ExceptionalCallable}s and returns a group of handles to the resulting tasks. The tasks
+	 * share the same configuration. This is equivalent to calling {@link #execute(ExceptionalCallable)} for every
+	 * callable, but the tasks are registered in one pass and the tasks that are ready for execution are handed to
+	 * the {@link java.util.concurrent.ExecutorService} in one batch. Hence, this method should be preferred when
+	 * many similar tasks are executed at once.<br>
+	 * <br>
+	 * The tasks will be enumerated in the order of the callables. If a consumer has been specified via
+	 * {@link dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder#onHandleCreation(java.util.function.Consumer)},
+	 * then it will be called for every handle in that order.
+	 *
+	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
+	 */
+	<V, T extends Throwable> ResultHandleGroup<V> executeAll(Collection<? extends ExceptionalCallable<V, T>> callables) throws T;
 }
@@ -1,10 +1,12 @@
 package dd.kms.hippodamus.api.execution.configuration;
 
+import dd.kms.hippodamus.api.cache.TaskResultCache;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.execution.AggregationManager;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.resources.Resource;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -29,6 +31,21 @@ public interface AggregationConfigurationBuilder<S, R> extends ExecutionConfigur
 	@Override
 	AggregationConfigurationBuilder<S, R> dependencies(Collection<? extends Handle> dependencies);
 
+	@Override
+	AggregationConfigurationBuilder<S, R> cost(long cost);
+
+	@Override
+	AggregationConfigurationBuilder<S, R> deadline(Duration deadline);
+
+	@Override
+	AggregationConfigurationBuilder<S, R> hedgeAfter(Duration delay);
+
+	@Override
+	AggregationConfigurationBuilder<S, R> hedgeAfterPercentile(double percentile);
+
+	@Override
+	AggregationConfigurationBuilder<S, R> cacheResult(TaskResultCache cache, Object key);
+
 	@Override
 	<T> AggregationConfigurationBuilder<S, R> requiredResource(Resource<T> resource, Supplier<T> resourceShareSupplier);
 
@@ -1,14 +1,18 @@
 package dd.kms.hippodamus.api.execution.configuration;
 
+import dd.kms.hippodamus.api.cache.TaskResultCache;
+import dd.kms.hippodamus.api.cache.TaskResultCaches;
 import dd.kms.hippodamus.api.coordinator.Coordinators;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
+import dd.kms.hippodamus.api.exceptions.DeadlineExceededException;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.execution.ExecutionManager;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.resources.Resource;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -18,8 +22,12 @@ import java.util.function.Supplier;
  * Use this interface to specify information about a task and how it will be executed. You can specify
  * <ul>
  *     <li>the task's name,</li>
- *     <li>the task's type, and</li>
- *     <li>other tasks this task depends on and which have to be executed before this task.</li>
+ *     <li>the task's type,</li>
+ *     <li>other tasks this task depends on and which have to be executed before this task,</li>
+ *     <li>the task's estimated cost,</li>
+ *     <li>the task's deadline,</li>
+ *     <li>whether to launch a duplicate of the task if it takes too long, and</li>
+ *     <li>a cache for the task's result.</li>
  * </ul>
  * Call {@link dd.kms.hippodamus.api.coordinator.ExecutionCoordinator#configure()} to create
  * this builder for a task.
@@ -28,7 +36,8 @@ public interface ExecutionConfigurationBuilder extends ExecutionManager
 {
 	/**
 	 * Specify a name for the task. This is particularly helpful for debugging. If you do not
-	 * specify a name, then the tasks will simply be enumerated (Task 1, Task 2, ...).
+	 * specify a name, then the tasks will simply be enumerated (Task 1, Task 2, ...). If a task of the same
+	 * coordinator that has not yet terminated already has this name, then a suffix (" (2)", " (3)", ...) is appended.
 	 */
 	ExecutionConfigurationBuilder name(String name);
 
@@ -60,6 +69,78 @@ public interface ExecutionConfigurationBuilder extends ExecutionManager
 	 */
 	ExecutionConfigurationBuilder dependencies(Collection<? extends Handle> dependencies);
 
+	/**
+	 * Specifies the estimated cost of the task, e.g., its expected execution time in milliseconds. Only the ratios
+	 * between the costs of different tasks are relevant. If you do not specify a cost, then it defaults to 1.<br>
+	 * <br>
+	 * The cost is only considered if critical path scheduling is enabled (see
+	 * {@link ExecutionCoordinatorBuilder#criticalPathScheduling(boolean)}).
+	 *
+	 * @throws IllegalArgumentException if {@code cost} is not positive
+	 */
+	ExecutionConfigurationBuilder cost(long cost);
+
+	/**
+	 * Specifies how long the task may execute. If the task is still executing when this time has elapsed since its
+	 * execution started, then the coordinator is stopped and its {@code close()} method throws a
+	 * {@link DeadlineExceededException}. Stopping the coordinator interrupts the executing tasks, so the task must
+	 * react to interrupts to be stopped promptly. By default, a task has no deadline.<br>
+	 * <br>
+	 * Note that an exceeded deadline affects the whole coordinator and not only the task: All other tasks are stopped
+	 * as well, just like when a task throws an exception. The reason is that a task that has exceeded its deadline
+	 * does not provide a value. Hence, the tasks that depend on it could never be executed.<br>
+	 * <br>
+	 * The time a task waits for its dependencies or for being executed is not considered. Use
+	 * {@link ExecutionCoordinatorBuilder#deadline(Duration)} to bound the time of all tasks including waiting times.
+	 *
+	 * @throws IllegalArgumentException if {@code deadline} is not positive
+	 */
+	ExecutionConfigurationBuilder deadline(Duration deadline);
+
+	/**
+	 * Specifies that a duplicate of the task is launched if the task is still executing after {@code delay}. The
+	 * attempt that finishes first determines the outcome of the task and the other attempt is interrupted. This is
+	 * known as hedging and reduces the tail latency of tasks whose execution times vary strongly, e.g., because they
+	 * call a remote service. Dependent tasks and listeners only see the outcome of the winning attempt.
+	 * {@link Handle#getWinningAttempt()} tells which attempt has won.<br>
+	 * <br>
+	 * Hedging requires the task to be idempotent because both attempts may have side effects. The duplicate is
+	 * executed by the same {@link ExecutorService} as the task. Like the task, it requires a slot of the maximum
+	 * parallelism of the task's type and its own share of the task's resources. If they are not available when the
+	 * delay has elapsed, then no duplicate is launched. By default, tasks are not hedged.
+	 *
+	 * @throws IllegalArgumentException if {@code delay} is negative
+	 */
+	ExecutionConfigurationBuilder hedgeAfter(Duration delay);
+
+	/**
+	 * Like {@link #hedgeAfter(Duration)}, but the delay is the specified percentile of the execution times of the
+	 * sibling tasks. These are the tasks that have been registered via the same builder, e.g., via
+	 * {@link #executeAll(Collection)}. Only the last 100 successful siblings are considered. Until 10 siblings have
+	 * completed, the delay specified via {@code hedgeAfter(Duration)} is used if specified. Otherwise, no duplicate
+	 * is launched.
+	 *
+	 * @param percentile	A value in (0, 100], e.g., 95 for launching a duplicate if the task takes longer than 95 %
+	 *                      of its siblings
+	 *
+	 * @throws IllegalArgumentException if {@code percentile} is not in (0, 100]
+	 */
+	ExecutionConfigurationBuilder hedgeAfterPercentile(double percentile);
+
+	/**
+	 * Specifies that the task's result is looked up in and stored in {@code cache} under {@code key}. If the cache
+	 * contains a value for the key when the task becomes ready, then the task completes with that value without
+	 * being executed. If another task with the same key is being executed at that time, possibly by another
+	 * coordinator, then the task completes with the value of that task. See {@link TaskResultCache} for details.<br>
+	 * <br>
+	 * All tasks that use the same key must compute the same value. In particular, the values must have the same
+	 * type. The key must implement {@link Object#equals(Object)} and {@link Object#hashCode()} consistently. By
+	 * default, tasks do not use a cache.
+	 *
+	 * @throws IllegalArgumentException if {@code cache} has not been created via {@link TaskResultCaches}
+	 */
+	ExecutionConfigurationBuilder cacheResult(TaskResultCache cache, Object key);
+
 	/**
 	 * Specifies a resource the task requires and what/how much of it it requires. If the underlying {@link ExecutorService}
 	 * schedules the task for execution, but the required resource is currently not available, then the resource
@@ -0,0 +1,61 @@
+package dd.kms.hippodamus.api.handles;
+
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A {@code CompletionQueue} provides the {@link ResultHandle}s that have been added to it in the order in which
+ * their tasks complete. This allows processing the values of the tasks that have already completed while other
+ * tasks are still running instead of waiting for the tasks in the order in which they have been registered:
+ * <pre>
+ * try (ExecutionCoordinator coordinator = Coordinators.createExecutionCoordinator()) {
+ *     CompletionQueue&lt;Integer&gt; queue = coordinator.createCompletionQueue();
+ *     for (int i = 0; i &lt; 10; i++) {
+ *         int index = i;
+ *         queue.add(coordinator.execute(() -&gt; compute(index)));
+ *     }
+ *     while (queue.hasNext()) {
+ *         process(queue.take().get());
+ *     }
+ * }
+ * </pre>
+ * Only handles of tasks that complete regularly are provided. If a task throws an exception, then the coordinator
+ * is stopped and the remaining tasks will not complete anymore. In that case, {@link #take()} throws the exception
+ * instead of waiting forever. Hence, a completion queue must be consumed in the {@link ExecutionCoordinator}'s
+ * thread. It must not be consumed by multiple threads concurrently.
+ */
+public interface CompletionQueue<V>
+{
+	/**
+	 * Adds a handle to this queue. The handle will be provided by {@link #take()} or {@link #poll()} when its task
+	 * has completed. If the task has already completed, then the handle is provided immediately.
+	 *
+	 * @throws IllegalArgumentException if the handle has not been created by the coordinator of this queue
+	 */
+	void add(ResultHandle<V> handle);
+
+	/**
+	 * @return {@code true} iff not all handles that have been added to this queue have been taken yet
+	 */
+	boolean hasNext();
+
+	/**
+	 * @return the handle of a task that has completed and that has not yet been taken or {@code null} if there is no
+	 * such handle. This method never waits.
+	 */
+	@Nullable ResultHandle<V> poll();
+
+	/**
+	 * Returns the handle of a task that has completed and that has not yet been taken. If there is no such handle,
+	 * then this method waits until the next task whose handle has been added to this queue completes.
+	 *
+	 * @throws NoSuchElementException if all handles that have been added to this queue have already been taken
+	 * @throws CancellationException if the coordinator has been stopped and no further task will complete. If the
+	 * coordinator has been stopped because of an exception, then this exception is thrown instead (see
+	 * {@link ExecutionCoordinator#checkException()}).
+	 */
+	ResultHandle<V> take() throws NoSuchElementException, CancellationException;
+}
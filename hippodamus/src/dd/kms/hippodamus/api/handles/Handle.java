@@ -33,6 +33,14 @@ public interface Handle
 	 */
 	String getTaskName();
 
+	/**
+	 * @return the attempt whose outcome is the outcome of the task: 0 for the original execution of the task and
+	 * 			1 for the duplicate execution that has been launched because the original execution took too long
+	 * 			(see {@link ExecutionConfigurationBuilder#hedgeAfter(java.time.Duration)}). This is always 0 for tasks
+	 * 			that are not hedged or that have not yet finished.
+	 */
+	int getWinningAttempt();
+
 	/**
 	 * @return The {@link ExecutionCoordinator} this handle was created by.
 	 */
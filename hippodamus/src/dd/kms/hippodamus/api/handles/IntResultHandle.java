@@ -0,0 +1,23 @@
+package dd.kms.hippodamus.api.handles;
+
+import dd.kms.hippodamus.api.exceptions.CoordinatorException;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Same as {@link ResultHandle}, but for tasks that return a primitive {@code int}. The result is stored
+ * without boxing it.
+ */
+public interface IntResultHandle extends Handle
+{
+	/**
+	 * Returns the value of the callable associated with that handle. The behavior is the same as for
+	 * {@link ResultHandle#get()}.
+	 *
+	 * @throws CoordinatorException if dependency verification is activated and the task has not yet terminated
+	 * @throws CompletionException if the task has terminated exceptionally.
+	 * @throws CancellationException if the task has been stopped and has not terminated yet
+	 */
+	int getAsInt() throws CoordinatorException, CompletionException, CancellationException;
+}
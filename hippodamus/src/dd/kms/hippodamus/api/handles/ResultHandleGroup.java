@@ -0,0 +1,47 @@
+package dd.kms.hippodamus.api.handles;
+
+import dd.kms.hippodamus.api.execution.ExecutionManager;
+import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@code ResultHandleGroup} contains the {@link ResultHandle}s of tasks that have been registered together via
+ * {@link ExecutionManager#executeAll(Collection)}. The handles are in the same order as the callables they have
+ * been created for.
+ */
+public interface ResultHandleGroup<V> extends Iterable<ResultHandle<V>>
+{
+	/**
+	 * @return the number of handles in this group
+	 */
+	int size();
+
+	/**
+	 * @return the handle of the task that has been created for the {@code index}-th callable
+	 */
+	ResultHandle<V> getHandle(int index);
+
+	/**
+	 * @return an unmodifiable list of all handles in this group. This list can, e.g., be used to specify
+	 * the handles as dependencies of other tasks (see {@link ExecutionConfigurationBuilder#dependencies(Collection)}).
+	 */
+	List<ResultHandle<V>> getHandles();
+
+	/**
+	 * @return {@code true} iff all tasks of this group have already been processed
+	 */
+	boolean hasCompleted();
+
+	/**
+	 * Returns the values of all tasks of this group in the order of the handles by calling {@link ResultHandle#get()}
+	 * for each handle.
+	 *
+	 * @throws CompletionException if one of the tasks has terminated exceptionally.
+	 * @throws CancellationException if one of the tasks has been stopped and has not terminated yet
+	 */
+	List<V> getResults() throws CompletionException, CancellationException;
+}
@@ -0,0 +1,25 @@
+package dd.kms.hippodamus.api.logging;
+
+/**
+ * A {@link Logger} that forwards messages to another logger in a dedicated thread. Callers only put the messages
+ * into a bounded buffer and do not wait for the other logger unless the buffer is full and the
+ * {@link OverflowPolicy} demands it.<br>
+ * <br>
+ * The messages are forwarded in the order they have been buffered. In particular, the state changes of each
+ * handle are forwarded in the order they happened. If the other logger throws an exception, then this exception
+ * is rethrown by all subsequent calls of this logger. This allows the coordinator to handle the exception like an
+ * exception of a synchronous logger.<br>
+ * <br>
+ * An asynchronous logger may be shared by multiple coordinators. It has to be closed when it is not used anymore.
+ * Closing it waits until all buffered messages have been forwarded.
+ */
+public interface AsynchronousLogger extends Logger, AutoCloseable
+{
+	/**
+	 * @return The number of messages that have been dropped according to the {@link OverflowPolicy}
+	 */
+	long getNumberOfDroppedMessages();
+
+	@Override
+	void close();
+}
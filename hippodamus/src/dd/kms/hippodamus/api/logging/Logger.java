@@ -17,4 +17,12 @@ public interface Logger
 	void logStateChange(Handle handle, TaskStage taskStage);
 
 	void logError(@Nullable Handle handle, String error, @Nullable Throwable cause);
+
+	/**
+	 * Called when a coordinator is closed after all of its tasks have terminated. Loggers that process messages
+	 * asynchronously (see {@link AsynchronousLogger}) should wait until all messages have been processed.
+	 */
+	default void flush() {
+		/* do nothing */
+	}
 }
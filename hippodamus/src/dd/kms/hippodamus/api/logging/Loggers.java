@@ -0,0 +1,20 @@
+package dd.kms.hippodamus.api.logging;
+
+/**
+ * Utility class for creating {@link Logger}s.
+ */
+public class Loggers
+{
+	/**
+	 * Creates an {@link AsynchronousLogger} that forwards all messages to {@code logger} in a dedicated thread.
+	 *
+	 * @param logger			The logger the messages are forwarded to.
+	 * @param bufferCapacity	The maximum number of messages that are buffered.
+	 * @param overflowPolicy	Describes how to deal with messages when the buffer is full.
+	 *
+	 * @throws IllegalArgumentException if {@code bufferCapacity} is not positive.
+	 */
+	public static AsynchronousLogger createAsynchronousLogger(Logger logger, int bufferCapacity, OverflowPolicy overflowPolicy) {
+		return new dd.kms.hippodamus.impl.logging.AsynchronousLoggerImpl(logger, bufferCapacity, overflowPolicy);
+	}
+}
@@ -0,0 +1,26 @@
+package dd.kms.hippodamus.api.logging;
+
+/**
+ * Describes how an {@link AsynchronousLogger} deals with messages when its buffer is full. Errors are never
+ * dropped: If the buffer is full, then the caller always waits until an error can be buffered.
+ */
+public enum OverflowPolicy
+{
+	/**
+	 * Messages that do not fit into the buffer are dropped. Callers never wait.
+	 */
+	DROP,
+
+	/**
+	 * Callers wait until the message fits into the buffer. No message is lost, but callers are slowed down
+	 * to the speed of the underlying logger when the buffer is full.
+	 */
+	BLOCK,
+
+	/**
+	 * When the buffer is more than half full, only every second message is buffered. Messages that do not fit
+	 * into the buffer are dropped. Callers never wait. This policy gives the underlying logger the chance to
+	 * catch up while still providing insight into what is happening.
+	 */
+	SAMPLE
+}
@@ -0,0 +1,49 @@
+package dd.kms.hippodamus.api.logging;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+
+/**
+ * Implement your own {@code TaskEventListener} class and register an instance of it via
+ * {@link dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder#eventListener(TaskEventListener)}
+ * to get informed about events of the tasks managed by a coordinator.<br>
+ * <br>
+ * Unlike a {@link Logger}, a {@code TaskEventListener} receives the events as typed arguments. The coordinator does not
+ * format any message, so listeners that do not need text do not pay for it. If no listener is specified, then the
+ * coordinator does not collect any events at all.<br>
+ * <br>
+ * Like loggers, event listeners are not required to be thread-safe: The coordinator serializes all calls. If a listener
+ * throws an exception, then the coordinator will not call it anymore and throws a
+ * {@link dd.kms.hippodamus.api.exceptions.CoordinatorException} instead.
+ */
+public interface TaskEventListener
+{
+	void onStageChange(Handle handle, TaskStage taskStage);
+
+	/**
+	 * Called when a task has completed regularly. This method is not called for tasks whose result
+	 * is ignored, e.g., for tasks that have been specified as {@link dd.kms.hippodamus.api.exceptions.ExceptionalRunnable}.
+	 */
+	void onResult(Handle handle, @Nullable Object result);
+
+	/**
+	 * Called when a task has thrown an exception.
+	 */
+	void onException(Handle handle, Throwable exception);
+
+	/**
+	 * Called when an internal error occurs. Internal errors are always reported, independent of the sampling rate
+	 * (see {@link dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder#eventSamplingRate(int)}).
+	 */
+	void onError(@Nullable Handle handle, String error, @Nullable Throwable cause);
+
+	/**
+	 * Called when a coordinator is closed after all of its tasks have terminated. Listeners that process events
+	 * asynchronously should wait until all events have been processed.
+	 */
+	default void flush() {
+		/* do nothing */
+	}
+}
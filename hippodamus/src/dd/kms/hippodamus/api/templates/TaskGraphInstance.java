@@ -0,0 +1,30 @@
+package dd.kms.hippodamus.api.templates;
+
+import dd.kms.hippodamus.api.handles.ResultHandle;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The tasks that have been registered when instantiating a {@link TaskGraphTemplate}.
+ */
+public interface TaskGraphInstance
+{
+	/**
+	 * Returns the handle of the task that has been created for the specified task template.<br>
+	 * <br>
+	 * Note that a task of the template may only access the handles of its dependencies because handles
+	 * of other tasks might not have been created yet.
+	 *
+	 * @throws IllegalArgumentException if the task template does not belong to the instantiated template
+	 */
+	<V> ResultHandle<V> getHandle(TaskTemplate<V> task);
+
+	/**
+	 * Returns the value of the task that has been created for the specified task template. This is a shortcut
+	 * for {@code getHandle(task).get()}.
+	 *
+	 * @see ResultHandle#get()
+	 */
+	<V> V get(TaskTemplate<V> task) throws CompletionException, CancellationException;
+}
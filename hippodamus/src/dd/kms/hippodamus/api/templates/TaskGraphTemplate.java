@@ -0,0 +1,35 @@
+package dd.kms.hippodamus.api.templates;
+
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+
+import java.util.List;
+
+/**
+ * A {@code TaskGraphTemplate} describes a fixed graph of named tasks and their dependencies. The graph is validated
+ * and brought into a topological order once when the template is built. Afterwards, the template can be instantiated
+ * with different inputs and for different {@link ExecutionCoordinator}s without repeating this work. Instantiating
+ * a template only requires time proportional to the number of its tasks and dependencies.<br>
+ * <br>
+ * Create a template via {@link TaskGraphTemplates#configureTaskGraphTemplate()}.
+ */
+public interface TaskGraphTemplate<I, T extends Throwable>
+{
+	/**
+	 * @return the task templates in topological order, i.e., every task is listed after its dependencies
+	 */
+	List<TaskTemplate<?>> getTasks();
+
+	/**
+	 * Registers one task per task template at the {@code coordinator}. The tasks will be called with the specified
+	 * input.<br>
+	 * <br>
+	 * The tasks get the names specified in the template. If the coordinator already manages a task with the same
+	 * name, e.g., because the template is instantiated multiple times for the same coordinator, then the name will
+	 * be extended by a suffix as usual.
+	 *
+	 * @throws IllegalArgumentException if one of the tasks has a {@link dd.kms.hippodamus.api.coordinator.TaskType}
+	 * for which the coordinator has no {@link java.util.concurrent.ExecutorService}
+	 * @throws T    The exception is not really thrown here, but it forces the caller to handle T.
+	 */
+	TaskGraphInstance instantiate(ExecutionCoordinator coordinator, I input) throws T;
+}
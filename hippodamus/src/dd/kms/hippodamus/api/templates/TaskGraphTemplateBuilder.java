@@ -0,0 +1,31 @@
+package dd.kms.hippodamus.api.templates;
+
+import dd.kms.hippodamus.api.coordinator.TaskType;
+
+/**
+ * Use this interface to describe the tasks of a {@link TaskGraphTemplate}. Since a task can only depend on
+ * tasks that have been added before, the described graph is always acyclic.
+ */
+public interface TaskGraphTemplateBuilder<I, T extends Throwable>
+{
+	/**
+	 * Adds a computational task with the specified name and dependencies to the template.
+	 *
+	 * @see #task(String, TaskType, TemplateTaskFunction, TaskTemplate[])
+	 */
+	<V> TaskTemplate<V> task(String name, TemplateTaskFunction<I, V, ? extends T> function, TaskTemplate<?>... dependencies);
+
+	/**
+	 * Adds a task of the specified type with the specified name and dependencies to the template.
+	 *
+	 * @throws IllegalArgumentException if the template already contains a task with the same name or if one of
+	 * the dependencies has not been created by this builder
+	 * @throws IllegalStateException if the template has already been built
+	 */
+	<V> TaskTemplate<V> task(String name, TaskType taskType, TemplateTaskFunction<I, V, ? extends T> function, TaskTemplate<?>... dependencies);
+
+	/**
+	 * Creates the template. Afterwards, no further tasks can be added.
+	 */
+	TaskGraphTemplate<I, T> build();
+}
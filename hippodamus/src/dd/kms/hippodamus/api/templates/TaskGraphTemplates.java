@@ -0,0 +1,15 @@
+package dd.kms.hippodamus.api.templates;
+
+/**
+ * Utility class for creating {@link TaskGraphTemplate}s.
+ */
+public class TaskGraphTemplates
+{
+	/**
+	 * Returns a {@link TaskGraphTemplateBuilder} for describing a graph of tasks that depend on an input of type
+	 * {@code I} and that may throw exceptions of type {@code T}.
+	 */
+	public static <I, T extends Throwable> TaskGraphTemplateBuilder<I, T> configureTaskGraphTemplate() {
+		return new dd.kms.hippodamus.impl.templates.TaskGraphTemplateBuilderImpl<>();
+	}
+}
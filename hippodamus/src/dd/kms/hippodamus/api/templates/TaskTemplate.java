@@ -0,0 +1,10 @@
+package dd.kms.hippodamus.api.templates;
+
+/**
+ * Describes a single task of a {@link TaskGraphTemplate}. Use it to specify dependencies between tasks
+ * and to access the handle of the task in a {@link TaskGraphInstance}.
+ */
+public interface TaskTemplate<V>
+{
+	String getName();
+}
@@ -0,0 +1,12 @@
+package dd.kms.hippodamus.api.templates;
+
+/**
+ * Describes what a task of a {@link TaskGraphTemplate} does. The function is called with the input the template
+ * has been instantiated for and with the resulting {@link TaskGraphInstance}. The latter can be used to obtain the
+ * values of the task's dependencies.
+ */
+@FunctionalInterface
+public interface TemplateTaskFunction<I, V, T extends Throwable>
+{
+	V apply(I input, TaskGraphInstance instance) throws T;
+}
@@ -28,6 +28,10 @@ public class AggregatorImpl<S, R> implements Aggregator<S, R>
 		return aggregatedValue;
 	}
 
+	void setAggregatedValue(R aggregatedValue) {
+		this.aggregatedValue = aggregatedValue;
+	}
+
 	@Override
 	public boolean hasAggregationCompleted() {
 		return finalValuePredicate.test(aggregatedValue);
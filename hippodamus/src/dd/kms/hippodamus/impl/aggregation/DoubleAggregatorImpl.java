@@ -0,0 +1,35 @@
+package dd.kms.hippodamus.impl.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.DoubleAggregator;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+
+public class DoubleAggregatorImpl implements DoubleAggregator
+{
+	private final DoubleBinaryOperator	aggregationFunction;
+	private final DoublePredicate		finalValuePredicate;
+
+	private volatile double				aggregatedValue;
+
+	public DoubleAggregatorImpl(double initValue, DoubleBinaryOperator aggregationFunction, DoublePredicate finalValuePredicate) {
+		this.aggregatedValue = initValue;
+		this.aggregationFunction = aggregationFunction;
+		this.finalValuePredicate = finalValuePredicate;
+	}
+
+	@Override
+	public void aggregate(double value) {
+		aggregatedValue = aggregationFunction.applyAsDouble(aggregatedValue, value);
+	}
+
+	@Override
+	public double getAggregatedValueAsDouble() {
+		return aggregatedValue;
+	}
+
+	@Override
+	public boolean hasAggregationCompleted() {
+		return finalValuePredicate.test(aggregatedValue);
+	}
+}
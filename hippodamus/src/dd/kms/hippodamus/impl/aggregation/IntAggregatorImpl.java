@@ -0,0 +1,35 @@
+package dd.kms.hippodamus.impl.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.IntAggregator;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+
+public class IntAggregatorImpl implements IntAggregator
+{
+	private final IntBinaryOperator	aggregationFunction;
+	private final IntPredicate		finalValuePredicate;
+
+	private volatile int			aggregatedValue;
+
+	public IntAggregatorImpl(int initValue, IntBinaryOperator aggregationFunction, IntPredicate finalValuePredicate) {
+		this.aggregatedValue = initValue;
+		this.aggregationFunction = aggregationFunction;
+		this.finalValuePredicate = finalValuePredicate;
+	}
+
+	@Override
+	public void aggregate(int value) {
+		aggregatedValue = aggregationFunction.applyAsInt(aggregatedValue, value);
+	}
+
+	@Override
+	public int getAggregatedValueAsInt() {
+		return aggregatedValue;
+	}
+
+	@Override
+	public boolean hasAggregationCompleted() {
+		return finalValuePredicate.test(aggregatedValue);
+	}
+}
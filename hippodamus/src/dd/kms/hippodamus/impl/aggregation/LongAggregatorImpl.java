@@ -0,0 +1,35 @@
+package dd.kms.hippodamus.impl.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.LongAggregator;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+
+public class LongAggregatorImpl implements LongAggregator
+{
+	private final LongBinaryOperator	aggregationFunction;
+	private final LongPredicate			finalValuePredicate;
+
+	private volatile long				aggregatedValue;
+
+	public LongAggregatorImpl(long initValue, LongBinaryOperator aggregationFunction, LongPredicate finalValuePredicate) {
+		this.aggregatedValue = initValue;
+		this.aggregationFunction = aggregationFunction;
+		this.finalValuePredicate = finalValuePredicate;
+	}
+
+	@Override
+	public void aggregate(long value) {
+		aggregatedValue = aggregationFunction.applyAsLong(aggregatedValue, value);
+	}
+
+	@Override
+	public long getAggregatedValueAsLong() {
+		return aggregatedValue;
+	}
+
+	@Override
+	public boolean hasAggregationCompleted() {
+		return finalValuePredicate.test(aggregatedValue);
+	}
+}
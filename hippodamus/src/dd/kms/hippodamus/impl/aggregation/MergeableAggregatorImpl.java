@@ -0,0 +1,49 @@
+package dd.kms.hippodamus.impl.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.MergeableAggregator;
+
+import javax.annotation.Nullable;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+public class MergeableAggregatorImpl<S, R> extends AggregatorImpl<S, R> implements MergeableAggregator<S, R>
+{
+	private final R							identity;
+	private final BiFunction<R, S, R>		aggregationFunction;
+	private final BinaryOperator<R>			combiner;
+
+	/**
+	 * {@code null} if the aggregator does not support short circuit evaluation
+	 */
+	private final @Nullable Predicate<R>	finalValuePredicate;
+
+	public MergeableAggregatorImpl(R identity, BiFunction<R, S, R> aggregationFunction, BinaryOperator<R> combiner, @Nullable Predicate<R> finalValuePredicate) {
+		super(identity, aggregationFunction, finalValuePredicate != null ? finalValuePredicate : value -> false);
+		this.identity = identity;
+		this.aggregationFunction = aggregationFunction;
+		this.combiner = combiner;
+		this.finalValuePredicate = finalValuePredicate;
+	}
+
+	@Override
+	public MergeableAggregator<S, R> createPartialAggregator() {
+		return new MergeableAggregatorImpl<>(identity, aggregationFunction, combiner, finalValuePredicate);
+	}
+
+	@Override
+	public void merge(MergeableAggregator<S, R> partialAggregator) {
+		setAggregatedValue(combiner.apply(getAggregatedValue(), partialAggregator.getAggregatedValue()));
+	}
+
+	@Override
+	public boolean supportsShortCircuitEvaluation() {
+		return finalValuePredicate != null;
+	}
+
+	@Override
+	public boolean tryReset() {
+		setAggregatedValue(identity);
+		return true;
+	}
+}
@@ -0,0 +1,117 @@
+package dd.kms.hippodamus.impl.aggregation;
+
+import dd.kms.hippodamus.api.aggregation.MergeableAggregator;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aggregates values of multiple threads in parallel with a {@link MergeableAggregator}. Each thread aggregates into
+ * the partial aggregator of one of several stripes. The stripe is selected based on the thread's id, so threads
+ * rarely compete for the same stripe. The number of stripes is the smallest power of two not less than the number of
+ * available processors. Partial aggregators are created lazily when a thread aggregates into an empty stripe.<br>
+ * <br>
+ * If the aggregator does not support short circuit evaluation, then the partial aggregators are only merged into the
+ * original aggregator when no thread aggregates values anymore (see {@link #mergePartialAggregators()}).<br>
+ * <br>
+ * Otherwise, short circuit evaluation requires merging the partial aggregators after every aggregation. Only one
+ * thread merges at a time. Every thread that has aggregated a value requests a check by incrementing
+ * {@link #numRequestedChecks}. If there was no pending request, then the thread becomes the merging thread.
+ * Otherwise, it leaves the check to the merging thread. The merging thread repeats merging until it has covered all
+ * requests. This way, every value is covered by a check after it has been aggregated without blocking any thread.
+ * Merged partial aggregators are reset and reused if they support this.
+ */
+public class StripedAggregator<S, R>
+{
+	private final MergeableAggregator<S, R>	aggregator;
+	private final boolean					shortCircuitEvaluation;
+	private final Stripe<S, R>[]			stripes;
+	private final AtomicInteger				numRequestedChecks	= new AtomicInteger();
+
+	@SuppressWarnings("unchecked")
+	public StripedAggregator(MergeableAggregator<S, R> aggregator) {
+		this.aggregator = aggregator;
+		this.shortCircuitEvaluation = aggregator.supportsShortCircuitEvaluation();
+		int numProcessors = Runtime.getRuntime().availableProcessors();
+		int numStripes = 1;
+		while (numStripes < numProcessors) {
+			numStripes <<= 1;
+		}
+		stripes = new Stripe[numStripes];
+		for (int i = 0; i < numStripes; i++) {
+			stripes[i] = new Stripe<>();
+		}
+	}
+
+	/**
+	 * @return {@code true} if short circuit evaluation can be applied. If the current thread has only requested the
+	 * check, but another thread merges, then {@code false} is returned. In that case, the merging thread will return
+	 * {@code true} instead.
+	 */
+	public boolean aggregate(S value) {
+		Stripe<S, R> stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+		synchronized (stripe) {
+			MergeableAggregator<S, R> partialAggregator = stripe.partialAggregator;
+			if (partialAggregator == null) {
+				partialAggregator = stripe.spareAggregator != null ? stripe.spareAggregator : aggregator.createPartialAggregator();
+				stripe.spareAggregator = null;
+				stripe.partialAggregator = partialAggregator;
+			}
+			partialAggregator.aggregate(value);
+		}
+		if (!shortCircuitEvaluation) {
+			// merged when no thread aggregates values anymore
+			return false;
+		}
+		if (numRequestedChecks.getAndIncrement() != 0) {
+			return false;
+		}
+		boolean completed = false;
+		int numCoveredChecks;
+		do {
+			numCoveredChecks = numRequestedChecks.get();
+			mergePartialAggregators();
+			completed |= aggregator.hasAggregationCompleted();
+		} while (numRequestedChecks.addAndGet(-numCoveredChecks) != 0);
+		return completed;
+	}
+
+	/**
+	 * Merges all partial aggregators into the original aggregator. Must not be called concurrently, which is why it
+	 * must only be called by the merging thread or when no thread aggregates values anymore.
+	 */
+	public void mergePartialAggregators() {
+		for (Stripe<S, R> stripe : stripes) {
+			MergeableAggregator<S, R> partialAggregator;
+			synchronized (stripe) {
+				partialAggregator = stripe.partialAggregator;
+				if (partialAggregator == null) {
+					continue;
+				}
+				stripe.partialAggregator = null;
+			}
+			aggregator.merge(partialAggregator);
+			if (partialAggregator.tryReset()) {
+				synchronized (stripe) {
+					stripe.spareAggregator = partialAggregator;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fields are guarded by the stripe's monitor
+	 */
+	private static class Stripe<S, R>
+	{
+		/**
+		 * The aggregator threads currently aggregate into or {@code null} if the stripe is empty
+		 */
+		private @Nullable MergeableAggregator<S, R>	partialAggregator;
+
+		/**
+		 * A merged partial aggregator that has been reset and replaces the next partial aggregator
+		 */
+		private @Nullable MergeableAggregator<S, R>	spareAggregator;
+	}
+}
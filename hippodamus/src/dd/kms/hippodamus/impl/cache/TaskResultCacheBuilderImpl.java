@@ -0,0 +1,48 @@
+package dd.kms.hippodamus.impl.cache;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.cache.TaskResultCache;
+import dd.kms.hippodamus.api.cache.TaskResultCacheBuilder;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+public class TaskResultCacheBuilderImpl implements TaskResultCacheBuilder
+{
+	private static final long				UNBOUNDED			= -1;
+
+	private long							maximumSize			= UNBOUNDED;
+	private long							maximumWeight		= UNBOUNDED;
+	private @Nullable ToIntFunction<Object>	weigher				= null;
+	private @Nullable Duration				timeToLive			= null;
+
+	@Override
+	public TaskResultCacheBuilder maximumSize(long maximumSize) {
+		Preconditions.checkArgument(maximumSize >= 0, "The maximum size must not be negative");
+		this.maximumSize = maximumSize;
+		return this;
+	}
+
+	@Override
+	public TaskResultCacheBuilder maximumWeight(long maximumWeight, ToIntFunction<Object> weigher) {
+		Preconditions.checkArgument(maximumWeight >= 0, "The maximum weight must not be negative");
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		return this;
+	}
+
+	@Override
+	public TaskResultCacheBuilder expireAfterWrite(Duration timeToLive) {
+		Preconditions.checkArgument(!timeToLive.isNegative() && !timeToLive.isZero(), "The time to live must be positive");
+		this.timeToLive = timeToLive;
+		return this;
+	}
+
+	@Override
+	public TaskResultCache build() {
+		Preconditions.checkState(maximumSize != UNBOUNDED || maximumWeight != UNBOUNDED, "A task result cache must be bounded by a maximum size or a maximum weight");
+		Preconditions.checkState(maximumSize == UNBOUNDED || maximumWeight == UNBOUNDED, "A task result cache must not be bounded by both a maximum size and a maximum weight");
+		return new TaskResultCacheImpl(maximumSize, maximumWeight, weigher, timeToLive);
+	}
+}
@@ -0,0 +1,227 @@
+package dd.kms.hippodamus.impl.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import dd.kms.hippodamus.api.cache.TaskResultCache;
+import dd.kms.hippodamus.impl.handles.HandleImpl;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores the values in a Guava {@link Cache} and keeps track of the keys whose values are currently computed. For
+ * each such key, there is exactly one task, the leader, that computes the value. Tasks with the same key that
+ * become ready in the meantime are attached to the leader's {@link InFlightComputation} instead of being executed.
+ * They are completed by the thread that terminates the leader.<br>
+ * <br>
+ * The leader stores its value in the cache before it removes its computation from {@link #inFlightComputations}.
+ * Hence, a task that neither finds a value nor a computation for its key can become the leader without missing a
+ * value that has just been computed, unless the value has been evicted in between.
+ */
+public class TaskResultCacheImpl implements TaskResultCache
+{
+	/**
+	 * Guava caches do not support {@code null} values, so we store this marker instead
+	 */
+	private static final Object								NULL_VALUE				= new Object();
+
+	private final Cache<Object, Object>						cache;
+	private final ConcurrentMap<Object, InFlightComputation>	inFlightComputations	= new ConcurrentHashMap<>();
+
+	private final LongAdder									numHits					= new LongAdder();
+	private final LongAdder									numMisses				= new LongAdder();
+	private final LongAdder									numAttachedTasks		= new LongAdder();
+	private final LongAdder									numEvictions			= new LongAdder();
+
+	TaskResultCacheImpl(long maximumSize, long maximumWeight, @Nullable ToIntFunction<Object> weigher, @Nullable Duration timeToLive) {
+		CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+		if (maximumSize >= 0) {
+			cacheBuilder.maximumSize(maximumSize);
+		} else {
+			cacheBuilder.maximumWeight(maximumWeight);
+			cacheBuilder.weigher((Object key, Object value) -> weigher.applyAsInt(unmask(value)));
+		}
+		if (timeToLive != null) {
+			cacheBuilder.expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		cache = cacheBuilder.removalListener(this::onRemoval).build();
+	}
+
+	@Override
+	public long getNumberOfHits() {
+		return numHits.sum();
+	}
+
+	@Override
+	public long getNumberOfMisses() {
+		return numMisses.sum();
+	}
+
+	@Override
+	public long getNumberOfAttachedTasks() {
+		return numAttachedTasks.sum();
+	}
+
+	@Override
+	public long getNumberOfEvictions() {
+		return numEvictions.sum();
+	}
+
+	@Override
+	public long size() {
+		return cache.size();
+	}
+
+	@Override
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Called when a task that uses this cache has become ready.
+	 *
+	 * @return {@code true} if the task has become the leader for its key and has to be submitted and {@code false}
+	 * if the task has been completed with a cached value or has been attached to another task
+	 */
+	public boolean onReady(HandleImpl<?> handle) {
+		Object key = handle.getResultCacheKey();
+		while (true) {
+			Object value = cache.getIfPresent(key);
+			if (value != null) {
+				numHits.increment();
+				handle.completeWithCachedValue(unmask(value));
+				return false;
+			}
+			InFlightComputation computation = inFlightComputations.get(key);
+			if (computation == null) {
+				InFlightComputation newComputation = new InFlightComputation(handle);
+				if (inFlightComputations.putIfAbsent(key, newComputation) == null) {
+					return onLeaderRegistered(handle, key, newComputation);
+				}
+			} else if (computation.attach(handle)) {
+				numAttachedTasks.increment();
+				return false;
+			}
+			// the computation has just finished or has been replaced; try again
+		}
+	}
+
+	private boolean onLeaderRegistered(HandleImpl<?> handle, Object key, InFlightComputation computation) {
+		Object value = cache.getIfPresent(key);
+		if (value != null) {
+			// the previous leader has stored its value after we had checked the cache
+			numHits.increment();
+			finishComputation(key, computation, value);
+			handle.completeWithCachedValue(unmask(value));
+			return false;
+		}
+		if (handle.hasTerminated()) {
+			// the handle has been stopped before it could be registered, so it will not finish the computation itself
+			finishComputation(key, computation, null);
+			return false;
+		}
+		numMisses.increment();
+		return true;
+	}
+
+	/**
+	 * Called when a task that uses this cache has completed successfully. If it is the leader for its key, then the
+	 * value is stored in the cache.
+	 */
+	public void onCompleted(HandleImpl<?> handle, @Nullable Object value) {
+		Object key = handle.getResultCacheKey();
+		InFlightComputation computation = inFlightComputations.get(key);
+		if (computation != null && computation.leader == handle) {
+			Object maskedValue = mask(value);
+			computation.maskedValue = maskedValue;
+			cache.put(key, maskedValue);
+		}
+	}
+
+	/**
+	 * Called when a task that uses this cache has terminated. If it is the leader for its key, then all attached
+	 * tasks are completed with its value. If it has not completed successfully, then the attached tasks have to
+	 * compute the value themselves.
+	 */
+	public void onTerminated(HandleImpl<?> handle) {
+		Object key = handle.getResultCacheKey();
+		InFlightComputation computation = inFlightComputations.get(key);
+		if (computation != null && computation.leader == handle) {
+			finishComputation(key, computation, computation.maskedValue);
+		}
+	}
+
+	private void finishComputation(Object key, InFlightComputation computation, @Nullable Object maskedValue) {
+		inFlightComputations.remove(key, computation);
+		List<HandleImpl<?>> attachedHandles = computation.finish();
+		for (HandleImpl<?> attachedHandle : attachedHandles) {
+			if (maskedValue != null) {
+				attachedHandle.completeWithCachedValue(unmask(maskedValue));
+			} else {
+				attachedHandle.onAttachedComputationFailed();
+			}
+		}
+	}
+
+	private void onRemoval(RemovalNotification<Object, Object> notification) {
+		if (notification.wasEvicted()) {
+			numEvictions.increment();
+		}
+	}
+
+	private static Object mask(@Nullable Object value) {
+		return value != null ? value : NULL_VALUE;
+	}
+
+	private static @Nullable Object unmask(Object maskedValue) {
+		return maskedValue != NULL_VALUE ? maskedValue : null;
+	}
+
+	private static class InFlightComputation
+	{
+		private final HandleImpl<?>			leader;
+
+		/**
+		 * Only written by the leader's thread before it terminates
+		 */
+		private volatile @Nullable Object	maskedValue;
+
+		/**
+		 * Guarded by this monitor. Set to {@code null} when the computation has finished.
+		 */
+		private @Nullable List<HandleImpl<?>>	attachedHandles	= new ArrayList<>();
+
+		InFlightComputation(HandleImpl<?> leader) {
+			this.leader = leader;
+		}
+
+		/**
+		 * @return {@code false} if the computation has already finished
+		 */
+		synchronized boolean attach(HandleImpl<?> handle) {
+			if (attachedHandles == null) {
+				return false;
+			}
+			attachedHandles.add(handle);
+			return true;
+		}
+
+		/**
+		 * @return The attached handles. When called multiple times, only the first call returns them.
+		 */
+		synchronized List<HandleImpl<?>> finish() {
+			List<HandleImpl<?>> handles = attachedHandles;
+			attachedHandles = null;
+			return handles != null ? handles : Collections.emptyList();
+		}
+	}
+}
@@ -1,31 +1,56 @@
 package dd.kms.hippodamus.impl.coordinator;
 
 import dd.kms.hippodamus.api.aggregation.Aggregator;
+import dd.kms.hippodamus.api.aggregation.DoubleAggregator;
+import dd.kms.hippodamus.api.aggregation.IntAggregator;
+import dd.kms.hippodamus.api.aggregation.LongAggregator;
+import dd.kms.hippodamus.api.aggregation.MergeableAggregator;
 import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
 import dd.kms.hippodamus.api.execution.configuration.AggregationConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.DoubleResultHandle;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
-import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+import dd.kms.hippodamus.impl.aggregation.StripedAggregator;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
 import dd.kms.hippodamus.impl.execution.configuration.AggregationConfigurationBuilderImpl;
 import dd.kms.hippodamus.impl.execution.configuration.TaskConfiguration;
+import dd.kms.hippodamus.impl.handles.DoubleHandleImpl;
+import dd.kms.hippodamus.impl.handles.IntHandleImpl;
+import dd.kms.hippodamus.impl.handles.LongHandleImpl;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Map;
 
 public class AggregationCoordinatorImpl<S, R> extends ExecutionCoordinatorImpl implements AggregationCoordinator<S, R>
 {
-	private final Aggregator<S, R>	aggregator;
+	private final Aggregator<S, R>					aggregator;
 
-	public AggregationCoordinatorImpl(Aggregator<S, R> aggregator, Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, Logger logger, boolean verifyDependencies) {
-		super(executorServiceWrappersByTaskType, logger, verifyDependencies);
+	/**
+	 * Only used for {@link MergeableAggregator}s. Their values are aggregated in parallel instead of while holding
+	 * the coordinator's lock.
+	 */
+	private final @Nullable StripedAggregator<S, R>	stripedAggregator;
+
+	public AggregationCoordinatorImpl(Aggregator<S, R> aggregator, Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
+		super(executorServiceWrappersByTaskType, eventListener, eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maxPendingTasks, maxPendingTaskCost);
 		this.aggregator = aggregator;
+		this.stripedAggregator = aggregator instanceof MergeableAggregator ? new StripedAggregator<>((MergeableAggregator<S, R>) aggregator) : null;
 	}
 
 	public <T extends Throwable> ResultHandle<S> aggregate(ExceptionalCallable<S, T> callable, TaskConfiguration taskConfiguration) throws T {
+		// wait before acquiring the lock (see awaitRegistrationCapacity())
+		awaitRegistrationCapacity(taskConfiguration.getCost());
 		synchronized (this) {
 			ResultHandle<S> handle = execute(callable, taskConfiguration);
-			if (!_hasStopped()) {
+			if (!hasStopped()) {
 				handle.onCompletion(() -> aggregate(handle));
 			}
 			return handle;
@@ -33,6 +58,12 @@ public class AggregationCoordinatorImpl<S, R> extends ExecutionCoordinatorImpl i
 	}
 
 	private void aggregate(ResultHandle<S> handle) {
+		if (stripedAggregator != null) {
+			if (stripedAggregator.aggregate(handle.get())) {
+				stop();
+			}
+			return;
+		}
 		synchronized (this) {
 			S value = handle.get();
 			aggregator.aggregate(value);
@@ -42,11 +73,116 @@ public class AggregationCoordinatorImpl<S, R> extends ExecutionCoordinatorImpl i
 		}
 	}
 
+	public <T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable, TaskConfiguration taskConfiguration) throws T {
+		IntAggregator intAggregator = getPrimitiveAggregator(IntAggregator.class);
+		awaitRegistrationCapacity(taskConfiguration.getCost());
+		synchronized (this) {
+			IntHandleImpl handle = executeInt(callable, taskConfiguration);
+			if (!hasStopped()) {
+				handle.onCompletion(() -> aggregateInt(intAggregator, handle));
+			}
+			return handle;
+		}
+	}
+
+	private void aggregateInt(IntAggregator intAggregator, IntResultHandle handle) {
+		synchronized (this) {
+			intAggregator.aggregate(handle.getAsInt());
+			if (intAggregator.hasAggregationCompleted()) {
+				stop();
+			}
+		}
+	}
+
+	public <T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable, TaskConfiguration taskConfiguration) throws T {
+		LongAggregator longAggregator = getPrimitiveAggregator(LongAggregator.class);
+		awaitRegistrationCapacity(taskConfiguration.getCost());
+		synchronized (this) {
+			LongHandleImpl handle = executeLong(callable, taskConfiguration);
+			if (!hasStopped()) {
+				handle.onCompletion(() -> aggregateLong(longAggregator, handle));
+			}
+			return handle;
+		}
+	}
+
+	private void aggregateLong(LongAggregator longAggregator, LongResultHandle handle) {
+		synchronized (this) {
+			longAggregator.aggregate(handle.getAsLong());
+			if (longAggregator.hasAggregationCompleted()) {
+				stop();
+			}
+		}
+	}
+
+	public <T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable, TaskConfiguration taskConfiguration) throws T {
+		DoubleAggregator doubleAggregator = getPrimitiveAggregator(DoubleAggregator.class);
+		awaitRegistrationCapacity(taskConfiguration.getCost());
+		synchronized (this) {
+			DoubleHandleImpl handle = executeDouble(callable, taskConfiguration);
+			if (!hasStopped()) {
+				handle.onCompletion(() -> aggregateDouble(doubleAggregator, handle));
+			}
+			return handle;
+		}
+	}
+
+	private void aggregateDouble(DoubleAggregator doubleAggregator, DoubleResultHandle handle) {
+		synchronized (this) {
+			doubleAggregator.aggregate(handle.getAsDouble());
+			if (doubleAggregator.hasAggregationCompleted()) {
+				stop();
+			}
+		}
+	}
+
+	/**
+	 * Values of primitive aggregators are aggregated while holding the coordinator's lock. Hence, they must not be
+	 * mergeable because the values of {@link MergeableAggregator}s are merged without holding that lock.
+	 */
+	private <A> A getPrimitiveAggregator(Class<A> aggregatorClass) {
+		if (!aggregatorClass.isInstance(aggregator) || stripedAggregator != null) {
+			throw new IllegalStateException("The aggregator of the coordinator must be a " + aggregatorClass.getSimpleName() + " that is not mergeable");
+		}
+		return aggregatorClass.cast(aggregator);
+	}
+
+	/**
+	 * The partial aggregators of a {@link MergeableAggregator} are merged once more when all tasks have terminated.
+	 * This is only required if an exception in the aggregator has interrupted merging, but it is cheap because
+	 * empty partial aggregators are skipped.
+	 */
+	@Override
+	public void close() {
+		try {
+			super.close();
+		} finally {
+			if (stripedAggregator != null) {
+				stripedAggregator.mergePartialAggregators();
+			}
+		}
+	}
+
 	@Override
 	public <T extends Throwable> ResultHandle<S> aggregate(ExceptionalCallable<S, T> callable) throws T {
 		return configure().aggregate(callable);
 	}
 
+	@Override
+	public <T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable) throws T {
+		return configure().aggregateInt(callable);
+	}
+
+	@Override
+	public <T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable) throws T {
+		return configure().aggregateLong(callable);
+	}
+
+	@Override
+	public <T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable) throws T {
+		return configure().aggregateDouble(callable);
+	}
+
 	@Override
 	public AggregationConfigurationBuilder<S, R> configure() {
 		return new AggregationConfigurationBuilderImpl<>(this);
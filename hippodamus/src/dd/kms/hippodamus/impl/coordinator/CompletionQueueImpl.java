@@ -0,0 +1,127 @@
+package dd.kms.hippodamus.impl.coordinator;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.handles.CompletionQueue;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Completed handles are collected in a lock-free queue by completion listeners. The consuming thread parks while
+ * waiting for a handle. It is unparked by the completion listeners and by the coordinator when it is stopped. The
+ * coordinator only knows the queue while its consuming thread is waiting.
+ */
+class CompletionQueueImpl<V> implements CompletionQueue<V>
+{
+	private final ExecutionCoordinatorImpl	coordinator;
+	private final Queue<ResultHandle<V>>	completedHandles	= new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Handles may be added by any thread.
+	 */
+	private final AtomicInteger				numAddedHandles		= new AtomicInteger();
+
+	/**
+	 * Only accessed by the consuming thread.
+	 */
+	private int								numTakenHandles;
+
+	/**
+	 * The consuming thread while it is waiting for a handle, otherwise {@code null}. The thread registers itself
+	 * before checking for a completed handle a last time, so it cannot miss being unparked.
+	 */
+	private volatile @Nullable Thread		waitingThread;
+
+	CompletionQueueImpl(ExecutionCoordinatorImpl coordinator) {
+		this.coordinator = coordinator;
+	}
+
+	@Override
+	public void add(ResultHandle<V> handle) {
+		Preconditions.checkArgument(handle.getExecutionCoordinator() == coordinator, "The handle has not been created by the coordinator of this completion queue");
+		numAddedHandles.incrementAndGet();
+		handle.onCompletion(() -> onCompletion(handle));
+	}
+
+	private void onCompletion(ResultHandle<V> handle) {
+		completedHandles.offer(handle);
+		unparkWaitingThread();
+	}
+
+	/**
+	 * Called by the coordinator when it is stopped. Tasks that have not yet completed will not complete anymore,
+	 * so the waiting thread must not wait for them.
+	 */
+	void onCoordinatorStopped() {
+		unparkWaitingThread();
+	}
+
+	private void unparkWaitingThread() {
+		Thread thread = waitingThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return numTakenHandles < numAddedHandles.get();
+	}
+
+	@Override
+	public @Nullable ResultHandle<V> poll() {
+		ResultHandle<V> handle = completedHandles.poll();
+		if (handle != null) {
+			numTakenHandles++;
+		}
+		return handle;
+	}
+
+	/**
+	 * Like {@code ResultHandle.get()}, this method does not swallow interruption requests, but it does not react
+	 * to them either.
+	 */
+	@Override
+	public ResultHandle<V> take() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("All handles of the completion queue have already been taken");
+		}
+		boolean interrupted = Thread.interrupted();
+		boolean registered = false;
+		try {
+			while (true) {
+				ResultHandle<V> handle = poll();
+				if (handle != null) {
+					return handle;
+				}
+				if (coordinator.hasStopped()) {
+					coordinator.checkException();
+					throw new CancellationException("Trying to take a handle from a completion queue of a coordinator that has been stopped");
+				}
+				waitingThread = Thread.currentThread();
+				if (!registered) {
+					coordinator.addWaitingCompletionQueue(this);
+					registered = true;
+				}
+				if (completedHandles.isEmpty() && !coordinator.hasStopped()) {
+					LockSupport.park(this);
+					interrupted |= Thread.interrupted();
+				}
+				waitingThread = null;
+			}
+		} finally {
+			if (registered) {
+				coordinator.removeWaitingCompletionQueue(this);
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
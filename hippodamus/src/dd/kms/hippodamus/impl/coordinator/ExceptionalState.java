@@ -3,6 +3,10 @@ package dd.kms.hippodamus.impl.coordinator;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.exceptions.CoordinatorException;
 
+/**
+ * The exception is recorded and checked in synchronized methods because exceptions may be reported
+ * concurrently by different tasks, by the coordinator, and by the logging methods.
+ */
 class ExceptionalState
 {
 	/**
@@ -14,7 +18,7 @@ class ExceptionalState
 	 *     <li>when the coordinator is closing</li>
 	 * </ul>
 	 */
-	private Throwable			exception;
+	private volatile Throwable	exception;
 
 	/**
 	 * Flag used to decide whether the stored {@link #exception} is internal or not. Since internal exceptions
@@ -36,20 +40,20 @@ class ExceptionalState
 	 */
 	private boolean 			hasThrownException;
 
-	/**
-	 * This field is true if at any point one of the loggers threw an exception when logging. In that case,
-	 * we do not try to log further messages to avoid further exceptions.
-	 */
-	private boolean				loggerFaulty;
-
 	void checkException() {
-		if (exception != null && !hasThrownException) {
-			hasThrownException = true;
-			throwUnchecked(exception);
+		if (exception == null) {
+			// fast path that is taken whenever a task is registered
+			return;
+		}
+		synchronized (this) {
+			if (!hasThrownException) {
+				hasThrownException = true;
+				throwUnchecked(exception);
+			}
 		}
 	}
 
-	boolean setException(Throwable exception, boolean isInternalException) {
+	synchronized boolean setException(Throwable exception, boolean isInternalException) {
 		boolean overwriteException = this.exception == null || !this.isInternalException && isInternalException;
 		if (overwriteException) {
 			this.exception = exception;
@@ -58,12 +62,7 @@ class ExceptionalState
 		return overwriteException;
 	}
 
-	boolean isLoggerFaulty() {
-		return loggerFaulty;
-	}
-
-	void onLoggerException(Throwable loggerException) {
-		loggerFaulty = true;
+	synchronized void onLoggerException(Throwable loggerException) {
 		Throwable internalException = new CoordinatorException("Exception in logger: " + loggerException, loggerException);
 		setException(internalException, true);
 	}
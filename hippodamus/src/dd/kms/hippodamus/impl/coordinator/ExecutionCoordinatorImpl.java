@@ -1,8 +1,13 @@
 package dd.kms.hippodamus.impl.coordinator;
 
+import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -10,94 +15,342 @@ import javax.annotation.Nullable;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.exceptions.CoordinatorException;
+import dd.kms.hippodamus.api.exceptions.DeadlineExceededException;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.CompletionQueue;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
 import dd.kms.hippodamus.api.handles.TaskStage;
-import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+import dd.kms.hippodamus.impl.execution.SharedExecutorServices;
 import dd.kms.hippodamus.impl.execution.configuration.ExecutionConfigurationBuilderImpl;
 import dd.kms.hippodamus.impl.execution.configuration.TaskConfiguration;
+import dd.kms.hippodamus.impl.handles.DoubleHandleImpl;
+import dd.kms.hippodamus.impl.handles.HandleConstructor;
 import dd.kms.hippodamus.impl.handles.HandleImpl;
+import dd.kms.hippodamus.impl.handles.HedgingPolicy;
+import dd.kms.hippodamus.impl.handles.IntHandleImpl;
+import dd.kms.hippodamus.impl.handles.LongHandleImpl;
+import dd.kms.hippodamus.impl.handles.ResultHandleGroupImpl;
 import dd.kms.hippodamus.impl.resources.ResourceShare;
 
 public class ExecutionCoordinatorImpl implements ExecutionCoordinator
 {
-	private static final int	MAX_NUM_TASKS	= Integer.MAX_VALUE;
+	/**
+	 * The bounded coordinator whose task the current thread is executing or {@code null} if the thread is not
+	 * executing such a task. Tasks of unbounded coordinators are not tracked because registering tasks at them
+	 * never blocks (see {@link #awaitRegistrationCapacity(long)}).
+	 */
+	private static final ThreadLocal<ExecutionCoordinatorImpl>	EXECUTING_BOUNDED_COORDINATOR	= new ThreadLocal<>();
 
 	private final Map<TaskType, ExecutorServiceWrapper>	executorServiceWrappersByTaskType;
-	private final Logger								_logger;
+
+	/**
+	 * The listener all events are reported to. If no events have to be reported or if the listener has thrown
+	 * an exception, then this field is {@code null}. This allows checking whether to report an event with a single
+	 * field read.
+	 */
+	private volatile @Nullable TaskEventListener		eventListener;
+
+	/**
+	 * Only the events of tasks whose id is a multiple of this value are reported. Internal errors are always reported.
+	 */
+	private final int									eventSamplingRate;
+
+	/**
+	 * Event listeners are not required to be thread-safe. Since tasks change their stages concurrently,
+	 * all calls to the {@link #eventListener} are serialized via this lock. The scopes of a service coordinator
+	 * share the lock of the service because they report to the same listener.
+	 */
+	private final Object								eventListenerLock;
 	private final boolean								verifyDependencies;
 
+	/**
+	 * If set, then a thread that completes a task executes one of the task's successors directly
+	 * (see {@link #onCompletion(HandleImpl, boolean)}).
+	 */
+	private final boolean								continuationHandoff;
+
+	/**
+	 * If set, then the critical path lengths of the handles are maintained during registration (see
+	 * {@link HandleDependencyManager#updateCriticalPathLengths(HandleImpl, Collection)}). The
+	 * {@link ExecutorServiceWrapper}s use them to order the tasks that wait for submission.
+	 */
+	private final boolean								criticalPathScheduling;
+
 	/**
 	 * Handles the dependencies between handles.
 	 */
-	private final HandleDependencyManager				_handleDependencyManager		= new HandleDependencyManager();
+	private final HandleDependencyManager				handleDependencyManager			= new HandleDependencyManager();
+
+	/**
+	 * Contains the human-friendly, by default generic names of the tasks that have not yet terminated. Task names
+	 * may be generated by multiple threads concurrently. Names of terminated tasks are removed (see
+	 * {@link #onTermination(HandleImpl)}) such that the set does not grow with the number of processed tasks.
+	 */
+	private final Set<String>							taskNames						= ConcurrentHashMap.newKeySet();
 
 	/**
-	 * Contains human-friendly, by default generic task names.
+	 * The index of the next task. Task indices reflect the order in which tasks have been registered. In particular,
+	 * a task always has a higher index than its dependencies. Indices are {@code long}s such that they do not
+	 * overflow for coordinators that process a continuous stream of tasks. The scopes of a service coordinator
+	 * share the indices of the service because their tasks are queued by the same {@link ExecutorServiceWrapper}s,
+	 * which order them by their indices.
 	 */
-	private final Set<String>							_taskNames						= new HashSet<>();
+	private final AtomicLong							nextTaskIndex;
 
 	/**
 	 * Describes whether tasks that are eligible for execution may be submitted to an {@link ExecutorService}.
-	 * If not, the handles of these tasks will be collected in {@link #_pendingHandles}.
+	 * If not, the handles of these tasks will be collected in {@link #_pendingHandles}.<br>
+	 * <br>
+	 * This flag is read without holding the coordinator's lock. It may only be changed while holding the lock.
 	 */
-	private boolean										_permitTaskSubmission			= true;
+	private volatile boolean							taskSubmissionPermitted			= true;
 
 	/**
 	 * This field contains all handles that can already be submitted, but whose submission is denied
-	 * because {@link #_permitTaskSubmission} is {@code false}. These handles will be submitted as
-	 * soon as {@code permitTaskSubmission} is set to {@code true}.
+	 * because {@link #taskSubmissionPermitted} is {@code false}. These handles will be submitted as
+	 * soon as {@code taskSubmissionPermitted} is set to {@code true}.
 	 */
 	private final List<HandleImpl<?>>					_pendingHandles					= new ArrayList<>();
 
 	/**
-	 * In this field all information about exceptional situations is collected.
+	 * The completion queues whose consuming threads are currently waiting for a completed handle. They are informed
+	 * when the coordinator is stopped such that these threads do not wait forever. Queues are only registered while
+	 * waiting, so the list does not grow with the number of queues created by a long-lived coordinator.
+	 */
+	private final List<CompletionQueueImpl<?>>			_waitingCompletionQueues		= new ArrayList<>();
+
+	/**
+	 * In this field all information about exceptional situations is collected. It is thread-safe.
 	 */
-	private final ExceptionalState						_exceptionalState				= new ExceptionalState();
+	private final ExceptionalState						exceptionalState				= new ExceptionalState();
 
 	/**
 	 * Stores whether the coordinator has been requested to stop. This does not mean that it has already
-	 * stopped, but it means that tasks that are not yet executing won't execute anymore.
+	 * stopped, but it means that tasks that are not yet executing won't execute anymore.<br>
+	 * <br>
+	 * This flag is read by tasks without holding the coordinator's lock. It is set at the beginning of
+	 * {@link #stop()}, before the managed handles are stopped.
+	 */
+	private volatile boolean							stopped							= false;
+
+	/**
+	 * All managed tasks register at this tracker. The coordinator will wait in its {@link #close()} method until
+	 * all of them have terminated. Handles will inform it when terminating, either successfully or exceptionally.
+	 * If the number or the total cost of pending tasks is limited, then the tracker also blocks the registration of
+	 * new tasks until enough pending tasks have terminated.
 	 */
-	private boolean										_stopped						= false;
+	private final TerminationTracker					terminationTracker;
 
 	/**
-	 * This lock is held by all managed tasks. The coordinator will wait in its {@link #close()} method until
-	 * all tasks have released it. Handles will release it when terminating, either successfully or exceptionally.
+	 * The timer that stops the coordinator when its deadline expires or {@code null} if the coordinator has no
+	 * deadline. It is cancelled when the coordinator is closed.
 	 */
-	private final Semaphore								terminationLock					= new Semaphore(MAX_NUM_TASKS);
+	private final @Nullable ScheduledFuture<?>			deadlineTimer;
 
-	public ExecutionCoordinatorImpl(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, Logger logger, boolean verifyDependencies) {
+	public ExecutionCoordinatorImpl(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
 		this.executorServiceWrappersByTaskType = executorServiceWrappersByTaskType;
-		this._logger = logger;
+		this.eventListener = eventListener;
+		this.eventSamplingRate = eventSamplingRate;
 		this.verifyDependencies = verifyDependencies;
+		this.continuationHandoff = continuationHandoff;
+		this.criticalPathScheduling = criticalPathScheduling;
+		this.eventListenerLock = new Object();
+		this.nextTaskIndex = new AtomicLong();
+		this.terminationTracker = new TerminationTracker(maxPendingTasks, maxPendingTaskCost);
+		this.deadlineTimer = deadline != null
+			? SharedExecutorServices.getTimer().schedule(() -> onDeadlineExceeded(deadline), deadline.toNanos(), TimeUnit.NANOSECONDS)
+			: null;
+	}
+
+	/**
+	 * Creates a scope of a service coordinator (see {@link ServiceCoordinatorImpl#openScope()}). The scope shares the
+	 * service's {@link ExecutorServiceWrapper}s, its event listener, and its task indices, but it manages its own
+	 * tasks and has its own exceptional state and stop flag.
+	 */
+	ExecutionCoordinatorImpl(ExecutionCoordinatorImpl service, int maxPendingTasks, long maxPendingTaskCost) {
+		this.executorServiceWrappersByTaskType = service.executorServiceWrappersByTaskType;
+		this.eventListener = service.eventListener;
+		this.eventSamplingRate = service.eventSamplingRate;
+		this.verifyDependencies = service.verifyDependencies;
+		this.continuationHandoff = service.continuationHandoff;
+		this.criticalPathScheduling = service.criticalPathScheduling;
+		this.eventListenerLock = service.eventListenerLock;
+		this.nextTaskIndex = service.nextTaskIndex;
+		this.terminationTracker = new TerminationTracker(maxPendingTasks, maxPendingTaskCost);
+		this.deadlineTimer = null;
 	}
 
 	public <V, T extends Throwable> ResultHandle<V> execute(ExceptionalCallable<V, T> callable, TaskConfiguration taskConfiguration) {
+		return execute(callable, taskConfiguration, taskConfiguration.getDependencies(), HandleImpl<V>::new);
+	}
+
+	public IntHandleImpl executeInt(ExceptionalIntCallable<?> callable, TaskConfiguration taskConfiguration) {
+		return execute(callable, taskConfiguration, taskConfiguration.getDependencies(), IntHandleImpl::new);
+	}
+
+	public LongHandleImpl executeLong(ExceptionalLongCallable<?> callable, TaskConfiguration taskConfiguration) {
+		return execute(callable, taskConfiguration, taskConfiguration.getDependencies(), LongHandleImpl::new);
+	}
+
+	public DoubleHandleImpl executeDouble(ExceptionalDoubleCallable<?> callable, TaskConfiguration taskConfiguration) {
+		return execute(callable, taskConfiguration, taskConfiguration.getDependencies(), DoubleHandleImpl::new);
+	}
+
+	/**
+	 * Reserves the names of all tasks of a {@link dd.kms.hippodamus.api.templates.TaskGraphTemplate} instance at once.
+	 * The names have been computed once per template and are only changed if other tasks with the same names have
+	 * not yet terminated (see {@link ExecutionCoordinatorUtils#reserveTaskNames(String[], Set)}).
+	 */
+	public String[] reserveTemplateTaskNames(String[] templateTaskNames) {
+		return ExecutionCoordinatorUtils.reserveTaskNames(templateTaskNames, taskNames);
+	}
+
+	/**
+	 * Registers a task of a {@link dd.kms.hippodamus.api.templates.TaskGraphTemplate}. The template has already
+	 * validated the task's dependencies. Hence, they are passed directly instead of being part of the configuration.
+	 * The task's name must have been reserved via {@link #reserveTemplateTaskNames(String[])}.
+	 */
+	public <V> ResultHandle<V> executeTemplateTask(ExceptionalCallable<V, ?> callable, TaskConfiguration taskConfiguration, String taskName, Collection<? extends Handle> dependencies) {
+		return execute(callable, taskConfiguration, taskName, dependencies, HandleImpl<V>::new);
+	}
+
+	private <C, H extends HandleImpl<?>> H execute(C callable, TaskConfiguration taskConfiguration, Collection<? extends Handle> dependencies, HandleConstructor<C, H> handleConstructor) {
+		return execute(callable, taskConfiguration, null, dependencies, handleConstructor);
+	}
+
+	/**
+	 * @param reservedTaskName	the name of the task if it has already been reserved or {@code null} if a name has
+	 *                          to be generated
+	 */
+	private <C, H extends HandleImpl<?>> H execute(C callable, TaskConfiguration taskConfiguration, @Nullable String reservedTaskName, Collection<? extends Handle> dependencies, HandleConstructor<C, H> handleConstructor) {
+		ExecutorServiceWrapper executorServiceWrapper = getExecutorServiceWrapper(taskConfiguration);
+		checkException();
+		awaitRegistrationCapacity(taskConfiguration.getCost());
+		long taskIndex = nextTaskIndex.getAndIncrement();
+		String taskName = reservedTaskName != null ? reservedTaskName : ExecutionCoordinatorUtils.generateTaskName(taskConfiguration, taskIndex, taskNames);
+		H resultHandle = createHandle(callable, taskConfiguration, taskName, taskIndex, executorServiceWrapper, handleConstructor);
+		if (criticalPathScheduling) {
+			handleDependencyManager.updateCriticalPathLengths(resultHandle, dependencies);
+		}
+		boolean executable = handleDependencyManager.addDependencies(resultHandle, dependencies);
+		if (hasStopped()) {
+			/*
+			 * The coordinator might have been stopped concurrently without considering this handle
+			 * because it had not yet been registered. Stopping a handle twice is harmless.
+			 */
+			resultHandle.stop();
+		} else if (executable) {
+			scheduleForSubmission(resultHandle);
+		}
+		return resultHandle;
+	}
+
+	/**
+	 * Registers one task per callable. All tasks share the same configuration and, hence, the same
+	 * {@link ExecutorServiceWrapper}. This allows us to reserve a contiguous range of task indices at once and
+	 * to submit all tasks that are executable in one batch.<br>
+	 * <br>
+	 * If the pending tasks are limited, then we only wait once for the capacity of a single task. Hence, the tasks
+	 * may exceed the limits.
+	 */
+	public <V, T extends Throwable> ResultHandleGroup<V> executeAll(List<? extends ExceptionalCallable<V, T>> callables, TaskConfiguration taskConfiguration) {
 		ExecutorServiceWrapper executorServiceWrapper = getExecutorServiceWrapper(taskConfiguration);
 		Collection<Handle> dependencies = taskConfiguration.getDependencies();
-		ResourceShare resourceShare = taskConfiguration.getRequiredResourceShare();
-		Consumer<Handle> handleConsumer = taskConfiguration.getHandleConsumer();
-		synchronized (this) {
-			checkException();
-			int taskIndex = _handleDependencyManager.getNumberOfManagedHandles();
-			String taskName = ExecutionCoordinatorUtils.generateTaskName(taskConfiguration, taskIndex, _taskNames);
-			boolean ignoreResult = taskConfiguration.isIgnoreResult();
-			HandleImpl<V> resultHandle = new HandleImpl<>(this, taskName, taskIndex, executorServiceWrapper, callable, resourceShare, verifyDependencies, ignoreResult);
-			// propagate handle immediately after its creation before any logging or task execution
-			handleConsumer.accept(resultHandle);
-			_handleDependencyManager.addDependencies(resultHandle, dependencies);
-			if (!_hasStopped() && dependencies.stream().allMatch(Handle::hasCompleted)) {
-				_scheduleForSubmission(resultHandle);
+		checkException();
+		awaitRegistrationCapacity(taskConfiguration.getCost());
+		int numTasks = callables.size();
+		long firstTaskIndex = nextTaskIndex.getAndAdd(numTasks);
+		@SuppressWarnings("unchecked")
+		HandleImpl<V>[] resultHandles = new HandleImpl[numTasks];
+		List<HandleImpl<?>> executableHandles = new ArrayList<>(numTasks);
+		for (int i = 0; i < numTasks; i++) {
+			long taskIndex = firstTaskIndex + i;
+			String taskName = ExecutionCoordinatorUtils.generateTaskName(taskConfiguration, taskIndex, taskNames);
+			HandleImpl<V> resultHandle = createHandle(callables.get(i), taskConfiguration, taskName, taskIndex, executorServiceWrapper, HandleImpl<V>::new);
+			resultHandles[i] = resultHandle;
+			if (criticalPathScheduling) {
+				handleDependencyManager.updateCriticalPathLengths(resultHandle, dependencies);
+			}
+			if (handleDependencyManager.addDependencies(resultHandle, dependencies)) {
+				executableHandles.add(resultHandle);
 			}
-			return resultHandle;
+		}
+		if (hasStopped()) {
+			// see execute(ExceptionalCallable, TaskConfiguration)
+			for (HandleImpl<V> resultHandle : resultHandles) {
+				resultHandle.stop();
+			}
+		} else if (!executableHandles.isEmpty()) {
+			scheduleForSubmission(executableHandles, executorServiceWrapper);
+		}
+		return new ResultHandleGroupImpl<>(resultHandles);
+	}
+
+	/**
+	 * Blocks until a task with the specified cost can be registered without exceeding the limits for pending tasks.
+	 * We do not wait if task submission is currently not permitted because then no pending task would terminate.
+	 * We do not wait either if the current thread holds the coordinator's lock because terminating tasks might
+	 * require this lock to inform listeners. Subclasses that register tasks while holding this lock must call this
+	 * method before acquiring the lock. Finally, we do not wait if the current thread is executing a task of this
+	 * coordinator: This task is pending itself and if all pending tasks waited for capacity, then none of them would
+	 * ever terminate.
+	 */
+	final void awaitRegistrationCapacity(long cost) {
+		if (terminationTracker.isLimited() && !stopped && taskSubmissionPermitted && !Thread.holdsLock(this) && EXECUTING_BOUNDED_COORDINATOR.get() != this) {
+			terminationTracker.awaitCapacity(cost);
 		}
 	}
 
+	/**
+	 * Returns whether the number or the total cost of the pending tasks is limited. In that case, the handles have
+	 * to call their callables via {@link #callTask(ExceptionalCallable)}.
+	 */
+	public boolean isRegistrationBounded() {
+		return terminationTracker.isLimited();
+	}
+
+	/**
+	 * Calls the callable of a task of this coordinator such that tasks registered by the callable at this coordinator
+	 * do not wait for registration capacity (see {@link #awaitRegistrationCapacity(long)}).
+	 */
+	public <V> V callTask(ExceptionalCallable<V, ?> callable) throws Throwable {
+		ExecutionCoordinatorImpl previousCoordinator = EXECUTING_BOUNDED_COORDINATOR.get();
+		EXECUTING_BOUNDED_COORDINATOR.set(this);
+		try {
+			return callable.call();
+		} finally {
+			if (previousCoordinator == null) {
+				EXECUTING_BOUNDED_COORDINATOR.remove();
+			} else {
+				EXECUTING_BOUNDED_COORDINATOR.set(previousCoordinator);
+			}
+		}
+	}
+
+	private <C, H extends HandleImpl<?>> H createHandle(C callable, TaskConfiguration taskConfiguration, String taskName, long taskIndex, ExecutorServiceWrapper executorServiceWrapper, HandleConstructor<C, H> handleConstructor) {
+		ResourceShare resourceShare = taskConfiguration.createRequiredResourceShare();
+		boolean ignoreResult = taskConfiguration.isIgnoreResult();
+		long cost = taskConfiguration.getCost();
+		Duration deadline = taskConfiguration.getDeadline();
+		HedgingPolicy hedgingPolicy = taskConfiguration.getHedgingPolicy();
+		TaskResultCacheImpl resultCache = taskConfiguration.getResultCache();
+		Object resultCacheKey = taskConfiguration.getResultCacheKey();
+		H handle = handleConstructor.create(this, taskName, taskIndex, executorServiceWrapper, callable, resourceShare, cost, deadline, hedgingPolicy, resultCache, resultCacheKey, verifyDependencies, ignoreResult);
+		// propagate handle immediately after its creation before any logging or task execution
+		taskConfiguration.getHandleConsumer().accept(handle);
+		return handle;
+	}
+
 	public boolean supportsTaskType(TaskType taskType) {
 		return executorServiceWrappersByTaskType.containsKey(taskType);
 	}
@@ -114,8 +367,12 @@ public class ExecutionCoordinatorImpl implements ExecutionCoordinator
 	@Override
 	public void permitTaskSubmission(boolean permit) {
 		synchronized (this) {
-			_permitTaskSubmission = permit;
+			taskSubmissionPermitted = permit;
 			if (permit) {
+				if (criticalPathScheduling) {
+					// the first handles are submitted immediately, so they have to be the most critical ones
+					_pendingHandles.sort(Comparator.<HandleImpl<?>>comparingLong(HandleImpl::getCriticalPathLength).reversed());
+				}
 				_pendingHandles.forEach(HandleImpl::submit);
 				_pendingHandles.clear();
 			}
@@ -123,149 +380,358 @@ public class ExecutionCoordinatorImpl implements ExecutionCoordinator
 	}
 
 	/**
-	 * Submits the handle if {@link #_permitTaskSubmission} is {@code true} or collects it for later submission otherwise.
+	 * Submits the handle if {@link #taskSubmissionPermitted} is {@code true} or collects it for later submission otherwise.
+	 * The coordinator's lock is only acquired if task submission is not permitted.
 	 */
-	private void _scheduleForSubmission(HandleImpl<?> handle) {
-		if (_permitTaskSubmission) {
-			handle.submit();
-		} else {
-			_pendingHandles.add(handle);
+	private void scheduleForSubmission(HandleImpl<?> handle) {
+		if (!taskSubmissionPermitted) {
+			synchronized (this) {
+				if (!taskSubmissionPermitted) {
+					_pendingHandles.add(handle);
+					return;
+				}
+			}
+		}
+		handle.submit();
+	}
+
+	/**
+	 * Batch variant of {@link #scheduleForSubmission(HandleImpl)} for handles that share the same {@link ExecutorServiceWrapper}.
+	 */
+	private void scheduleForSubmission(List<HandleImpl<?>> handles, ExecutorServiceWrapper executorServiceWrapper) {
+		if (!taskSubmissionPermitted) {
+			synchronized (this) {
+				if (!taskSubmissionPermitted) {
+					_pendingHandles.addAll(handles);
+					return;
+				}
+			}
+		}
+		List<HandleImpl<?>> readyHandles = new ArrayList<>(handles.size());
+		for (HandleImpl<?> handle : handles) {
+			if (handle.prepareSubmission()) {
+				readyHandles.add(handle);
+			}
 		}
+		executorServiceWrapper.submitAll(readyHandles);
 	}
 
 	/**
-	 * @return The coordinators termination lock. This lock is held by all handles managed by the coordinator.
-	 * The coordinator will wait in its {@link #close()} method until all tasks have released it.<br>
+	 * @return The coordinator's termination tracker. All handles managed by the coordinator register at it.
+	 * The coordinator will wait in its {@link #close()} method until all of them have terminated.<br>
 	 * <br>
-	 * Handles must release it when terminating, either successfully or exceptionally, or when being stopped.
+	 * Handles must report to it when terminating, either successfully or exceptionally, or when being stopped.
 	 */
-	public Semaphore getTerminationLock() {
-		return terminationLock;
+	public TerminationTracker getTerminationTracker() {
+		return terminationTracker;
 	}
 
 	@Override
 	public void checkException() {
-		synchronized (this) {
-			_exceptionalState.checkException();
-		}
+		exceptionalState.checkException();
 	}
 
-	public void onCompletion(Handle handle) {
-		synchronized (this) {
-			List<Handle> executableHandles = _handleDependencyManager.getExecutableHandles(handle);
-			for (Handle executableHandle : executableHandles) {
-				_scheduleForSubmission((HandleImpl<?>) executableHandle);
-			}
+	/**
+	 * Schedules all successors of the completed handle that have become executable. If continuation handoff is
+	 * enabled, then one of them may be returned instead. This successor has already been submitted, but not to the
+	 * {@link java.util.concurrent.ExecutorService}. It must be executed by the current thread and takes over the
+	 * completed handle's slot of the {@link ExecutorServiceWrapper}.
+	 *
+	 * @param holdsSlot	{@code false} if the completed handle does not hold a slot that a successor could take over.
+	 *                  This is the case for handles that have been completed with a cached value.
+	 *
+	 * @return The successor the current thread has to execute or {@code null}
+	 */
+	public @Nullable HandleImpl<?> onCompletion(HandleImpl<?> handle, boolean holdsSlot) {
+		if (!continuationHandoff || !holdsSlot) {
+			handleDependencyManager.onCompletion(handle, this::scheduleForSubmission);
+			return null;
 		}
+		ContinuationSelector continuationSelector = new ContinuationSelector(handle.getExecutorServiceWrapper());
+		handleDependencyManager.onCompletion(handle, continuationSelector);
+		return continuationSelector.getContinuation();
+	}
+
+	/**
+	 * Called exactly once when a handle terminates. The coordinator does not need the handle anymore: It does not
+	 * have to be stopped, and its successors are referenced by the handle itself. Hence, the handle and its name
+	 * are retired such that the memory consumption of the coordinator does not grow with the number of processed
+	 * tasks.
+	 */
+	public void onTermination(HandleImpl<?> handle) {
+		handleDependencyManager.retire(handle);
+		taskNames.remove(handle.getTaskName());
 	}
 
 	public void onException(Handle handle) {
+		onException(handle.getException(), false);
+	}
+
+	private void onException(Throwable exception, boolean isInternalException) {
+		if (exceptionalState.setException(exception, isInternalException)) {
+			stop();
+		}
+	}
+
+	/**
+	 * Called by the deadline timer of a task if the task has exceeded its deadline. The exception is not considered
+	 * internal: If a task has thrown an exception before, then this exception is more informative.
+	 */
+	public void onDeadlineExceeded(DeadlineExceededException exception) {
+		onException(exception, false);
+	}
+
+	private void onDeadlineExceeded(Duration deadline) {
+		String error = MessageFormat.format("The coordinator has exceeded its deadline of {0} ms", deadline.toMillis());
+		onDeadlineExceeded(new DeadlineExceededException(error));
+	}
+
+	@Override
+	public <V> CompletionQueue<V> createCompletionQueue() {
+		return new CompletionQueueImpl<>(this);
+	}
+
+	/**
+	 * Registers a completion queue whose consuming thread is about to wait. The thread must check whether the
+	 * coordinator has stopped after calling this method. Since both, registering and stopping, synchronize on the
+	 * coordinator, either the thread sees the stop flag or {@link #stop()} informs the queue.
+	 */
+	void addWaitingCompletionQueue(CompletionQueueImpl<?> completionQueue) {
 		synchronized (this) {
-			_onException(handle.getException(), false);
+			_waitingCompletionQueues.add(completionQueue);
 		}
 	}
 
-	private void _onException(Throwable exception, boolean isInternalException) {
-		if (_exceptionalState.setException(exception, isInternalException)) {
-			stop();
+	void removeWaitingCompletionQueue(CompletionQueueImpl<?> completionQueue) {
+		synchronized (this) {
+			_waitingCompletionQueues.remove(completionQueue);
 		}
 	}
 
 	@Override
 	public void stop() {
 		synchronized (this) {
-			Collection<Handle> managedHandles = _handleDependencyManager.getManagedHandles();
+			if (stopped) {
+				return;
+			}
+			/*
+			 * Set the flag before stopping the handles such that handles that change their stage concurrently
+			 * do not submit or start tasks anymore.
+			 */
+			stopped = true;
+			Collection<Handle> managedHandles = handleDependencyManager.getManagedHandles();
 			for (Handle managedHandle : managedHandles) {
-				((HandleImpl<?>) managedHandle)._stop();
+				((HandleImpl<?>) managedHandle).stop();
+			}
+			for (CompletionQueueImpl<?> completionQueue : _waitingCompletionQueues) {
+				completionQueue.onCoordinatorStopped();
 			}
-			_stopped = true;
+			terminationTracker.onCoordinatorStopped();
 		}
 	}
 
-	public final boolean _hasStopped() {
-		return _stopped;
+	public final boolean hasStopped() {
+		return stopped;
 	}
 
-	public void _log(Handle handle, String message) {
-		if (_exceptionalState.isLoggerFaulty()) {
+	public void logStateChange(HandleImpl<?> handle, TaskStage stage) {
+		TaskEventListener listener = eventListener;
+		if (listener == null || !isSampled(handle)) {
 			return;
 		}
 
-		try {
-			_logger.log(handle, message);
-		} catch (Throwable t) {
-			_exceptionalState.onLoggerException(t);
+		synchronized (eventListenerLock) {
+			try {
+				listener.onStageChange(handle, stage);
+			} catch (Throwable t) {
+				onEventListenerException(t);
+			}
 		}
 	}
 
-	public void _logStateChange(Handle handle, TaskStage stage) {
-		if (_exceptionalState.isLoggerFaulty()) {
+	public <V> void logResult(HandleImpl<V> handle, @Nullable V result) {
+		TaskEventListener listener = eventListener;
+		if (listener == null || !isSampled(handle)) {
 			return;
 		}
 
-		try {
-			_logger.logStateChange(handle, stage);
-		} catch (Throwable t) {
-			_exceptionalState.onLoggerException(t);
+		synchronized (eventListenerLock) {
+			try {
+				listener.onResult(handle, handle.getReportedResult(result));
+			} catch (Throwable t) {
+				onEventListenerException(t);
+			}
 		}
 	}
 
-	public void _logError(Handle handle, String error, @Nullable Throwable cause) {
-		if (_exceptionalState.isLoggerFaulty()) {
+	public void logException(HandleImpl<?> handle, Throwable exception) {
+		TaskEventListener listener = eventListener;
+		if (listener == null || !isSampled(handle)) {
 			return;
 		}
 
-		try {
-			_logger.logError(handle, error, cause);
-			_onException(new CoordinatorException(error, cause), true);
-		} catch (Throwable t) {
-			_exceptionalState.onLoggerException(t);
+		synchronized (eventListenerLock) {
+			try {
+				listener.onException(handle, exception);
+			} catch (Throwable t) {
+				onEventListenerException(t);
+			}
+		}
+	}
+
+	public void logError(Handle handle, String error, @Nullable Throwable cause) {
+		TaskEventListener listener = eventListener;
+		if (listener != null) {
+			synchronized (eventListenerLock) {
+				try {
+					listener.onError(handle, error, cause);
+				} catch (Throwable t) {
+					onEventListenerException(t);
+					return;
+				}
+			}
 		}
+		// must not be called while holding the event listener lock because stopping the coordinator requires the coordinator's lock
+		onException(new CoordinatorException(error, cause), true);
+	}
+
+	/**
+	 * Ensures that exceptions of asynchronous event listeners are handled like exceptions of synchronous
+	 * listeners before the coordinator checks for exceptions the last time.
+	 */
+	private void flushEvents() {
+		TaskEventListener listener = eventListener;
+		if (listener == null) {
+			return;
+		}
+
+		synchronized (eventListenerLock) {
+			try {
+				listener.flush();
+			} catch (Throwable t) {
+				onEventListenerException(t);
+			}
+		}
+	}
+
+	private boolean isSampled(HandleImpl<?> handle) {
+		return eventSamplingRate == 1 || handle.getId() % eventSamplingRate == 0;
+	}
+
+	/**
+	 * A faulty event listener is not called anymore.
+	 */
+	private void onEventListenerException(Throwable t) {
+		eventListener = null;
+		exceptionalState.onLoggerException(t);
 	}
 
 	@Override
 	public void close() {
 		Throwable throwable = null;
 		try {
-			if (!_permitTaskSubmission) {
+			if (!taskSubmissionPermitted) {
 				stop();
 			}
 			try {
-				terminationLock.acquire(MAX_NUM_TASKS);
+				terminationTracker.awaitTermination();
 			} catch (InterruptedException e) {
 				stop();
-				terminationLock.acquireUninterruptibly(MAX_NUM_TASKS);
+				terminationTracker.awaitTerminationUninterruptibly();
 				Thread.currentThread().interrupt();
 			}
+			if (deadlineTimer != null) {
+				deadlineTimer.cancel(false);
+			}
+			flushEvents();
 			checkException();
 		} finally {
-			for (ExecutorServiceWrapper executorServiceWrapper : executorServiceWrappersByTaskType.values()) {
-				try {
-					executorServiceWrapper.close();
-				} catch (Throwable t) {
-					if (throwable == null) {
-						throwable = t;
-					}
-				}
-			}
+			throwable = releaseExecutorServiceWrappers();
 		}
 		if (throwable != null) {
 			throw new CoordinatorException("Exception when closing executor services: " + throwable.getMessage(), throwable);
 		}
 	}
 
+	/**
+	 * Called at the end of {@link #close()}. A coordinator owns its {@link ExecutorServiceWrapper}s and closes them,
+	 * which shuts down the {@link ExecutorService}s if required. Scopes of a service coordinator must not close the
+	 * wrappers because they share them with the service.
+	 *
+	 * @return the first exception that has been thrown when closing the wrappers or {@code null}
+	 */
+	@Nullable Throwable releaseExecutorServiceWrappers() {
+		Throwable throwable = null;
+		for (ExecutorServiceWrapper executorServiceWrapper : executorServiceWrappersByTaskType.values()) {
+			try {
+				executorServiceWrapper.close();
+			} catch (Throwable t) {
+				if (throwable == null) {
+					throwable = t;
+				}
+			}
+		}
+		return throwable;
+	}
+
 	@Override
 	public final <T extends Throwable> Handle execute(ExceptionalRunnable<T> runnable) throws T {
-		return configure().execute(runnable);
+		// use the shared default configuration instead of creating a builder and a configuration for every task
+		ExceptionalCallable<Void, T> callable = () -> {
+			runnable.run();
+			return null;
+		};
+		return execute(callable, TaskConfiguration.getDefaultConfiguration(true));
 	}
 
 	@Override
 	public final <V, T extends Throwable> ResultHandle<V> execute(ExceptionalCallable<V, T> callable) throws T {
-		return configure().execute(callable);
+		return execute(callable, TaskConfiguration.getDefaultConfiguration(false));
+	}
+
+	@Override
+	public final <V, T extends Throwable> ResultHandleGroup<V> executeAll(Collection<? extends ExceptionalCallable<V, T>> callables) throws T {
+		return configure().executeAll(callables);
 	}
 
 	@Override
 	public ExecutionConfigurationBuilder configure() {
 		return new ExecutionConfigurationBuilderImpl(this);
 	}
+
+	/**
+	 * Selects the first executable successor that can take over the slot of the completed handle as continuation
+	 * and schedules all other successors for submission.
+	 */
+	private class ContinuationSelector implements Consumer<HandleImpl<?>>
+	{
+		private final ExecutorServiceWrapper	executorServiceWrapper;
+		private @Nullable HandleImpl<?>			continuation;
+
+		ContinuationSelector(ExecutorServiceWrapper executorServiceWrapper) {
+			this.executorServiceWrapper = executorServiceWrapper;
+		}
+
+		@Override
+		public void accept(HandleImpl<?> successor) {
+			if (continuation == null && canBecomeContinuation(successor)) {
+				// the successor might have been stopped concurrently; in that case there is nothing left to do
+				if (successor.prepareSubmission() && successor.onSubmission()) {
+					continuation = successor;
+				}
+				return;
+			}
+			scheduleForSubmission(successor);
+		}
+
+		private boolean canBecomeContinuation(HandleImpl<?> successor) {
+			return successor.getExecutorServiceWrapper() == executorServiceWrapper
+				&& taskSubmissionPermitted
+				&& executorServiceWrapper.canHandOverSlotTo(successor);
+		}
+
+		@Nullable HandleImpl<?> getContinuation() {
+			return continuation;
+		}
+	}
 }
@@ -9,7 +9,9 @@ class ExecutionCoordinatorUtils
 {
 	/**
 	 * Generates a task name based on the {@link TaskConfiguration} and the task index, taking the already generated
-	 * {@code taskNames} into account to prevent multiple tasks from having the same name.<br>
+	 * {@code taskNames} into account to prevent multiple tasks from having the same name. The coordinator removes
+	 * the names of terminated tasks from {@code taskNames}. Hence, names are only unique among the tasks that have
+	 * not yet terminated.<br>
 	 * <br>
 	 * If a task name is specified by {@code taskConfiguration}, then this name is used as initial suggestion. Otherwise,
 	 * a generic name based on the task's index is used. If this initial suggestion has not yet been assigned to any
@@ -17,25 +19,45 @@ class ExecutionCoordinatorUtils
 	 * has not yet been assigned to any of the tasks is generated by appending suffixes " (2)", " (3)", ...<br>
 	 * <br>
 	 * The returned task name is also added to the set of task names to ensure that subsequent calls of this method do
-	 * not return the same task name again.s
+	 * not return the same task name again. If this method is called concurrently, then {@code taskNames} must be
+	 * thread-safe.
 	 */
-	static String generateTaskName(TaskConfiguration taskConfiguration, int taskIndex, Set<String> taskNames) {
+	static String generateTaskName(TaskConfiguration taskConfiguration, long taskIndex, Set<String> taskNames) {
 		Optional<String> taskName = taskConfiguration.getName();
 		String nameSuggestion = taskName.isPresent() ? taskName.get() : createGenericTaskName(taskIndex);
 		return createUniqueTaskName(nameSuggestion, taskNames);
 	}
 
-	private static String createGenericTaskName(int taskIndex) {
+	/**
+	 * Reserves the specified task names, which must be pairwise distinct, in one pass. Names that have already been
+	 * assigned to tasks that have not yet terminated are made unique as in
+	 * {@link #generateTaskName(TaskConfiguration, long, Set)}. Otherwise, the specified {@code String} instances are
+	 * reused, so no names are created.
+	 *
+	 * @return the reserved task names in the same order
+	 */
+	static String[] reserveTaskNames(String[] names, Set<String> taskNames) {
+		String[] reservedNames = names.clone();
+		for (int i = 0; i < reservedNames.length; i++) {
+			String name = reservedNames[i];
+			if (!taskNames.add(name)) {
+				reservedNames[i] = createUniqueTaskName(name, taskNames);
+			}
+		}
+		return reservedNames;
+	}
+
+	private static String createGenericTaskName(long taskIndex) {
 		return "Task " + (taskIndex + 1);
 	}
 
 	private static String createUniqueTaskName(String suggestion, Set<String> taskNames) {
 		String name = suggestion;
 		int index = 2;
-		while (taskNames.contains(name)) {
+		// adding and checking in one step is required when task names are generated concurrently
+		while (!taskNames.add(name)) {
 			name = suggestion + " (" + index++ + ")";
 		}
-		taskNames.add(name);
 		return name;
 	}
 }
@@ -1,63 +1,101 @@
 package dd.kms.hippodamus.impl.coordinator;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Multimap;
 import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.impl.handles.HandleImpl;
 
-import java.util.*;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+/**
+ * Handles the dependencies between handles. Every handle carries an atomic counter of its pending dependencies
+ * and an append-only list of its successors (see {@link HandleImpl#addSuccessor(HandleImpl)}). When a handle
+ * completes, the counters of its successors are decreased. Successors whose counters drop to 0 can be submitted.
+ * Hence, resolving dependencies neither requires a lock nor the mutation of any collection.
+ */
 class HandleDependencyManager
 {
 	/**
-	 * The minimum number of elements to store in a collection for which we think
-	 * that element removal is cheaper in a {@link Set} than in a {@link LinkedList}.
+	 * The handles that have not yet terminated. Handles may be registered and retired by multiple threads
+	 * concurrently.
 	 */
-	private static final int	SET_THRESHOLD	= 5;
+	private final Collection<Handle>	managedHandles	= ConcurrentHashMap.newKeySet();
 
-	private final Multimap<Handle, Handle>			dependentHandles			= ArrayListMultimap.create();
-	private final Map<Handle, Collection<Handle>>	pendingHandleDependencies	= new HashMap<>();
-
-	void addDependencies(Handle handle, Collection<Handle> dependencies) {
-		Collection<Handle> handleDependencies = dependencies.size() >= SET_THRESHOLD ? new HashSet<>() : new LinkedList<>();
+	/**
+	 * Registers the handle and its dependencies.
+	 *
+	 * @return {@code true} if all dependencies have already completed, i.e., if the handle can be submitted
+	 */
+	boolean addDependencies(HandleImpl<?> handle, Collection<? extends Handle> dependencies) {
+		managedHandles.add(handle);
 		for (Handle dependency : dependencies) {
 			if (dependency.hasCompleted()) {
 				continue;
 			}
-			dependentHandles.put(dependency, handle);
-			handleDependencies.add(dependency);
+			if (!((HandleImpl<?>) dependency).addSuccessor(handle) && dependency.hasCompleted()) {
+				// dependency has completed in the meantime
+				handle.onDependencyResolved();
+			}
 		}
-		pendingHandleDependencies.put(handle, handleDependencies);
+		// release the counter increment that prevents submission during registration
+		return handle.onDependencyResolved();
 	}
 
-	Collection<Handle> getManagedHandles() {
-		return pendingHandleDependencies.keySet();
+	/**
+	 * Updates the critical path lengths of the dependencies of {@code handle}, and transitively of their
+	 * dependencies, to consider {@code handle}. The critical path length of a handle is the maximum total cost of
+	 * all chains of dependent tasks starting with this handle. Since critical path lengths only increase, the
+	 * update stops at handles whose lengths do not change. Handles may be registered concurrently: Every thread
+	 * that increases the length of a handle propagates this increase itself.
+	 */
+	void updateCriticalPathLengths(HandleImpl<?> handle, Collection<? extends Handle> dependencies) {
+		handle.setDependencies(dependencies);
+		Deque<HandleImpl<?>> handlesToPropagate = new ArrayDeque<>();
+		handlesToPropagate.push(handle);
+		while (!handlesToPropagate.isEmpty()) {
+			HandleImpl<?> successor = handlesToPropagate.pop();
+			long criticalPathLength = successor.getCriticalPathLength();
+			for (Handle dependency : successor.getDependencies()) {
+				HandleImpl<?> dependencyImpl = (HandleImpl<?>) dependency;
+				if (!dependencyImpl.hasCompleted() && dependencyImpl.increaseCriticalPathLength(dependencyImpl.getCost() + criticalPathLength)) {
+					handlesToPropagate.push(dependencyImpl);
+				}
+			}
+		}
 	}
 
-	int getNumberOfManagedHandles() {
-		return getManagedHandles().size();
+	/**
+	 * Removes a terminated handle. A terminated handle is never submitted, so its dependencies are not required
+	 * for updating critical path lengths anymore. Hence, they are released as well. Otherwise, every handle would keep all of its
+	 * transitive dependencies alive.
+	 */
+	void retire(HandleImpl<?> handle) {
+		managedHandles.remove(handle);
+		if (!handle.getDependencies().isEmpty()) {
+			handle.setDependencies(Collections.emptyList());
+		}
 	}
 
-	List<Handle> getDependentHandles(Handle handle) {
-		return (List<Handle>) dependentHandles.get(handle);
+	/**
+	 * Returns a weakly consistent view of the managed handles. Handles that are registered while iterating
+	 * over this collection might not be considered.
+	 */
+	Collection<Handle> getManagedHandles() {
+		return managedHandles;
 	}
 
 	/**
-	 * This method is called when a handle completes. It returns the handles that can now be executed.
+	 * This method is called when a handle completes. It passes the handles that can now be executed to
+	 * {@code executableHandleConsumer}.
 	 */
-	List<Handle> getExecutableHandles(Handle completedHandle) {
-		List<Handle> dependentHandles = getDependentHandles(completedHandle);
-		List<Handle> executableHandles = null;
-		for (Handle dependentHandle : dependentHandles) {
-			Collection<Handle> dependencies = pendingHandleDependencies.get(dependentHandle);
-			dependencies.remove(completedHandle);
-			if (dependencies.isEmpty()) {
-				if (executableHandles == null) {
-					executableHandles = new ArrayList<>();
-				}
-				executableHandles.add(dependentHandle);
+	void onCompletion(HandleImpl<?> completedHandle, Consumer<HandleImpl<?>> executableHandleConsumer) {
+		completedHandle.closeSuccessors(successor -> {
+			if (successor.onDependencyResolved()) {
+				executableHandleConsumer.accept(successor);
 			}
-		}
-		return executableHandles == null ? ImmutableList.of() : executableHandles;
+		});
 	}
 }
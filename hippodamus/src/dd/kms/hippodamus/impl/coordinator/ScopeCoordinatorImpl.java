@@ -0,0 +1,25 @@
+package dd.kms.hippodamus.impl.coordinator;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+
+/**
+ * A scope of a {@link ServiceCoordinatorImpl}. It uses the {@link ExecutorServiceWrapper}s of the service, but it does
+ * not close them when being closed. Instead, it informs the service that it has been closed.
+ */
+class ScopeCoordinatorImpl extends ExecutionCoordinatorImpl
+{
+	private final ServiceCoordinatorImpl	service;
+
+	ScopeCoordinatorImpl(ServiceCoordinatorImpl service, int maxPendingTasks, long maxPendingTaskCost) {
+		super(service, maxPendingTasks, maxPendingTaskCost);
+		this.service = service;
+	}
+
+	@Override
+	@Nullable Throwable releaseExecutorServiceWrappers() {
+		service.onScopeClosed(this);
+		return null;
+	}
+}
@@ -0,0 +1,116 @@
+package dd.kms.hippodamus.impl.coordinator;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.coordinator.ServiceCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+
+/**
+ * An {@link ExecutionCoordinatorImpl} that additionally manages scopes. Scopes are {@link ScopeCoordinatorImpl}s
+ * that share the {@link ExecutorServiceWrapper}s of the service. Hence, the service must not close the wrappers
+ * before all scopes have been closed.
+ */
+public class ServiceCoordinatorImpl extends ExecutionCoordinatorImpl implements ServiceCoordinator
+{
+	private final int							maxPendingTasks;
+	private final long							maxPendingTaskCost;
+
+	/**
+	 * The scopes that have been opened, but not yet closed. This field is guarded by the coordinator's lock.
+	 */
+	private final Set<ScopeCoordinatorImpl>		_openScopes			= new HashSet<>();
+
+	/**
+	 * Set when the service is being closed. Afterwards, no scopes can be opened anymore. This field is guarded by
+	 * the coordinator's lock.
+	 */
+	private boolean								_draining			= false;
+
+	public ServiceCoordinatorImpl(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
+		super(executorServiceWrappersByTaskType, eventListener, eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maxPendingTasks, maxPendingTaskCost);
+		this.maxPendingTasks = maxPendingTasks;
+		this.maxPendingTaskCost = maxPendingTaskCost;
+	}
+
+	@Override
+	public ExecutionCoordinator openScope() {
+		checkException();
+		synchronized (this) {
+			Preconditions.checkState(!_draining, "Cannot open a scope because the service coordinator is being closed");
+			ScopeCoordinatorImpl scope = new ScopeCoordinatorImpl(this, maxPendingTasks, maxPendingTaskCost);
+			if (hasStopped()) {
+				// stop() has already stopped the other scopes
+				scope.stop();
+			}
+			_openScopes.add(scope);
+			return scope;
+		}
+	}
+
+	@Override
+	public synchronized int getNumberOfOpenScopes() {
+		return _openScopes.size();
+	}
+
+	void onScopeClosed(ScopeCoordinatorImpl scope) {
+		synchronized (this) {
+			if (_openScopes.remove(scope)) {
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Also called when a task of the service has thrown an exception. In that case, the scopes are stopped as well.
+	 */
+	@Override
+	public void stop() {
+		synchronized (this) {
+			super.stop();
+			for (ScopeCoordinatorImpl scope : _openScopes) {
+				scope.stop();
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		drain();
+		super.close();
+	}
+
+	/**
+	 * Waits until all open scopes have been closed. If the current thread is interrupted, then the service and all
+	 * scopes are stopped. In that case, we still wait for the scopes to be closed because they still use the
+	 * {@link ExecutorServiceWrapper}s. The interruption flag is restored afterwards such that the base implementation
+	 * of {@link #close()} handles the interruption as well.
+	 */
+	private void drain() {
+		boolean interrupted = false;
+		synchronized (this) {
+			_draining = true;
+			while (!_openScopes.isEmpty()) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					if (!interrupted) {
+						interrupted = true;
+						stop();
+					}
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package dd.kms.hippodamus.impl.coordinator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps track of the tasks that have not yet terminated. The coordinator waits in {@link ExecutionCoordinatorImpl#close()}
+ * until all tasks have terminated.<br>
+ * <br>
+ * Registering and terminating tasks happens in many threads concurrently. Instead of one shared counter, we use
+ * two {@link LongAdder}s that count the registered and the terminated tasks, respectively. Since both counters only
+ * increase, all tasks have terminated if both counters have the same value. Only the thread that closes the coordinator
+ * has to compare the sums. It is the only thread that waits and it is woken up whenever a task terminates while it is
+ * waiting.<br>
+ * <br>
+ * If the number or the total cost of the pending tasks, i.e., tasks that have been registered, but have not yet
+ * terminated, is limited, then the tracker also lets registering threads wait until the pending tasks are below
+ * these limits (see {@link #awaitCapacity(long)}).
+ */
+public class TerminationTracker
+{
+	private final LongAdder			numRegisteredTasks		= new LongAdder();
+	private final LongAdder			numTerminatedTasks		= new LongAdder();
+
+	/**
+	 * The total costs of the registered and the terminated tasks, respectively. They are only maintained if the
+	 * total cost of the pending tasks is limited.
+	 */
+	private final LongAdder			registeredCost			= new LongAdder();
+	private final LongAdder			terminatedCost			= new LongAdder();
+
+	/**
+	 * {@code Integer.MAX_VALUE} and {@code Long.MAX_VALUE}, respectively, if not limited
+	 */
+	private final int				maxPendingTasks;
+	private final long				maxPendingTaskCost;
+
+	/**
+	 * The threads that wait in {@link #awaitCapacity(long)}. Only accessed if the pending tasks are limited.
+	 */
+	private final Queue<Thread>		waitingRegistrants		= new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Set when the coordinator has been stopped. Registering threads must not wait anymore because tasks that are
+	 * registered afterwards are not tracked.
+	 */
+	private volatile boolean		stopped;
+
+	/**
+	 * The thread waiting in {@link #awaitTermination()}. There is at most one such thread: the one that closes the
+	 * coordinator.
+	 */
+	private volatile Thread			waitingThread;
+
+	TerminationTracker(int maxPendingTasks, long maxPendingTaskCost) {
+		this.maxPendingTasks = maxPendingTasks;
+		this.maxPendingTaskCost = maxPendingTaskCost;
+	}
+
+	/**
+	 * Must be called once for every task before it can terminate. Every task that has been registered must
+	 * call {@link #onTaskTerminated(long)} exactly once with the same cost.
+	 */
+	public void onTaskRegistered(long cost) {
+		numRegisteredTasks.increment();
+		if (isCostLimited()) {
+			registeredCost.add(cost);
+		}
+	}
+
+	public void onTaskTerminated(long cost) {
+		if (isCostLimited()) {
+			terminatedCost.add(cost);
+		}
+		numTerminatedTasks.increment();
+		Thread thread = waitingThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+		if (isLimited() && !waitingRegistrants.isEmpty()) {
+			unparkWaitingRegistrants();
+		}
+	}
+
+	void onCoordinatorStopped() {
+		stopped = true;
+		if (isLimited()) {
+			unparkWaitingRegistrants();
+		}
+	}
+
+	private void unparkWaitingRegistrants() {
+		for (Thread registrant : waitingRegistrants) {
+			LockSupport.unpark(registrant);
+		}
+	}
+
+	boolean isLimited() {
+		return maxPendingTasks != Integer.MAX_VALUE || isCostLimited();
+	}
+
+	private boolean isCostLimited() {
+		return maxPendingTaskCost != Long.MAX_VALUE;
+	}
+
+	/**
+	 * Waits until a task with the specified cost can be registered without exceeding the limits for the pending
+	 * tasks. A task is always accepted if there are no pending tasks, even if its cost exceeds the limit. Otherwise,
+	 * it would never be accepted.<br>
+	 * <br>
+	 * Like {@code ResultHandle.get()}, this method does not swallow interruption requests, but it does not react
+	 * to them either. Callers should check {@link #isLimited()} first.
+	 */
+	void awaitCapacity(long cost) {
+		if (stopped || hasCapacity(cost)) {
+			return;
+		}
+		Thread currentThread = Thread.currentThread();
+		boolean interrupted = Thread.interrupted();
+		// register before checking again such that a terminating task either sees this thread or frees capacity before the check
+		waitingRegistrants.add(currentThread);
+		try {
+			while (!stopped && !hasCapacity(cost)) {
+				LockSupport.park(this);
+				interrupted |= Thread.interrupted();
+			}
+		} finally {
+			waitingRegistrants.remove(currentThread);
+			if (interrupted) {
+				currentThread.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Terminated tasks are read before registered tasks for the same reason as in {@link #haveAllTasksTerminated()}.
+	 * Concurrent changes can only make us overestimate the pending tasks. In that case, we wait for the next task to
+	 * terminate and check again.
+	 */
+	private boolean hasCapacity(long cost) {
+		long pendingCost = 0;
+		if (isCostLimited()) {
+			long terminated = terminatedCost.sum();
+			pendingCost = registeredCost.sum() - terminated;
+		}
+		long numTerminated = numTerminatedTasks.sum();
+		long numPendingTasks = numRegisteredTasks.sum() - numTerminated;
+		return numPendingTasks == 0
+			|| numPendingTasks < maxPendingTasks && pendingCost + cost <= maxPendingTaskCost;
+	}
+
+	/**
+	 * Waits until all registered tasks have terminated, including tasks that are registered while waiting.
+	 */
+	void awaitTermination() throws InterruptedException {
+		waitingThread = Thread.currentThread();
+		try {
+			while (!haveAllTasksTerminated()) {
+				LockSupport.park(this);
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+			}
+		} finally {
+			waitingThread = null;
+		}
+	}
+
+	void awaitTerminationUninterruptibly() {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				awaitTermination();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * The number of terminated tasks must be read before the number of registered tasks: A task is always registered
+	 * before it terminates. Hence, if the number of terminated tasks read first equals the number of registered tasks
+	 * read afterwards, then there was a point of time at which all registered tasks had terminated. Reading the counters
+	 * in the opposite order, we could miss a task that is registered and terminates in between.
+	 */
+	private boolean haveAllTasksTerminated() {
+		long numTerminated = numTerminatedTasks.sum();
+		long numRegistered = numRegisteredTasks.sum();
+		return numTerminated == numRegistered;
+	}
+}
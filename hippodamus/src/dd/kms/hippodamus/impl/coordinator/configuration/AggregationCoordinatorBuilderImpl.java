@@ -1,12 +1,15 @@
 package dd.kms.hippodamus.impl.coordinator.configuration;
 
+import java.time.Duration;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import dd.kms.hippodamus.api.aggregation.Aggregator;
 import dd.kms.hippodamus.api.coordinator.AggregationCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder;
-import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
 import dd.kms.hippodamus.impl.coordinator.AggregationCoordinatorImpl;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
 
@@ -26,7 +29,7 @@ public class AggregationCoordinatorBuilderImpl<S, R>
 	}
 
 	@Override
-	AggregationCoordinator<S, R> createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, Logger logger, boolean verifyDependencies) {
-		return new AggregationCoordinatorImpl<>(aggregator, executorServiceWrappersByTaskType, logger, verifyDependencies);
+	AggregationCoordinator<S, R> createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
+		return new AggregationCoordinatorImpl<>(aggregator, executorServiceWrappersByTaskType, eventListener, eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maxPendingTasks, maxPendingTaskCost);
 	}
 }
@@ -1,41 +1,64 @@
 package dd.kms.hippodamus.impl.coordinator.configuration;
 
 import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
 import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+import dd.kms.hippodamus.impl.execution.AdaptiveParallelismImpl;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+import dd.kms.hippodamus.impl.execution.ParallelismBudget;
+import dd.kms.hippodamus.impl.execution.SharedExecutorServices;
+import dd.kms.hippodamus.impl.logging.CompoundEventListener;
+import dd.kms.hippodamus.impl.logging.LoggerEventListener;
 import dd.kms.hippodamus.impl.logging.NoLogger;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
 /**
- * Base class for {@link ExecutionCoordinatorBuilderImpl} and {@link AggregationCoordinatorBuilderImpl}
- * to avoid implementing all methods of {@link dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder}
- * by delegating to the super method and returning a more concrete type.
+ * Base class for {@link ExecutionCoordinatorBuilderImpl}, {@link AggregationCoordinatorBuilderImpl}, and
+ * {@link ServiceCoordinatorBuilderImpl} to avoid implementing all methods of
+ * {@link dd.kms.hippodamus.api.coordinator.configuration.AggregationCoordinatorBuilder} and
+ * {@link dd.kms.hippodamus.api.coordinator.configuration.ServiceCoordinatorBuilder} by delegating to the super
+ * method and returning a more concrete type.
  */
 abstract class CoordinatorBuilderBase<B extends ExecutionCoordinatorBuilder, C extends ExecutionCoordinator> implements ExecutionCoordinatorBuilder
 {
+	/**
+	 * Blocking tasks that are executed by the shared blocking {@link ExecutorService} are executed sequentially
+	 * unless a different maximum parallelism or an adaptive parallelism is specified.
+	 */
+	private static final int							DEFAULT_BLOCKING_PARALLELISM		= 1;
+
 	private final Map<TaskType, ExecutorService>		executorServicesByTaskType			= new HashMap<>();
 	private final Set<TaskType> 						taskTypesThatRequireShutdown		= new HashSet<>();
 	private final Map<TaskType, Integer>				maximumParallelismByTaskType		= new HashMap<>();
+	private int											maximumTotalParallelism				= Integer.MAX_VALUE;
+	private final Map<TaskType, Integer>				reservedParallelismByTaskType		= new HashMap<>();
+	private final Map<TaskType, AdaptiveParallelismImpl>	adaptiveParallelismByTaskType		= new HashMap<>();
 	private Logger										logger								= NoLogger.LOGGER;
+	private @Nullable TaskEventListener					eventListener						= null;
+	private int											eventSamplingRate					= 1;
 	private boolean										verifyDependencies					= false;
-
-	CoordinatorBuilderBase() {
-		maximumParallelism(TaskType.COMPUTATIONAL, Integer.MAX_VALUE);
-		executorService(TaskType.BLOCKING, Executors.newWorkStealingPool(1), true);
-	}
+	private boolean										continuationHandoff					= false;
+	private boolean										criticalPathScheduling				= false;
+	private @Nullable Duration							deadline							= null;
+	private int											maximumPendingTasks					= Integer.MAX_VALUE;
+	private long										maximumPendingTaskCost				= Long.MAX_VALUE;
 
 	abstract B getBuilder();
-	abstract C createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, Logger logger, boolean verifyDependencies);
+	abstract C createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost);
 
 	@Override
 	public B executorService(TaskType taskType, ExecutorService executorService, boolean shutdownRequired) {
@@ -55,40 +78,157 @@ abstract class CoordinatorBuilderBase<B extends ExecutionCoordinatorBuilder, C e
 		return getBuilder();
 	}
 
+	@Override
+	public B maximumTotalParallelism(int maxParallelism) {
+		Preconditions.checkArgument(maxParallelism > 0, "Maximum parallelism must be positive");
+		this.maximumTotalParallelism = maxParallelism;
+		return getBuilder();
+	}
+
+	@Override
+	public B reservedParallelism(TaskType taskType, int reservedParallelism) {
+		Preconditions.checkArgument(reservedParallelism >= 0, "Reserved parallelism must not be negative");
+		reservedParallelismByTaskType.put(taskType, reservedParallelism);
+		return getBuilder();
+	}
+
+	@Override
+	public B adaptiveParallelism(TaskType taskType, AdaptiveParallelism adaptiveParallelism) {
+		Preconditions.checkArgument(adaptiveParallelism instanceof AdaptiveParallelismImpl, "Adaptive parallelism must be created via Coordinators.createAdaptiveParallelism()");
+		adaptiveParallelismByTaskType.put(taskType, (AdaptiveParallelismImpl) adaptiveParallelism);
+		return getBuilder();
+	}
+
 	@Override
 	public B logger(Logger logger) {
 		this.logger = logger;
 		return getBuilder();
 	}
 
+	@Override
+	public B eventListener(TaskEventListener eventListener) {
+		this.eventListener = eventListener;
+		return getBuilder();
+	}
+
+	@Override
+	public B eventSamplingRate(int samplingRate) {
+		Preconditions.checkArgument(samplingRate > 0, "Sampling rate must be positive");
+		this.eventSamplingRate = samplingRate;
+		return getBuilder();
+	}
+
 	@Override
 	public B verifyDependencies(boolean verifyDependencies) {
 		this.verifyDependencies = verifyDependencies;
 		return getBuilder();
 	}
 
+	@Override
+	public B continuationHandoff(boolean continuationHandoff) {
+		this.continuationHandoff = continuationHandoff;
+		return getBuilder();
+	}
+
+	@Override
+	public B criticalPathScheduling(boolean criticalPathScheduling) {
+		this.criticalPathScheduling = criticalPathScheduling;
+		return getBuilder();
+	}
+
+	@Override
+	public B deadline(Duration deadline) {
+		Preconditions.checkArgument(!deadline.isNegative() && !deadline.isZero(), "The deadline of a coordinator must be positive");
+		this.deadline = deadline;
+		return getBuilder();
+	}
+
+	@Override
+	public B maximumPendingTasks(int maxPendingTasks) {
+		Preconditions.checkArgument(maxPendingTasks > 0, "Maximum number of pending tasks must be positive");
+		this.maximumPendingTasks = maxPendingTasks;
+		return getBuilder();
+	}
+
+	@Override
+	public B maximumPendingTaskCost(long maxPendingTaskCost) {
+		Preconditions.checkArgument(maxPendingTaskCost > 0, "Maximum cost of pending tasks must be positive");
+		this.maximumPendingTaskCost = maxPendingTaskCost;
+		return getBuilder();
+	}
+
 	@Override
 	public C build() {
 		Set<TaskType> taskTypes = getConfiguredTaskTypes();
+		ParallelismBudget parallelismBudget = createParallelismBudget();
 		Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType = new HashMap<>();
 		for (TaskType taskType : taskTypes) {
 			ExecutorService executorService = executorServicesByTaskType.get(taskType);
+			AdaptiveParallelismImpl adaptiveParallelism = adaptiveParallelismByTaskType.get(taskType);
+			int defaultMaxParallelism = Integer.MAX_VALUE;
 			if (executorService == null) {
-				executorService = ForkJoinPool.commonPool();
+				if (taskType == TaskType.BLOCKING) {
+					executorService = SharedExecutorServices.getBlockingExecutorService();
+					if (adaptiveParallelism == null) {
+						defaultMaxParallelism = DEFAULT_BLOCKING_PARALLELISM;
+					}
+				} else {
+					executorService = ForkJoinPool.commonPool();
+				}
 			}
 			boolean shutdownRequired = taskTypesThatRequireShutdown.contains(taskType);
-			int maxParallelism = maximumParallelismByTaskType.getOrDefault(taskType, Integer.MAX_VALUE);
-			ExecutorServiceWrapper executorServiceWrapper = new ExecutorServiceWrapper(executorService, shutdownRequired, maxParallelism);
+			int maxParallelism = maximumParallelismByTaskType.getOrDefault(taskType, defaultMaxParallelism);
+			int reservedParallelism = reservedParallelismByTaskType.getOrDefault(taskType, 0);
+			ExecutorServiceWrapper executorServiceWrapper = new ExecutorServiceWrapper(executorService, shutdownRequired, maxParallelism, criticalPathScheduling, parallelismBudget, reservedParallelism, adaptiveParallelism);
 			executorServiceWrappersByTaskType.put(taskType, executorServiceWrapper);
 		}
 
-		return createCoordinator(executorServiceWrappersByTaskType, logger, verifyDependencies);
+		return createCoordinator(executorServiceWrappersByTaskType, createEventListener(), eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maximumPendingTasks, maximumPendingTaskCost);
+	}
+
+	/**
+	 * @return The budget shared by all task types or {@code null} if the total parallelism is not limited.
+	 */
+	private @Nullable ParallelismBudget createParallelismBudget() {
+		int totalReservedParallelism = reservedParallelismByTaskType.values().stream().mapToInt(Integer::intValue).sum();
+		if (maximumTotalParallelism == Integer.MAX_VALUE) {
+			Preconditions.checkState(totalReservedParallelism == 0, "Reserving parallelism requires a maximum total parallelism");
+			return null;
+		}
+		Preconditions.checkState(totalReservedParallelism <= maximumTotalParallelism, "The reserved parallelism exceeds the maximum total parallelism");
+		return new ParallelismBudget(maximumTotalParallelism, totalReservedParallelism);
+	}
+
+	/**
+	 * @return The listener the coordinator reports events to or {@code null} if no events have to be reported.
+	 */
+	private @Nullable TaskEventListener createEventListener() {
+		List<TaskEventListener> eventListeners = new ArrayList<>();
+		if (logger != NoLogger.LOGGER) {
+			eventListeners.add(new LoggerEventListener(logger));
+		}
+		if (eventListener != null) {
+			eventListeners.add(eventListener);
+		}
+		switch (eventListeners.size()) {
+			case 0:
+				return null;
+			case 1:
+				return eventListeners.get(0);
+			default:
+				return new CompoundEventListener(eventListeners);
+		}
 	}
 
 	private Set<TaskType> getConfiguredTaskTypes() {
 		Set<TaskType> taskTypes = new HashSet<>();
+		// predefined task types are always supported
+		taskTypes.add(TaskType.COMPUTATIONAL);
+		taskTypes.add(TaskType.BLOCKING);
 		taskTypes.addAll(executorServicesByTaskType.keySet());
 		taskTypes.addAll(maximumParallelismByTaskType.keySet());
+		taskTypes.addAll(reservedParallelismByTaskType.keySet());
+		taskTypes.addAll(adaptiveParallelismByTaskType.keySet());
 		return taskTypes;
 	}
 }
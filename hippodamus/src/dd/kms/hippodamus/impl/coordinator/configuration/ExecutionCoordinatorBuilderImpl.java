@@ -1,11 +1,14 @@
 package dd.kms.hippodamus.impl.coordinator.configuration;
 
+import java.time.Duration;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.coordinator.configuration.ExecutionCoordinatorBuilder;
-import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
 import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
 
@@ -17,7 +20,7 @@ public class ExecutionCoordinatorBuilderImpl extends CoordinatorBuilderBase<Exec
 	}
 
 	@Override
-	ExecutionCoordinator createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, Logger logger, boolean verifyDependencies) {
-		return new ExecutionCoordinatorImpl(executorServiceWrappersByTaskType, logger, verifyDependencies);
+	ExecutionCoordinator createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
+		return new ExecutionCoordinatorImpl(executorServiceWrappersByTaskType, eventListener, eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maxPendingTasks, maxPendingTaskCost);
 	}
 }
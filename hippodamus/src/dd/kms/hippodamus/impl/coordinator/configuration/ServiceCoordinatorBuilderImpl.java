@@ -0,0 +1,26 @@
+package dd.kms.hippodamus.impl.coordinator.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.api.coordinator.ServiceCoordinator;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.coordinator.configuration.ServiceCoordinatorBuilder;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+import dd.kms.hippodamus.impl.coordinator.ServiceCoordinatorImpl;
+import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+
+public class ServiceCoordinatorBuilderImpl extends CoordinatorBuilderBase<ServiceCoordinatorBuilder, ServiceCoordinator> implements ServiceCoordinatorBuilder
+{
+	@Override
+	ServiceCoordinatorBuilder getBuilder() {
+		return this;
+	}
+
+	@Override
+	ServiceCoordinator createCoordinator(Map<TaskType, ExecutorServiceWrapper> executorServiceWrappersByTaskType, @Nullable TaskEventListener eventListener, int eventSamplingRate, boolean verifyDependencies, boolean continuationHandoff, boolean criticalPathScheduling, @Nullable Duration deadline, int maxPendingTasks, long maxPendingTaskCost) {
+		return new ServiceCoordinatorImpl(executorServiceWrappersByTaskType, eventListener, eventSamplingRate, verifyDependencies, continuationHandoff, criticalPathScheduling, deadline, maxPendingTasks, maxPendingTaskCost);
+	}
+}
@@ -0,0 +1,173 @@
+package dd.kms.hippodamus.impl.execution;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.coordinator.AdaptiveParallelism;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implements the AIMD rule described in {@link AdaptiveParallelism}. The {@link ExecutorServiceWrapper}s that
+ * use this limit acquire one slot for every task they submit, like for a {@link ParallelismBudget}, and report the
+ * execution time of every task via {@link #onTaskExecuted(long, boolean)}.<br>
+ * <br>
+ * Overload is detected by comparing the execution time of a task with the shortest execution time observed within
+ * the last {@link #BASELINE_WINDOW_SIZE} to {@code 2 * BASELINE_WINDOW_SIZE} tasks. Using a sliding minimum instead
+ * of a global one allows the baseline to follow permanent changes of the execution times.<br>
+ * <br>
+ * When the limit is decreased, then all tasks that are currently executing have been submitted under the old limit.
+ * Their execution times still reflect the overload. To avoid reacting to the same overload multiple times, the
+ * limit is not decreased again before as many tasks as the limit have been executed.<br>
+ * <br>
+ * An instance may be shared by the wrappers of multiple coordinators. A wrapper registers when it is created and
+ * unregisters when it is closed. When a slot is released or the limit increases, then all registered wrappers are
+ * informed because each of them might have queued tasks.
+ */
+public class AdaptiveParallelismImpl implements AdaptiveParallelism
+{
+	private static final double					DECREASE_FACTOR				= 0.75;
+	private static final double					EXECUTION_TIME_TOLERANCE	= 2.0;
+	private static final int					BASELINE_WINDOW_SIZE		= 100;
+
+	private final int							minParallelism;
+	private final int							maxParallelism;
+
+	private final List<ExecutorServiceWrapper>	wrappers					= new CopyOnWriteArrayList<>();
+
+	/**
+	 * The limit is stored as floating point number because it is increased by fractions. Guarded by this monitor.
+	 */
+	private double								limit;
+
+	/**
+	 * Guarded by this monitor
+	 */
+	private int									numActiveTasks;
+
+	/**
+	 * The shortest execution times within the current and the previous window of {@link #BASELINE_WINDOW_SIZE} tasks.
+	 * Guarded by this monitor.
+	 */
+	private long								minExecutionTimeNanos		= Long.MAX_VALUE;
+	private long								previousMinExecutionTimeNanos	= Long.MAX_VALUE;
+	private int									numTasksInWindow;
+
+	/**
+	 * Guarded by this monitor
+	 */
+	private int									numTasksSinceDecrease;
+
+	public AdaptiveParallelismImpl(int minParallelism, int maxParallelism) {
+		Preconditions.checkArgument(minParallelism > 0, "Minimum parallelism must be positive");
+		Preconditions.checkArgument(minParallelism <= maxParallelism, "Minimum parallelism must not exceed maximum parallelism");
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.limit = minParallelism;
+	}
+
+	@Override
+	public synchronized int getCurrentLimit() {
+		return (int) limit;
+	}
+
+	@Override
+	public synchronized int getNumberOfActiveTasks() {
+		return numActiveTasks;
+	}
+
+	void register(ExecutorServiceWrapper wrapper) {
+		wrappers.add(wrapper);
+	}
+
+	/**
+	 * Unregisters the wrapper and releases the slots it still holds. A wrapper may still hold slots if its
+	 * coordinator has been stopped: In that case, not all tasks release their slots.
+	 */
+	void unregister(ExecutorServiceWrapper wrapper, int numHeldSlots) {
+		wrappers.remove(wrapper);
+		if (numHeldSlots > 0) {
+			releaseSlots(wrapper, numHeldSlots);
+		}
+	}
+
+	/**
+	 * Tries to acquire up to {@code maxNumSlots} slots at once.
+	 *
+	 * @return the number of acquired slots
+	 */
+	synchronized int tryAcquireSlots(int maxNumSlots) {
+		int numSlots = Math.max(0, Math.min(maxNumSlots, (int) limit - numActiveTasks));
+		numActiveTasks += numSlots;
+		return numSlots;
+	}
+
+	void releaseSlots(ExecutorServiceWrapper releasingWrapper, int numSlots) {
+		boolean slotsBecameAvailable;
+		synchronized (this) {
+			int currentLimit = (int) limit;
+			slotsBecameAvailable = numActiveTasks >= currentLimit && numActiveTasks - numSlots < currentLimit;
+			numActiveTasks -= numSlots;
+		}
+		if (slotsBecameAvailable) {
+			onSlotsAvailable(releasingWrapper);
+		}
+	}
+
+	/**
+	 * Adjusts the limit based on the execution time of a task and whether it has thrown an exception. Must be called
+	 * before the task's slot is released to ensure that the utilization is evaluated correctly.
+	 */
+	void onTaskExecuted(long executionTimeNanos, boolean exceptional) {
+		boolean limitIncreased;
+		synchronized (this) {
+			int oldLimit = (int) limit;
+			if (!exceptional) {
+				updateBaseline(executionTimeNanos);
+			}
+			numTasksSinceDecrease++;
+			boolean overloaded = exceptional || executionTimeNanos > EXECUTION_TIME_TOLERANCE * getBaselineNanos();
+			if (overloaded) {
+				if (numTasksSinceDecrease >= limit) {
+					limit = Math.max(minParallelism, limit * DECREASE_FACTOR);
+					numTasksSinceDecrease = 0;
+				}
+			} else if (2 * numActiveTasks >= limit) {
+				// only increase the limit if it is exploited; otherwise, it would grow without evidence
+				limit = Math.min(maxParallelism, limit + 1.0 / limit);
+			}
+			limitIncreased = (int) limit > oldLimit;
+		}
+		if (limitIncreased) {
+			onSlotsAvailable(null);
+		}
+	}
+
+	/**
+	 * Must be called while holding this monitor
+	 */
+	private void updateBaseline(long executionTimeNanos) {
+		minExecutionTimeNanos = Math.min(minExecutionTimeNanos, executionTimeNanos);
+		if (++numTasksInWindow == BASELINE_WINDOW_SIZE) {
+			previousMinExecutionTimeNanos = minExecutionTimeNanos;
+			minExecutionTimeNanos = Long.MAX_VALUE;
+			numTasksInWindow = 0;
+		}
+	}
+
+	/**
+	 * Must be called while holding this monitor
+	 */
+	private long getBaselineNanos() {
+		return Math.min(minExecutionTimeNanos, previousMinExecutionTimeNanos);
+	}
+
+	private void onSlotsAvailable(@Nullable ExecutorServiceWrapper releasingWrapper) {
+		for (ExecutorServiceWrapper wrapper : wrappers) {
+			if (wrapper != releasingWrapper) {
+				wrapper.submitQueuedTasks();
+			}
+		}
+	}
+}
@@ -4,11 +4,17 @@ import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
 import dd.kms.hippodamus.impl.handles.HandleImpl;
 
 import java.util.Comparator;
-import java.util.PriorityQueue;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 /**
  * Wraps an {@link ExecutorService} to provide two additional features:
@@ -24,70 +30,302 @@ import java.util.concurrent.RejectedExecutionException;
  *         is closed, which happens when the {@link ExecutionCoordinator} is closed.
  *     </li>
  * </ul>
+ * If the coordinator has a {@link ParallelismBudget}, then every task additionally requires a slot of that budget.
+ * This limits the total number of tasks of all task types managed by the coordinator's {@code ExecutorServiceWrapper}s.
+ * Similarly, if the wrapper uses an {@link AdaptiveParallelismImpl}, then every task requires a slot of that limit.
+ * In this case, the wrapper also reports the execution times of its tasks (see {@link #onTaskExecuted(long, boolean)})
+ * such that the limit can adapt.<br>
+ * <br>
+ * If the underlying {@code ExecutorService} is a {@link ForkJoinPool}, then tasks are not submitted via
+ * {@link ExecutorService#submit(Runnable)}, but as {@link HandleForkJoinTask}s. Tasks that are submitted from
+ * a worker thread of that pool are forked onto the worker's own deque. This is the case when tasks are registered
+ * within other tasks or when dependent tasks are submitted after their dependencies have completed.
  */
 public class ExecutorServiceWrapper implements AutoCloseable
 {
+	private static final Comparator<HandleImpl<?>>	ID_ORDER					= Comparator.comparingLong(HandleImpl::getId);
+
+	/**
+	 * Prefers handles with longer critical paths. Handles with equal priorities are ordered by their ids.
+	 */
+	private static final Comparator<HandleImpl<?>>	CRITICAL_PATH_ORDER			= Comparator.<HandleImpl<?>>comparingLong(HandleImpl::getSchedulingPriority).reversed().thenComparing(ID_ORDER);
+
 	private final ExecutorService				executorService;
 	private final boolean						shutdownRequired;
 	private final int							maxParallelism;
+	private final boolean						criticalPathScheduling;
+	private final Comparator<HandleImpl<?>>		submissionOrder;
+
+	/**
+	 * The wrapped {@link ExecutorService} if it is a {@link ForkJoinPool}, otherwise {@code null}
+	 */
+	private final @Nullable ForkJoinPool		forkJoinPool;
 
 	/*
 	 * The unsubmitted tasks are ordered according to their id. The reason is that tasks with a lower id cannot depend
 	 * on tasks with higher ids because the ids reflect the tasks' creation order. So this order is save even if one
 	 * forgets to specify certain dependencies.
+	 * If critical path scheduling is enabled, then tasks with longer critical paths are preferred. This order is only
+	 * safe if all dependencies are specified.
 	 */
-	private final Queue<HandleImpl<?>>			_unsubmittedTasks			= new PriorityQueue<>(Comparator.comparingInt(HandleImpl::getId));
+	private final Queue<HandleImpl<?>>			unsubmittedTasks;
 
 	/**
 	 * Number of tasks that have been submitted to the wrapped {@link ExecutorService} and
-	 * that have not finished yet.
+	 * that have not finished yet. This number is only tracked if the maximum parallelism is limited.
+	 */
+	private final AtomicInteger					numPendingSubmittedTasks	= new AtomicInteger();
+
+	/**
+	 * The account of this wrapper at the coordinator's {@link ParallelismBudget} or {@code null} if the coordinator
+	 * has no such budget
 	 */
-	private int									_numPendingSubmittedTasks;
+	private final @Nullable ParallelismBudget.Account	budgetAccount;
 
-	public ExecutorServiceWrapper(ExecutorService executorService, boolean shutdownRequired, int maxParallelism) {
+	private final @Nullable AdaptiveParallelismImpl	adaptiveParallelism;
+
+	public ExecutorServiceWrapper(ExecutorService executorService, boolean shutdownRequired, int maxParallelism, boolean criticalPathScheduling, @Nullable ParallelismBudget parallelismBudget, int reservedParallelism, @Nullable AdaptiveParallelismImpl adaptiveParallelism) {
 		this.executorService = executorService;
 		this.shutdownRequired = shutdownRequired;
 		this.maxParallelism = maxParallelism;
+		this.budgetAccount = parallelismBudget != null ? parallelismBudget.createAccount(this, reservedParallelism) : null;
+		this.criticalPathScheduling = criticalPathScheduling;
+		this.submissionOrder = criticalPathScheduling ? CRITICAL_PATH_ORDER : ID_ORDER;
+		this.unsubmittedTasks = new PriorityBlockingQueue<>(11, submissionOrder);
+		this.forkJoinPool = executorService instanceof ForkJoinPool ? (ForkJoinPool) executorService : null;
+		this.adaptiveParallelism = adaptiveParallelism;
+		if (adaptiveParallelism != null) {
+			adaptiveParallelism.register(this);
+		}
 	}
 
-	public void _submit(HandleImpl<?> handle) {
-		if (_canSubmitTask()) {
-			_submitNow(handle);
+	public void submit(HandleImpl<?> handle) {
+		if (!isParallelismLimited()) {
+			submitNow(handle);
+		} else if (tryAcquireSlot()) {
+			submitNow(handle);
 		} else {
-			_unsubmittedTasks.add(handle);
+			enqueue(handle);
+			/*
+			 * A slot might have been released between our attempt to acquire a slot and adding the handle
+			 * to the queue. In that case, the thread that released the slot might not have seen the handle.
+			 */
+			submitQueuedTasks();
+		}
+	}
+
+	/**
+	 * Submits multiple tasks at once. If the maximum parallelism is limited, then all available slots
+	 * are acquired at once and the remaining tasks are queued at once.
+	 */
+	public void submitAll(List<HandleImpl<?>> handles) {
+		int numHandles = handles.size();
+		int numSlots = isParallelismLimited() ? tryAcquireSlots(numHandles) : numHandles;
+		for (int i = 0; i < numSlots; i++) {
+			submitNow(handles.get(i));
+		}
+		if (numSlots < numHandles) {
+			for (int i = numSlots; i < numHandles; i++) {
+				enqueue(handles.get(i));
+			}
+			// see submit(HandleImpl)
+			submitQueuedTasks();
+		}
+	}
+
+	public void onExecutionCompleted() {
+		if (!isParallelismLimited()) {
+			return;
+		}
+		releaseSlot();
+		submitQueuedTasks();
+	}
+
+	/**
+	 * Returns whether the execution times of the tasks have to be reported via {@link #onTaskExecuted(long, boolean)}.
+	 */
+	public boolean requiresExecutionTimes() {
+		return adaptiveParallelism != null;
+	}
+
+	/**
+	 * Must be called after a task has been executed and before its slot is released.
+	 */
+	public void onTaskExecuted(long executionTimeNanos, boolean exceptional) {
+		if (adaptiveParallelism != null) {
+			adaptiveParallelism.onTaskExecuted(executionTimeNanos, exceptional);
+		}
+	}
+
+	private void enqueue(HandleImpl<?> handle) {
+		if (criticalPathScheduling) {
+			handle.fixSchedulingPriority();
+		}
+		unsubmittedTasks.add(handle);
+	}
+
+	/**
+	 * Returns whether {@code handle} may take over the slot of a task that has just completed instead of releasing
+	 * that slot. This is only the case if no task that would be submitted before {@code handle} is waiting for a slot:
+	 * Since the queued tasks are ordered by their ids for safety reasons (see {@link #unsubmittedTasks}), or by their
+	 * critical paths if requested, a continuation must not overtake them.
+	 */
+	public boolean canHandOverSlotTo(HandleImpl<?> handle) {
+		if (!isParallelismLimited()) {
+			return true;
 		}
+		HandleImpl<?> nextUnsubmittedTask = unsubmittedTasks.peek();
+		if (nextUnsubmittedTask == null) {
+			return true;
+		}
+		if (criticalPathScheduling) {
+			handle.fixSchedulingPriority();
+		}
+		return submissionOrder.compare(handle, nextUnsubmittedTask) < 0;
+	}
+
+	private boolean isParallelismLimited() {
+		return maxParallelism != Integer.MAX_VALUE || budgetAccount != null || adaptiveParallelism != null;
+	}
+
+	private boolean tryAcquireSlot() {
+		return tryAcquireSlots(1) == 1;
 	}
 
-	public void _onExecutionCompleted() {
-		_numPendingSubmittedTasks--;
-		if (_canSubmitTask()) {
-			HandleImpl<?> handle = _unsubmittedTasks.poll();
-			if (handle != null) {
-				_submitNow(handle);
+	/**
+	 * Tries to acquire up to {@code maxNumSlots} slots at once.
+	 *
+	 * @return the number of acquired slots
+	 */
+	private int tryAcquireSlots(int maxNumSlots) {
+		int numSlots = tryAcquireOwnSlots(maxNumSlots);
+		if (numSlots > 0 && budgetAccount != null) {
+			int numBudgetSlots = budgetAccount.tryAcquireSlots(numSlots);
+			if (numBudgetSlots < numSlots) {
+				// return the slots we could not acquire from the budget
+				numPendingSubmittedTasks.addAndGet(numBudgetSlots - numSlots);
 			}
+			numSlots = numBudgetSlots;
 		}
+		if (numSlots > 0 && adaptiveParallelism != null) {
+			int numAdaptiveSlots = adaptiveParallelism.tryAcquireSlots(numSlots);
+			// return the slots we could not acquire from the adaptive limit
+			for (int i = numAdaptiveSlots; i < numSlots; i++) {
+				numPendingSubmittedTasks.decrementAndGet();
+				if (budgetAccount != null) {
+					budgetAccount.releaseSlot();
+				}
+			}
+			numSlots = numAdaptiveSlots;
+		}
+		return numSlots;
 	}
 
-	private boolean _canSubmitTask() {
-		return _numPendingSubmittedTasks < maxParallelism;
+	private int tryAcquireOwnSlots(int maxNumSlots) {
+		while (true) {
+			int numPending = numPendingSubmittedTasks.get();
+			int numSlots = Math.min(maxParallelism - numPending, maxNumSlots);
+			if (numSlots <= 0) {
+				return 0;
+			}
+			if (numPendingSubmittedTasks.compareAndSet(numPending, numPending + numSlots)) {
+				return numSlots;
+			}
+		}
+	}
+
+	private void releaseSlot() {
+		if (isParallelismLimited()) {
+			numPendingSubmittedTasks.decrementAndGet();
+			if (budgetAccount != null) {
+				budgetAccount.releaseSlot();
+			}
+			if (adaptiveParallelism != null) {
+				adaptiveParallelism.releaseSlots(this, 1);
+			}
+		}
 	}
 
-	private void _submitNow(HandleImpl<?> handle) {
-		_numPendingSubmittedTasks++;
+	/**
+	 * Also called by the {@link ParallelismBudget} and the {@link AdaptiveParallelismImpl} when a slot that might be
+	 * used by this wrapper has become available.
+	 */
+	void submitQueuedTasks() {
+		while (!unsubmittedTasks.isEmpty() && tryAcquireSlot()) {
+			HandleImpl<?> handle = unsubmittedTasks.poll();
+			if (handle == null) {
+				// another thread has submitted the remaining tasks
+				releaseSlot();
+				return;
+			}
+			submitNow(handle);
+		}
+	}
+
+	private void submitNow(HandleImpl<?> handle) {
+		if (!handle.onSubmission()) {
+			// task has been stopped
+			releaseSlot();
+			return;
+		}
 		Future<?> future;
 		try {
-			future = executorService.submit(handle::executeCallable);
-			handle._onSubmission();
+			future = submitToExecutorService(handle);
 		} catch (RejectedExecutionException e) {
+			releaseSlot();
 			String error = "Submitting task to ExecutorService failed: " + e;
-			handle._logUnexpectedException(error, e);
+			handle.logUnexpectedException(error, e);
 			return;
 		}
-		handle._setFuture(future);
+		handle.setFuture(future);
+	}
+
+	/**
+	 * Tries to acquire a slot for a duplicate attempt of a hedged task. Like any other task, a duplicate is subject to
+	 * the maximum parallelism, the {@link ParallelismBudget}, and the {@link AdaptiveParallelismImpl}. Unlike other
+	 * tasks, a duplicate is never queued and does not take a slot that a queued task is waiting for: It is only
+	 * worthwhile if it starts immediately. The slot must be released via {@link #onExecutionCompleted()}.
+	 */
+	public boolean tryAcquireDuplicateSlot() {
+		if (!isParallelismLimited()) {
+			return true;
+		}
+		return unsubmittedTasks.isEmpty() && tryAcquireSlot();
+	}
+
+	/**
+	 * Executes a duplicate attempt of a hedged task after a slot has been acquired for it via
+	 * {@link #tryAcquireDuplicateSlot()}.
+	 *
+	 * @throws RejectedExecutionException if the {@link ExecutorService} rejects the duplicate
+	 */
+	public void executeDuplicate(Runnable attempt) {
+		executorService.execute(attempt);
+	}
+
+	private Future<?> submitToExecutorService(HandleImpl<?> handle) {
+		if (forkJoinPool == null) {
+			return executorService.submit(handle::executeCallable);
+		}
+		HandleForkJoinTask task = new HandleForkJoinTask(handle);
+		if (ForkJoinTask.getPool() == forkJoinPool) {
+			// we are in a worker thread of the pool => push task onto the worker's deque
+			task.fork();
+		} else {
+			forkJoinPool.execute(task);
+		}
+		return task;
 	}
 
 	@Override
 	public synchronized void close() {
+		if (adaptiveParallelism != null) {
+			/*
+			 * When the coordinator has been stopped, then not all tasks release their slots. Since the adaptive limit
+			 * might be shared with other coordinators, we have to return these slots.
+			 */
+			adaptiveParallelism.unregister(this, numPendingSubmittedTasks.getAndSet(0));
+		}
 		if (shutdownRequired) {
 			executorService.shutdownNow();
 		}
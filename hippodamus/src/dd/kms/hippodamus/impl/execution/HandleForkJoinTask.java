@@ -0,0 +1,38 @@
+package dd.kms.hippodamus.impl.execution;
+
+import dd.kms.hippodamus.impl.handles.HandleImpl;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Executes a task on a {@link ForkJoinPool} without the adapter {@link ForkJoinPool#submit(Runnable)} creates. Since
+ * this class is a {@link ForkJoinTask}, it can be forked onto the deque of the current worker thread if the task is
+ * submitted from within the pool (see {@link ExecutorServiceWrapper}). It also serves as the {@link java.util.concurrent.Future}
+ * of the handle: Cancelling it prevents its execution if it has not yet been started.
+ */
+class HandleForkJoinTask extends ForkJoinTask<Void>
+{
+	private final HandleImpl<?>	handle;
+
+	HandleForkJoinTask(HandleImpl<?> handle) {
+		this.handle = handle;
+	}
+
+	@Override
+	public Void getRawResult() {
+		return null;
+	}
+
+	@Override
+	protected void setRawResult(Void value) {
+		/* there is no result; the handle stores it */
+	}
+
+	@Override
+	protected boolean exec() {
+		// HandleImpl.executeCallable() does not throw any exception
+		handle.executeCallable();
+		return true;
+	}
+}
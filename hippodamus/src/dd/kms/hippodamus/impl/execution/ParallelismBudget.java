@@ -0,0 +1,90 @@
+package dd.kms.hippodamus.impl.execution;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Limits the total number of tasks that the {@link ExecutorServiceWrapper}s of a coordinator manage at the same
+ * time, independent of their task types. Every {@code ExecutorServiceWrapper} acquires slots from its own
+ * {@link Account}. An account may reserve slots for its wrapper. These slots can only be used by this wrapper. The
+ * remaining slots of the budget are shared by all wrappers.<br>
+ * <br>
+ * When a shared slot is released, the tasks queued by the other wrappers might be submitted. This is why the
+ * budget informs all other wrappers in this case.
+ */
+public class ParallelismBudget
+{
+	/**
+	 * The number of slots that are not reserved by any account
+	 */
+	private final int							numSharedSlots;
+
+	/**
+	 * Guarded by the budget's monitor
+	 */
+	private int									numUsedSharedSlots;
+
+	private final List<ExecutorServiceWrapper>	wrappers			= new CopyOnWriteArrayList<>();
+
+	public ParallelismBudget(int numSlots, int numReservedSlots) {
+		this.numSharedSlots = numSlots - numReservedSlots;
+	}
+
+	Account createAccount(ExecutorServiceWrapper wrapper, int numReservedSlots) {
+		wrappers.add(wrapper);
+		return new Account(wrapper, numReservedSlots);
+	}
+
+	private void onSharedSlotReleased(ExecutorServiceWrapper releasingWrapper) {
+		for (ExecutorServiceWrapper wrapper : wrappers) {
+			if (wrapper != releasingWrapper) {
+				wrapper.submitQueuedTasks();
+			}
+		}
+	}
+
+	class Account
+	{
+		private final ExecutorServiceWrapper	wrapper;
+		private final int						numReservedSlots;
+
+		/**
+		 * Guarded by the budget's monitor
+		 */
+		private int								numUsedSlots;
+
+		private Account(ExecutorServiceWrapper wrapper, int numReservedSlots) {
+			this.wrapper = wrapper;
+			this.numReservedSlots = numReservedSlots;
+		}
+
+		/**
+		 * Tries to acquire up to {@code maxNumSlots} slots at once. Reserved slots are used before shared slots.
+		 *
+		 * @return the number of acquired slots
+		 */
+		int tryAcquireSlots(int maxNumSlots) {
+			synchronized (ParallelismBudget.this) {
+				int numReserved = Math.max(0, Math.min(maxNumSlots, numReservedSlots - numUsedSlots));
+				int numShared = Math.min(maxNumSlots - numReserved, numSharedSlots - numUsedSharedSlots);
+				numUsedSharedSlots += numShared;
+				numUsedSlots += numReserved + numShared;
+				return numReserved + numShared;
+			}
+		}
+
+		void releaseSlot() {
+			boolean sharedSlotReleased;
+			synchronized (ParallelismBudget.this) {
+				sharedSlotReleased = numUsedSlots > numReservedSlots;
+				if (sharedSlotReleased) {
+					numUsedSharedSlots--;
+				}
+				numUsedSlots--;
+			}
+			if (sharedSlotReleased) {
+				onSharedSlotReleased(wrapper);
+			}
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package dd.kms.hippodamus.impl.execution;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides {@link ExecutorService}s that are shared by all coordinators of the process. These {@code ExecutorService}s
+ * must never be shut down.
+ */
+public class SharedExecutorServices
+{
+	/**
+	 * Idle threads of the blocking {@code ExecutorService} terminate after this time.
+	 */
+	private static final long	KEEP_ALIVE_TIME_S	= 60;
+
+	/**
+	 * Returns the {@link ExecutorService} that is used for {@link dd.kms.hippodamus.api.coordinator.TaskType#BLOCKING}
+	 * tasks by default. It is created when it is requested for the first time. It creates threads on demand and
+	 * reuses idle threads. Its threads are daemon threads, so it does not prevent the JVM from terminating.
+	 */
+	public static ExecutorService getBlockingExecutorService() {
+		return BlockingExecutorServiceHolder.EXECUTOR_SERVICE;
+	}
+
+	/**
+	 * Returns the {@link ScheduledExecutorService} that stops tasks and coordinators whose deadlines have expired
+	 * and that launches duplicates of hedged tasks. It is created when it is requested for the first time. It uses
+	 * a single daemon thread for all timers of all coordinators, so its actions must be short. Cancelled actions are
+	 * removed immediately because most timers are cancelled before they expire.
+	 */
+	public static ScheduledExecutorService getTimer() {
+		return TimerHolder.TIMER;
+	}
+
+	private static ExecutorService createBlockingExecutorService() {
+		AtomicInteger threadCounter = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "Hippodamus blocking worker " + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_TIME_S, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+	}
+
+	private static ScheduledExecutorService createTimer() {
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "Hippodamus timer");
+			thread.setDaemon(true);
+			return thread;
+		};
+		ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, threadFactory);
+		timer.setRemoveOnCancelPolicy(true);
+		return timer;
+	}
+
+	/**
+	 * Holder class idiom for lazily creating the {@code ExecutorService}
+	 */
+	private static class BlockingExecutorServiceHolder
+	{
+		private static final ExecutorService	EXECUTOR_SERVICE	= createBlockingExecutorService();
+	}
+
+	/**
+	 * Holder class idiom for lazily creating the timer
+	 */
+	private static class TimerHolder
+	{
+		private static final ScheduledExecutorService	TIMER	= createTimer();
+	}
+}
@@ -1,7 +1,13 @@
 package dd.kms.hippodamus.impl.execution.configuration;
 
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalDoubleCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalIntCallable;
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
 import dd.kms.hippodamus.api.execution.configuration.AggregationConfigurationBuilder;
+import dd.kms.hippodamus.api.handles.DoubleResultHandle;
+import dd.kms.hippodamus.api.handles.IntResultHandle;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.impl.coordinator.AggregationCoordinatorImpl;
 
@@ -22,4 +28,19 @@ public class AggregationConfigurationBuilderImpl<S, R>
 	public <T extends Throwable> ResultHandle<S> aggregate(ExceptionalCallable<S, T> callable) throws T {
 		return coordinator.aggregate(callable, createConfiguration(false));
 	}
+
+	@Override
+	public <T extends Throwable> IntResultHandle aggregateInt(ExceptionalIntCallable<T> callable) throws T {
+		return coordinator.aggregateInt(callable, createConfiguration(false));
+	}
+
+	@Override
+	public <T extends Throwable> LongResultHandle aggregateLong(ExceptionalLongCallable<T> callable) throws T {
+		return coordinator.aggregateLong(callable, createConfiguration(false));
+	}
+
+	@Override
+	public <T extends Throwable> DoubleResultHandle aggregateDouble(ExceptionalDoubleCallable<T> callable) throws T {
+		return coordinator.aggregateDouble(callable, createConfiguration(false));
+	}
 }
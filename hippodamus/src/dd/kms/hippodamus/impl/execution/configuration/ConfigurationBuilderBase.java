@@ -2,19 +2,24 @@ package dd.kms.hippodamus.impl.execution.configuration;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import dd.kms.hippodamus.api.cache.TaskResultCache;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
 import dd.kms.hippodamus.api.exceptions.ExceptionalRunnable;
 import dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
 import dd.kms.hippodamus.api.resources.Resource;
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
 import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
+import dd.kms.hippodamus.impl.handles.HedgingPolicy;
 import dd.kms.hippodamus.impl.resources.ResourceShare;
 import dd.kms.hippodamus.impl.resources.ResourceShares;
 
 import javax.annotation.Nullable;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -28,13 +33,25 @@ import java.util.function.Supplier;
  */
 abstract class ConfigurationBuilderBase<C extends ExecutionCoordinatorImpl, B extends ExecutionConfigurationBuilder> implements ExecutionConfigurationBuilder
 {
-	final C								coordinator;
-
-	private @Nullable String			name					= null;
-	private TaskType					taskType				= TaskType.COMPUTATIONAL;
-	private Collection<Handle>			dependencies			= ImmutableList.of();
-	private final List<ResourceShare>	requiredResourcesShares	= new ArrayList<>();
-	private Consumer<Handle>			handleConsumer			= handle -> {};
+	final C										coordinator;
+
+	private @Nullable String					name							= null;
+	private TaskType							taskType						= TaskType.COMPUTATIONAL;
+	private Collection<Handle>					dependencies					= ImmutableList.of();
+	private long								cost							= TaskConfiguration.DEFAULT_COST;
+	private @Nullable Duration					deadline						= null;
+	private @Nullable Duration					hedgingDelay					= null;
+	private double								hedgingPercentile				= Double.NaN;
+
+	/**
+	 * The hedging policy is shared by all tasks registered via this builder such that they can learn from each
+	 * other's execution times. It is created lazily and discarded when the hedging parameters change.
+	 */
+	private @Nullable HedgingPolicy				hedgingPolicy					= null;
+	private @Nullable TaskResultCacheImpl		resultCache						= null;
+	private @Nullable Object					resultCacheKey					= null;
+	private final List<Supplier<ResourceShare>>	requiredResourceShareFactories	= new ArrayList<>();
+	private Consumer<Handle>					handleConsumer					= handle -> {};
 
 	ConfigurationBuilderBase(C coordinator) {
 		this.coordinator = coordinator;
@@ -77,10 +94,48 @@ abstract class ConfigurationBuilderBase<C extends ExecutionCoordinatorImpl, B ex
 		return getBuilder();
 	}
 
+	@Override
+	public B cost(long cost) {
+		Preconditions.checkArgument(cost > 0, "The cost of a task must be positive");
+		this.cost = cost;
+		return getBuilder();
+	}
+
+	@Override
+	public B deadline(Duration deadline) {
+		Preconditions.checkArgument(!deadline.isNegative() && !deadline.isZero(), "The deadline of a task must be positive");
+		this.deadline = deadline;
+		return getBuilder();
+	}
+
+	@Override
+	public B hedgeAfter(Duration delay) {
+		Preconditions.checkArgument(!delay.isNegative(), "The hedging delay must not be negative");
+		this.hedgingDelay = delay;
+		this.hedgingPolicy = null;
+		return getBuilder();
+	}
+
+	@Override
+	public B hedgeAfterPercentile(double percentile) {
+		Preconditions.checkArgument(0 < percentile && percentile <= 100, "The percentile must be in (0, 100]");
+		this.hedgingPercentile = percentile;
+		this.hedgingPolicy = null;
+		return getBuilder();
+	}
+
+	@Override
+	public B cacheResult(TaskResultCache cache, Object key) {
+		Preconditions.checkArgument(cache instanceof TaskResultCacheImpl, "The cache must be created via TaskResultCaches.configureTaskResultCache()");
+		Preconditions.checkNotNull(key, "The cache key must not be null");
+		this.resultCache = (TaskResultCacheImpl) cache;
+		this.resultCacheKey = key;
+		return getBuilder();
+	}
+
 	@Override
 	public <T> B requiredResource(Resource<T> resource, Supplier<T> resourceShareSupplier) {
-		ResourceShare wrappedResourceShare = ResourceShares.wrapResourceShare(resource, resourceShareSupplier);
-		requiredResourcesShares.add(wrappedResourceShare);
+		requiredResourceShareFactories.add(() -> ResourceShares.wrapResourceShare(resource, resourceShareSupplier));
 		return getBuilder();
 	}
 
@@ -108,8 +163,23 @@ abstract class ConfigurationBuilderBase<C extends ExecutionCoordinatorImpl, B ex
 		return coordinator.execute(callable, createConfiguration(ignoreResult));
 	}
 
+	@Override
+	public <V, T extends Throwable> ResultHandleGroup<V> executeAll(Collection<? extends ExceptionalCallable<V, T>> callables) {
+		// create a snapshot to be independent of concurrent modifications
+		List<ExceptionalCallable<V, T>> callableList = ImmutableList.copyOf(callables);
+		return coordinator.executeAll(callableList, createConfiguration(false));
+	}
+
 	TaskConfiguration createConfiguration(boolean ignoreResult) {
-		ResourceShare compoundResourceShare = ResourceShares.createCompoundResourceShare(requiredResourcesShares);
-		return new TaskConfiguration(name, taskType, ignoreResult, dependencies, compoundResourceShare, handleConsumer);
+		List<Supplier<ResourceShare>> resourceShareFactories = ImmutableList.copyOf(requiredResourceShareFactories);
+		return new TaskConfiguration(name, taskType, ignoreResult, dependencies, cost, deadline, getHedgingPolicy(), resultCache, resultCacheKey, resourceShareFactories, handleConsumer);
+	}
+
+	private @Nullable HedgingPolicy getHedgingPolicy() {
+		if (hedgingPolicy == null && (hedgingDelay != null || !Double.isNaN(hedgingPercentile))) {
+			long hedgingDelayNanos = hedgingDelay != null ? hedgingDelay.toNanos() : Long.MAX_VALUE;
+			hedgingPolicy = new HedgingPolicy(hedgingDelayNanos, hedgingPercentile);
+		}
+		return hedgingPolicy;
 	}
 }
@@ -1,13 +1,21 @@
 package dd.kms.hippodamus.impl.execution.configuration;
 
+import com.google.common.collect.ImmutableList;
 import dd.kms.hippodamus.api.coordinator.TaskType;
 import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
+import dd.kms.hippodamus.impl.handles.HedgingPolicy;
 import dd.kms.hippodamus.impl.resources.ResourceShare;
+import dd.kms.hippodamus.impl.resources.ResourceShares;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Stores all information that can be configured by a {@link dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder}
@@ -15,22 +23,61 @@ import java.util.function.Consumer;
  */
 public class TaskConfiguration
 {
-	private final @Nullable String		name;
-	private final TaskType				taskType;
-	private final boolean				ignoreResult;
-	private final Collection<Handle>	dependencies;
-	private final ResourceShare			requiredResourceShare;
-	private final Consumer<Handle>		handleConsumer;
-
-	TaskConfiguration(@Nullable String name, TaskType taskType, boolean ignoreResult, Collection<Handle> dependencies, ResourceShare requiredResourceShare, Consumer<Handle> handleConsumer) {
+	/**
+	 * Cost of a task that does not specify one via {@code cost()}
+	 */
+	static final long						DEFAULT_COST							= 1;
+
+	/**
+	 * Configurations of tasks that are registered without calling {@code configure()}. They do not contain any
+	 * state that is specific to a task. Hence, they can be shared by all such tasks.
+	 */
+	private static final TaskConfiguration	DEFAULT_CONFIGURATION					= createDefaultConfiguration(false);
+	private static final TaskConfiguration	DEFAULT_CONFIGURATION_IGNORING_RESULT	= createDefaultConfiguration(true);
+
+	private final @Nullable String					name;
+	private final TaskType							taskType;
+	private final boolean							ignoreResult;
+	private final Collection<Handle>				dependencies;
+	private final long								cost;
+	private final @Nullable Duration				deadline;
+	private final @Nullable HedgingPolicy			hedgingPolicy;
+	private final @Nullable TaskResultCacheImpl		resultCache;
+	private final @Nullable Object					resultCacheKey;
+	private final List<Supplier<ResourceShare>>	requiredResourceShareFactories;
+	private final Consumer<Handle>					handleConsumer;
+
+	TaskConfiguration(@Nullable String name, TaskType taskType, boolean ignoreResult, Collection<Handle> dependencies, long cost, @Nullable Duration deadline, @Nullable HedgingPolicy hedgingPolicy, @Nullable TaskResultCacheImpl resultCache, @Nullable Object resultCacheKey, List<Supplier<ResourceShare>> requiredResourceShareFactories, Consumer<Handle> handleConsumer) {
 		this.name = name;
 		this.taskType = taskType;
 		this.ignoreResult = ignoreResult;
 		this.dependencies = dependencies;
-		this.requiredResourceShare = requiredResourceShare;
+		this.cost = cost;
+		this.deadline = deadline;
+		this.hedgingPolicy = hedgingPolicy;
+		this.resultCache = resultCache;
+		this.resultCacheKey = resultCacheKey;
+		this.requiredResourceShareFactories = requiredResourceShareFactories;
 		this.handleConsumer = handleConsumer;
 	}
 
+	/**
+	 * Creates a configuration for a task of a {@link dd.kms.hippodamus.api.templates.TaskGraphTemplate}. Such a
+	 * configuration is shared by all instances of the template. This is why it does not contain dependencies: They
+	 * differ between the instances and are passed separately.
+	 */
+	public static TaskConfiguration createTemplateTaskConfiguration(String name, TaskType taskType) {
+		return new TaskConfiguration(name, taskType, false, ImmutableList.of(), DEFAULT_COST, null, null, null, null, ImmutableList.of(), handle -> {});
+	}
+
+	public static TaskConfiguration getDefaultConfiguration(boolean ignoreResult) {
+		return ignoreResult ? DEFAULT_CONFIGURATION_IGNORING_RESULT : DEFAULT_CONFIGURATION;
+	}
+
+	private static TaskConfiguration createDefaultConfiguration(boolean ignoreResult) {
+		return new TaskConfiguration(null, TaskType.COMPUTATIONAL, ignoreResult, ImmutableList.of(), DEFAULT_COST, null, null, null, null, ImmutableList.of(), handle -> {});
+	}
+
 	public Optional<String> getName() {
 		return Optional.ofNullable(name);
 	}
@@ -47,8 +94,39 @@ public class TaskConfiguration
 		return dependencies;
 	}
 
-	public ResourceShare getRequiredResourceShare() {
-		return requiredResourceShare;
+	public long getCost() {
+		return cost;
+	}
+
+	public @Nullable Duration getDeadline() {
+		return deadline;
+	}
+
+	public @Nullable HedgingPolicy getHedgingPolicy() {
+		return hedgingPolicy;
+	}
+
+	public @Nullable TaskResultCacheImpl getResultCache() {
+		return resultCache;
+	}
+
+	public @Nullable Object getResultCacheKey() {
+		return resultCacheKey;
+	}
+
+	/**
+	 * Resource shares keep track of whether they have been acquired. Hence, every task requires its own resource
+	 * share. This is why this method creates a new resource share with every call.
+	 */
+	public ResourceShare createRequiredResourceShare() {
+		if (requiredResourceShareFactories.isEmpty()) {
+			return ResourceShares.createCompoundResourceShare(ImmutableList.of());
+		}
+		List<ResourceShare> requiredResourceShares = new ArrayList<>(requiredResourceShareFactories.size());
+		for (Supplier<ResourceShare> requiredResourceShareFactory : requiredResourceShareFactories) {
+			requiredResourceShares.add(requiredResourceShareFactory.get());
+		}
+		return ResourceShares.createCompoundResourceShare(requiredResourceShares);
 	}
 
 	public Consumer<Handle> getHandleConsumer() {
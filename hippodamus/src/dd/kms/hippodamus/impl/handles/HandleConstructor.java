@@ -0,0 +1,22 @@
+package dd.kms.hippodamus.impl.handles;
+
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
+import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
+import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+import dd.kms.hippodamus.impl.resources.ResourceShare;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * Creates the handle of a task. This allows the {@link ExecutionCoordinatorImpl} to register tasks that return
+ * primitive values the same way as other tasks although their handles and callables are of different types.
+ *
+ * @param <C> The type of the callable
+ * @param <H> The type of the handle
+ */
+@FunctionalInterface
+public interface HandleConstructor<C, H extends HandleImpl<?>>
+{
+	H create(ExecutionCoordinatorImpl coordinator, String taskName, long id, ExecutorServiceWrapper executorServiceWrapper, C callable, ResourceShare requiredResourceShare, long cost, @Nullable Duration deadline, @Nullable HedgingPolicy hedgingPolicy, @Nullable TaskResultCacheImpl resultCache, @Nullable Object resultCacheKey, boolean verifyDependencies, boolean ignoreResult);
+}
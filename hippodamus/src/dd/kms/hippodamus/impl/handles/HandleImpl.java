@@ -1,163 +1,495 @@
 package dd.kms.hippodamus.impl.handles;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
 import dd.kms.hippodamus.api.exceptions.CoordinatorException;
+import dd.kms.hippodamus.api.exceptions.DeadlineExceededException;
 import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
 import dd.kms.hippodamus.api.handles.Handle;
 import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.api.handles.TaskStage;
 import dd.kms.hippodamus.api.resources.ResourceRequestor;
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
 import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
 import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+import dd.kms.hippodamus.impl.execution.SharedExecutorServices;
 import dd.kms.hippodamus.impl.resources.ResourceRequestorImpl;
 import dd.kms.hippodamus.impl.resources.ResourceShare;
 
 public class HandleImpl<V> implements ResultHandle<V>
 {
-	private static final Consumer<Handle>	NO_HANDLE_CONSUMER	= handle -> {};
+	private static final AtomicIntegerFieldUpdater<HandleImpl>					NUM_PENDING_DEPENDENCIES_UPDATER	= AtomicIntegerFieldUpdater.newUpdater(HandleImpl.class, "numPendingDependencies");
+	private static final AtomicReferenceFieldUpdater<HandleImpl, SuccessorNode>	SUCCESSORS_UPDATER					= AtomicReferenceFieldUpdater.newUpdater(HandleImpl.class, SuccessorNode.class, "successors");
+	private static final AtomicLongFieldUpdater<HandleImpl>						CRITICAL_PATH_LENGTH_UPDATER		= AtomicLongFieldUpdater.newUpdater(HandleImpl.class, "criticalPathLength");
 
-	private final ResourceRequestor			resourceRequestor					= new ResourceRequestorImpl(this);
+	/**
+	 * Marks a successor list that has been closed because the handle has completed. No successors can be
+	 * added to a closed list.
+	 */
+	private static final SuccessorNode		CLOSED_SUCCESSORS	= new SuccessorNode(null, null);
 
 	private final ExecutionCoordinatorImpl	coordinator;
 	private final String					taskName;
-	private final int						id;
+	private final long						id;
 	private final ExecutorServiceWrapper	executorServiceWrapper;
-	private final ExceptionalCallable<V, ?> callable;
+	/**
+	 * {@code null} for handles of tasks that return primitive values. These handles override {@link #call(int)}.
+	 */
+	private final @Nullable ExceptionalCallable<V, ?>	callable;
 	private final ResourceShare				requiredResourceShare;
+	private final long						cost;
+	private final @Nullable Duration		deadline;
+	private final @Nullable HedgingPolicy	hedgingPolicy;
+	private final @Nullable TaskResultCacheImpl	resultCache;
+	private final @Nullable Object			resultCacheKey;
 	private final boolean					verifyDependencies;
 	private final boolean					ignoreResult;
 
-	private final List<Runnable>			completionListeners					= new ArrayList<>();
-	private final List<Runnable>			exceptionListeners					= new ArrayList<>();
+	/**
+	 * Listeners are guarded by the monitor of the handle. Most tasks have no listeners, so the lists are only
+	 * created when the first listener is added. Once the listeners of a list have been notified, no further
+	 * listeners are added to that list.
+	 */
+	private @Nullable List<Runnable>		_completionListeners;
+	private @Nullable List<Runnable>		_exceptionListeners;
+	private boolean							_completionListenersNotified;
+	private boolean							_exceptionListenersNotified;
+
+	/**
+	 * Only accessed by the thread that has claimed the task. Created lazily because most tasks do not
+	 * require any resources.
+	 */
+	private @Nullable ResourceRequestor		resourceRequestor;
 
 	private final TaskStateController<V>	stateController;
 
 	/**
-	 * Only used for stopping the task.
+	 * The number of dependencies that have not yet completed. While the handle is being registered, this
+	 * number is increased by 1 to prevent the handle from being submitted before all of its dependencies
+	 * have been registered. The handle can be submitted when this number drops to 0.
+	 */
+	private volatile int					numPendingDependencies				= 1;
+
+	/**
+	 * An append-only stack of handles that depend on this handle. It is closed when this handle completes.
+	 */
+	private volatile SuccessorNode			successors;
+
+	/**
+	 * The specified dependencies of this handle. They are only stored if critical path scheduling is enabled
+	 * because they are only required for updating the critical path lengths of the dependencies.
+	 */
+	private volatile Collection<? extends Handle>	dependencies						= Collections.emptyList();
+
+	/**
+	 * The maximum total cost of all chains of dependent tasks that start with this task. This length only
+	 * increases when further successors are registered. It is only maintained if critical path scheduling
+	 * is enabled.
 	 */
-	private Future<?>						_future;
+	private volatile long					criticalPathLength;
+
+	/**
+	 * The critical path length when this handle has been queued by the {@link ExecutorServiceWrapper}. The
+	 * critical path length itself must not be used for ordering queued handles because it might change while
+	 * the handle is queued.
+	 */
+	private long							schedulingPriority;
+
+	/**
+	 * Only used for stopping the task. Cancelling the future prevents the task from being executed if it has
+	 * not yet been started. For {@link java.util.concurrent.ForkJoinPool}s, this is the task itself (see
+	 * {@link ExecutorServiceWrapper}).
+	 */
+	private volatile Future<?>				future;
 
 	/**
 	 * Used to request the interrupting of the current task. This is necessary because common implementations
-	 * of {@link Future#cancel(boolean)} ignore the Boolean flag. This is particularly the case for {@link java.util.concurrent.ForkJoinTask}
-	 * that is returned by {@link java.util.concurrent.ForkJoinPool}, which is used by default for computational
-	 * tasks. This is why we interrupt the executing thread ourselves if the task is requested to be stopped and
-	 * finally clear the interruption flag of the thread again.
+	 * of {@link Future#cancel(boolean)} ignore the Boolean flag. This is particularly the case for {@link java.util.concurrent.ForkJoinTask}s,
+	 * which are used for {@link java.util.concurrent.ForkJoinPool}s, the default for computational tasks. Furthermore,
+	 * continuations are executed without a future of their own. This is why we interrupt the executing thread ourselves
+	 * if the task is requested to be stopped and finally clear the interruption flag of the thread again.
 	 */
-	private Thread							_executingThread;
+	private volatile Thread					executingThread;
 
-	private boolean							_isTerminating;
+	/**
+	 * The timer that reports an exceeded deadline to the coordinator. It is only set while the task is executing
+	 * and if the task has a deadline. Only accessed by the executing thread. For hedged tasks, the timer is
+	 * cancelled by the thread of the attempt that finishes first (see {@link HedgedExecution}).
+	 */
+	private @Nullable ScheduledFuture<?>	deadlineTimer;
 
-	public HandleImpl(ExecutionCoordinatorImpl coordinator, String taskName, int id, ExecutorServiceWrapper executorServiceWrapper, ExceptionalCallable<V, ?> callable, ResourceShare requiredResourceShare, boolean verifyDependencies, boolean ignoreResult) {
+	/**
+	 * Only set while a hedged task is executing. Required for interrupting all attempts when the task is stopped.
+	 */
+	private volatile @Nullable HedgedExecution	hedgedExecution;
+
+	/**
+	 * The attempt whose outcome has been used: 0 for the original attempt and 1 for the duplicate of a hedged task
+	 */
+	private volatile int					winningAttempt;
+
+	public HandleImpl(ExecutionCoordinatorImpl coordinator, String taskName, long id, ExecutorServiceWrapper executorServiceWrapper, ExceptionalCallable<V, ?> callable, ResourceShare requiredResourceShare, long cost, @Nullable Duration deadline, @Nullable HedgingPolicy hedgingPolicy, @Nullable TaskResultCacheImpl resultCache, @Nullable Object resultCacheKey, boolean verifyDependencies, boolean ignoreResult) {
 		this.coordinator = coordinator;
 		this.taskName = taskName;
 		this.id = id;
 		this.executorServiceWrapper = executorServiceWrapper;
 		this.callable = callable;
 		this.requiredResourceShare = requiredResourceShare;
+		this.cost = cost;
+		this.criticalPathLength = cost;
+		this.deadline = deadline;
+		this.hedgingPolicy = hedgingPolicy;
+		this.resultCache = resultCache;
+		this.resultCacheKey = resultCacheKey;
 		this.verifyDependencies = verifyDependencies;
 		this.stateController = new TaskStateController<>(this, coordinator);
 		this.ignoreResult = ignoreResult;
 	}
 
-	public int getId() {
+	public long getId() {
 		return id;
 	}
 
-	/*****************
-	 * Stage Changes *
-	 ****************/
-	public void submit() {
-		synchronized (coordinator) {
-			if (!coordinator._hasStopped() && stateController._transitionTo(TaskStage.READY)) {
-				_submit();
+	public ExecutorServiceWrapper getExecutorServiceWrapper() {
+		return executorServiceWrapper;
+	}
+
+	public @Nullable Object getResultCacheKey() {
+		return resultCacheKey;
+	}
+
+	/*************************
+	 * Dependency Management *
+	 ************************/
+	/**
+	 * Registers {@code successor} as a handle that depends on this handle. The pending dependency counter
+	 * of {@code successor} is increased before it is added to this handle's successors.
+	 *
+	 * @return {@code true} if the successor has been registered and {@code false} if this handle has already
+	 * closed its successor list. In the latter case, the pending dependency counter of {@code successor} remains
+	 * increased and the caller has to decide whether to decrease it again.
+	 */
+	public boolean addSuccessor(HandleImpl<?> successor) {
+		NUM_PENDING_DEPENDENCIES_UPDATER.incrementAndGet(successor);
+		while (true) {
+			SuccessorNode head = successors;
+			if (head == CLOSED_SUCCESSORS) {
+				return false;
+			}
+			if (SUCCESSORS_UPDATER.compareAndSet(this, head, new SuccessorNode(successor, head))) {
+				return true;
 			}
 		}
 	}
 
-	private void complete(V result) {
-		synchronized (coordinator) {
-			stateController._setResult(result);
-			_notifyListeners(completionListeners, "completion listener", coordinator::onCompletion);
-			if (!coordinator._hasStopped()) {
-				executorServiceWrapper._onExecutionCompleted();
+	/**
+	 * Decreases the number of pending dependencies.
+	 *
+	 * @return {@code true} if the last pending dependency has been resolved, i.e., if the handle can be submitted
+	 */
+	public boolean onDependencyResolved() {
+		return NUM_PENDING_DEPENDENCIES_UPDATER.decrementAndGet(this) == 0;
+	}
+
+	public Collection<? extends Handle> getDependencies() {
+		return dependencies;
+	}
+
+	public void setDependencies(Collection<? extends Handle> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	public long getCost() {
+		return cost;
+	}
+
+	public long getCriticalPathLength() {
+		return criticalPathLength;
+	}
+
+	/**
+	 * Increases the critical path length to {@code length} unless it is already at least that long.
+	 *
+	 * @return {@code true} if the critical path length has been increased
+	 */
+	public boolean increaseCriticalPathLength(long length) {
+		while (true) {
+			long currentLength = criticalPathLength;
+			if (currentLength >= length) {
+				return false;
+			}
+			if (CRITICAL_PATH_LENGTH_UPDATER.compareAndSet(this, currentLength, length)) {
+				return true;
 			}
-			_terminate();
 		}
 	}
 
-	private void terminateExceptionally(Throwable exception) {
-		synchronized (coordinator) {
-			stateController._setException(exception);
-			_notifyListeners(exceptionListeners, "exception listener", coordinator::onException);
-			_terminate();
+	/**
+	 * Must only be called by the {@link ExecutorServiceWrapper} right before queueing this handle.
+	 */
+	public void fixSchedulingPriority() {
+		schedulingPriority = criticalPathLength;
+	}
+
+	public long getSchedulingPriority() {
+		return schedulingPriority;
+	}
+
+	/**
+	 * Closes the successor list and passes all registered successors to {@code successorConsumer}. Must only
+	 * be called when this handle has completed.
+	 */
+	public void closeSuccessors(Consumer<HandleImpl<?>> successorConsumer) {
+		SuccessorNode node = SUCCESSORS_UPDATER.getAndSet(this, CLOSED_SUCCESSORS);
+		for (; node != null && node != CLOSED_SUCCESSORS; node = node.next) {
+			successorConsumer.accept(node.handle);
 		}
 	}
 
-	private void _submit() {
+	/*****************
+	 * Stage Changes *
+	 ****************/
+	public void submit() {
+		if (prepareSubmission()) {
+			executorServiceWrapper.submit(this);
+		}
+	}
+
+	/**
+	 * Transitions the task to {@link TaskStage#READY}, but does not pass it to its {@link ExecutorServiceWrapper}.
+	 * This allows submitting multiple tasks in one batch via {@link ExecutorServiceWrapper#submitAll(List)}.
+	 *
+	 * @return {@code true} if the task is ready and has to be passed to its {@code ExecutorServiceWrapper}. This is
+	 * not the case if the task has been completed with a value of its {@link TaskResultCacheImpl} or if it has been
+	 * attached to another task that computes the same value.
+	 */
+	public boolean prepareSubmission() {
+		if (coordinator.hasStopped() || stateController.claim(TaskStage.INITIAL, TaskStage.ON_HOLD) == null) {
+			return false;
+		}
+		if (!stateController.transitionTo(TaskStage.READY)) {
+			releaseClaimOrTerminate();
+			return false;
+		}
 		try {
 			requiredResourceShare.addPendingResourceShare();
 		} catch (Throwable t) {
-			_logUnexpectedException("Exception when trying to update pending resource shares", t);
+			logUnexpectedException("Exception when trying to update pending resource shares", t);
+			releaseClaimOrTerminate();
+			return false;
+		}
+		if (!releaseClaimOrTerminate()) {
+			return false;
+		}
+		return resultCache == null || resultCache.onReady(this);
+	}
+
+	/**
+	 * Completes the task with a value of its {@link TaskResultCacheImpl} without submitting it. The task must be
+	 * ready. If it has been stopped in the meantime, then nothing happens. Since the task does not hold a slot of its
+	 * {@link ExecutorServiceWrapper}, no successor can take over the current thread as continuation.
+	 */
+	public void completeWithCachedValue(@Nullable Object value) {
+		if (stateController.claim(TaskStage.READY) == null) {
 			return;
 		}
-		executorServiceWrapper._submit(this);
+		if (!removePendingResourceShare() || !stateController.transitionTo(TaskStage.SUBMITTED)) {
+			releaseClaimOrTerminate();
+			return;
+		}
+		if (!stateController.transitionToAndReleaseClaim(TaskStage.EXECUTING)) {
+			terminate();
+			return;
+		}
+		complete(adoptCachedValue(value), false);
 	}
 
-	private void _terminate() {
-		TaskStage taskStage = stateController.getTaskStage();
-		if (_isTerminating || taskStage == TaskStage.TERMINATED) {
+	/**
+	 * Converts a value of the {@link TaskResultCacheImpl} to the result of this task. Handles of tasks that return
+	 * primitive values store the value themselves.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable V adoptCachedValue(@Nullable Object value) {
+		return (V) value;
+	}
+
+	/**
+	 * @return The result as it is reported to event listeners and stored in the {@link TaskResultCacheImpl}.
+	 * Handles of tasks that return primitive values box their value here because {@code result} is {@code null}
+	 * for them.
+	 */
+	public @Nullable Object getReportedResult(@Nullable V result) {
+		return result;
+	}
+
+	/**
+	 * Called by the {@link TaskResultCacheImpl} if the task has been attached to another task that has failed or
+	 * been stopped. Since the task is still ready, it has to compute the value itself unless it finds it in the cache
+	 * or can be attached to another task again.
+	 */
+	public void onAttachedComputationFailed() {
+		if (!coordinator.hasStopped() && resultCache.onReady(this)) {
+			executorServiceWrapper.submit(this);
+		}
+	}
+
+	public boolean hasTerminated() {
+		return stateController.getTaskStage() == TaskStage.TERMINATED;
+	}
+
+	/**
+	 * @param holdsSlot	{@code true} if the task holds a slot of its {@link ExecutorServiceWrapper}. This slot is
+	 *                  either released or taken over by a continuation.
+	 *
+	 * @return A successor that has already been submitted and that has to be executed by the current thread
+	 * (see {@link ExecutionCoordinatorImpl#onCompletion(HandleImpl, boolean)}) or {@code null}
+	 */
+	private @Nullable HandleImpl<?> complete(V result, boolean holdsSlot) {
+		if (stateController.claimIgnoringStopRequest(TaskStage.EXECUTING) == null) {
+			coordinator.logError(this, "Trying to complete task that is not executing", null);
+			return null;
+		}
+		stateController.setResult(result);
+		if (resultCache != null) {
+			resultCache.onCompleted(this, getReportedResult(result));
+		}
+		List<Runnable> completionListeners;
+		synchronized (this) {
+			_completionListenersNotified = true;
+			completionListeners = _completionListeners;
+		}
+		HandleImpl<?> continuation = null;
+		if (notifyListeners(completionListeners, "completion listener")) {
+			// a returned continuation takes over the slot of this task
+			continuation = coordinator.onCompletion(this, holdsSlot);
+		}
+		if (holdsSlot && continuation == null) {
+			// no continuation has taken over the slot, so release it for the next queued task
+			executorServiceWrapper.onExecutionCompleted();
+		}
+		terminate();
+		return continuation;
+	}
+
+	private void terminateExceptionally(Throwable exception) {
+		if (stateController.claimIgnoringStopRequest(TaskStage.EXECUTING) == null) {
+			coordinator.logError(this, "Trying to terminate task that is not executing", exception);
 			return;
 		}
-		_isTerminating = true;
+		stateController.setException(exception);
+		List<Runnable> exceptionListeners;
+		synchronized (this) {
+			_exceptionListenersNotified = true;
+			exceptionListeners = _exceptionListeners;
+		}
+		// the coordinator has already been informed about the exception (see TaskStateController.setException())
+		notifyListeners(exceptionListeners, "exception listener");
+		// release the slot although the coordinator stops (see startExecution())
+		executorServiceWrapper.onExecutionCompleted();
+		terminate();
+	}
 
-		try {
-			requiredResourceShare.release();
-		} catch (Throwable t) {
-			_logUnexpectedException("Exception when releasing resource share", t);
+	/**
+	 * Releases the claim of the current thread. If the task has been requested to stop while being claimed,
+	 * then the task is terminated instead.
+	 *
+	 * @return {@code true} if the claim could be released and {@code false} if the task has been terminated
+	 */
+	private boolean releaseClaimOrTerminate() {
+		if (stateController.releaseClaim()) {
+			return true;
+		}
+		terminate();
+		return false;
+	}
+
+	/**
+	 * Must only be called by the thread that has claimed the task. The task must not be executing.
+	 */
+	private void terminate() {
+		TaskStage taskStage = stateController.getTaskStage();
+
+		if (winningAttempt == 0) {
+			// if the duplicate of a hedged task has won, then the original attempt releases its resources itself
+			releaseResourceShare(requiredResourceShare);
 		}
 
 		try {
 			if (taskStage == TaskStage.READY || taskStage == TaskStage.SUBMITTED) {
 				requiredResourceShare.removePendingResourceShare();
 			} else if (taskStage == TaskStage.ON_HOLD) {
-				requiredResourceShare.remove(resourceRequestor);
+				requiredResourceShare.remove(getResourceRequestor());
 			}
 		} catch (Throwable t) {
-			_logUnexpectedException("Exception when trying to update resource state when stopping task", t);
+			logUnexpectedException("Exception when trying to update resource state when stopping task", t);
 		}
 
-		stateController._transitionTo(TaskStage.TERMINATED);
-		_executingThread = null;
-		_future = null;
-		_isTerminating = false;
+		stateController.transitionTo(TaskStage.TERMINATED);
+		executingThread = null;
+		hedgedExecution = null;
+		future = null;
+		stateController.forceReleaseClaim();
+
+		if (resultCache != null) {
+			resultCache.onTerminated(this);
+		}
 	}
 
-	public void _stop() {
-		if (coordinator._hasStopped()) {
-			return;
+	private void releaseResourceShare(ResourceShare resourceShare) {
+		try {
+			resourceShare.release();
+		} catch (Throwable t) {
+			logUnexpectedException("Exception when releasing resource share", t);
 		}
-		TaskStage taskStage = stateController.getTaskStage();
-		if (taskStage == TaskStage.EXECUTING) {
-			// since we stop the task, the current result type won't change anymore
-			_executingThread.interrupt();
-			_executingThread = null;
-			stateController._makeReadyToJoin();
-		} else {
-			_terminate();
+	}
+
+	/**
+	 * Called by the coordinator when it is stopped. This method never waits for another thread that has
+	 * claimed the task. Calling it multiple times is harmless.
+	 */
+	public void stop() {
+		switch (stateController.requestStop()) {
+			case CLAIMED_EXECUTING_TASK:
+				// since we stop the task, the current result type won't change anymore
+				Thread thread = executingThread;
+				if (thread != null) {
+					thread.interrupt();
+				}
+				stateController.makeReadyToJoin();
+				stateController.forceReleaseClaim();
+				break;
+			case CLAIMED_TASK:
+				terminate();
+				break;
+			default:
+				// nothing to do or the thread that currently claims the task takes care of it
+				break;
+		}
+		HedgedExecution execution = hedgedExecution;
+		if (execution != null) {
+			execution.stop();
 		}
-		if (_future != null) {
-			_future.cancel(true);
+		Future<?> future = this.future;
+		if (future != null) {
+			future.cancel(true);
 		}
 	}
 
@@ -176,6 +508,11 @@ public class HandleImpl<V> implements ResultHandle<V>
 		return taskName;
 	}
 
+	@Override
+	public int getWinningAttempt() {
+		return winningAttempt;
+	}
+
 	@Override
 	public final ExecutionCoordinatorImpl getExecutionCoordinator() {
 		return coordinator;
@@ -194,90 +531,203 @@ public class HandleImpl<V> implements ResultHandle<V>
 			Throwable exception = stateController.getException();
 			throw new CompletionException(exception);
 		}
-		synchronized (coordinator) {
-			if (coordinator._hasStopped()) {
-				throw new CancellationException("Trying to access value of task '" + taskName + "' that has been stopped");
-			}
-			String error = "The task has not been stopped nor did it terminate, but has been considered joinable.";
-			coordinator._logError(this, error, null);
-			throw new CoordinatorException(error);
+		if (coordinator.hasStopped()) {
+			throw new CancellationException("Trying to access value of task '" + taskName + "' that has been stopped");
 		}
+		String error = "The task has not been stopped nor did it terminate, but has been considered joinable.";
+		coordinator.logError(this, error, null);
+		throw new CoordinatorException(error);
 	}
 
-	public void _setFuture(Future<?> future) {
-		this._future = future;
+	public void setFuture(Future<?> future) {
+		this.future = future;
 	}
 
+	/**
+	 * Executes the task and all continuations that are handed over to the current thread (see
+	 * {@link ExecutionCoordinatorImpl#onCompletion(HandleImpl, boolean)}). The continuations are executed in a loop
+	 * instead of recursively to keep the stack flat for long dependency chains.
+	 */
 	public void executeCallable() {
+		HandleImpl<?> handle = this;
+		while (handle != null) {
+			handle = handle.executeCallableAndGetContinuation();
+		}
+	}
+
+	private @Nullable HandleImpl<?> executeCallableAndGetContinuation() {
 		clearInterruptionFlag();
 
-		synchronized (coordinator) {
-			if (!_startExecution()) {
-				_future = null;
-				_executingThread = null;
-				return;
-			}
+		if (!startExecution()) {
+			return null;
 		}
 
+		long startTimeNanos = executorServiceWrapper.requiresExecutionTimes() || hedgingPolicy != null ? System.nanoTime() : 0;
+		startDeadlineTimer();
+		if (hedgingPolicy != null) {
+			HedgedExecution execution = new HedgedExecution(startTimeNanos);
+			hedgedExecution = execution;
+			return execution.execute();
+		}
 		try {
-			V result = callable.call();
-			complete(result);
+			V result = callAsTask(0);
+			stopDeadlineTimer();
+			onExecuted(startTimeNanos, false);
+			return complete(result, true);
 		} catch (Throwable throwable) {
+			stopDeadlineTimer();
+			onExecuted(startTimeNanos, true);
 			terminateExceptionally(throwable);
+			return null;
 		} finally {
 			clearInterruptionFlag();
 		}
 	}
 
 	/**
-	 * Called by the {@link ExecutorServiceWrapper} to inform the handle that it has been submitted
+	 * Executes the callable. Handles of tasks that return primitive values override this method to store the result
+	 * in a primitive field. Since both attempts of a hedged task might finish, every attempt needs a field of its own.
+	 *
+	 * @param attempt	0 for the original attempt and 1 for the duplicate attempt of a hedged task
+	 */
+	@Nullable V call(int attempt) throws Throwable {
+		return callable.call();
+	}
+
+	/**
+	 * Tasks that are registered by the callable at a bounded coordinator must not wait for registration capacity
+	 * if this is the coordinator of this task (see {@link ExecutionCoordinatorImpl#callTask(ExceptionalCallable)}).
+	 */
+	private @Nullable V callAsTask(int attempt) throws Throwable {
+		return coordinator.isRegistrationBounded() ? coordinator.callTask(() -> call(attempt)) : call(attempt);
+	}
+
+	private void startDeadlineTimer() {
+		if (deadline != null) {
+			deadlineTimer = SharedExecutorServices.getTimer().schedule(this::onDeadlineExceeded, deadline.toNanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void stopDeadlineTimer() {
+		if (deadlineTimer != null) {
+			deadlineTimer.cancel(false);
+			deadlineTimer = null;
+		}
+	}
+
+	/**
+	 * Called by the deadline timer. The task might have finished concurrently. In that case, the deadline has only
+	 * been exceeded marginally and it is not worth stopping the coordinator.
 	 */
-	public void _onSubmission() {
-		stateController._transitionTo(TaskStage.SUBMITTED);
+	private void onDeadlineExceeded() {
+		if (stateController.getTaskStage() != TaskStage.EXECUTING) {
+			return;
+		}
+		String error = MessageFormat.format("Task ''{0}'' has exceeded its deadline of {1} ms", taskName, deadline.toMillis());
+		coordinator.onDeadlineExceeded(new DeadlineExceededException(error));
+	}
+
+	/**
+	 * Reports the execution time to the {@link ExecutorServiceWrapper} if required. Tasks that complete after the
+	 * coordinator has been stopped are ignored: They are likely to be interrupted, so their execution times and
+	 * exceptions do not reflect the load of the system they interact with.
+	 */
+	private void onExecuted(long startTimeNanos, boolean exceptional) {
+		if (executorServiceWrapper.requiresExecutionTimes() && !coordinator.hasStopped()) {
+			executorServiceWrapper.onTaskExecuted(System.nanoTime() - startTimeNanos, exceptional);
+		}
+	}
+
+	/**
+	 * Called by the {@link ExecutorServiceWrapper} directly before the task is handed over to the underlying
+	 * {@link java.util.concurrent.ExecutorService}.
+	 *
+	 * @return {@code true} if the task may be submitted and {@code false} if the task has been stopped
+	 */
+	public boolean onSubmission() {
+		if (stateController.claim(TaskStage.READY) == null) {
+			return false;
+		}
+		if (stateController.transitionToAndReleaseClaim(TaskStage.SUBMITTED)) {
+			return true;
+		}
+		terminate();
+		return false;
 	}
 
 	private void clearInterruptionFlag() {
 		Thread.interrupted();
 	}
 
-	private boolean _startExecution() {
-		if (coordinator._hasStopped()) {
+	/**
+	 * Prepares the execution of a submitted task. If the task must not be executed, e.g., because it has been
+	 * stopped or has to wait for resources, then its slot is released. This is also required when the coordinator
+	 * has been stopped because the {@link ExecutorServiceWrapper} might be shared by other coordinators.
+	 *
+	 * @return {@code true} if the task may be executed
+	 */
+	private boolean startExecution() {
+		if (tryStartExecution()) {
+			return true;
+		}
+		executorServiceWrapper.onExecutionCompleted();
+		return false;
+	}
+
+	private boolean tryStartExecution() {
+		if (coordinator.hasStopped() || stateController.claim(TaskStage.SUBMITTED) == null) {
 			return false;
 		}
 
 		boolean permitTaskExecution;
 		try {
-			permitTaskExecution = requiredResourceShare.tryAcquire(resourceRequestor);
+			permitTaskExecution = !requiredResourceShare.requiresResources() || requiredResourceShare.tryAcquire(getResourceRequestor());
 		} catch (Throwable t) {
-			_logUnexpectedException("Exception when trying to acquire resource", t);
+			logUnexpectedException("Exception when trying to acquire resource", t);
+			removePendingResourceShare();
+			releaseClaimOrTerminate();
+			return false;
+		}
+		if (!removePendingResourceShare()) {
+			releaseClaimOrTerminate();
 			return false;
-		} finally {
-			if (!_removePendingResourceShare()) {
-				return false;
-			}
 		}
 		if (!permitTaskExecution) {
-			stateController._transitionTo(TaskStage.ON_HOLD);
-			executorServiceWrapper._onExecutionCompleted();
+			stateController.transitionTo(TaskStage.ON_HOLD);
+			releaseClaimOrTerminate();
 			return false;
 		}
 
-		_executingThread = Thread.currentThread();
-		return stateController._transitionTo(TaskStage.EXECUTING);
+		executingThread = Thread.currentThread();
+		if (stateController.transitionToAndReleaseClaim(TaskStage.EXECUTING)) {
+			return true;
+		}
+		terminate();
+		return false;
+	}
+
+	/**
+	 * Must only be called by the thread that has claimed the task.
+	 */
+	private ResourceRequestor getResourceRequestor() {
+		if (resourceRequestor == null) {
+			resourceRequestor = new ResourceRequestorImpl(this);
+		}
+		return resourceRequestor;
 	}
 
-	private boolean _removePendingResourceShare() {
+	private boolean removePendingResourceShare() {
 		try {
 			requiredResourceShare.removePendingResourceShare();
 			return true;
 		} catch (Throwable t) {
-			_logUnexpectedException("Exception when trying to update pending resource shares", t);
+			logUnexpectedException("Exception when trying to update pending resource shares", t);
 			return false;
 		}
 	}
 
-	public void _logUnexpectedException(String error, Throwable t) {
-		coordinator._logError(this, error + ": " + t, t);
+	public void logUnexpectedException(String error, Throwable t) {
+		coordinator.logError(this, error + ": " + t, t);
 	}
 
 	/***********************
@@ -285,30 +735,49 @@ public class HandleImpl<V> implements ResultHandle<V>
 	 **********************/
 	@Override
 	public void onCompletion(Runnable listener) {
-		synchronized (coordinator) {
-			completionListeners.add(listener);
-			if (stateController.hasCompleted()) {
-				// only run this listener; other listeners have already been notified
-				_notifyListeners(Collections.singletonList(listener), "completion listener", NO_HANDLE_CONSUMER);
+		boolean notifyListener;
+		synchronized (this) {
+			notifyListener = _completionListenersNotified;
+			if (!notifyListener) {
+				if (_completionListeners == null) {
+					_completionListeners = new ArrayList<>();
+				}
+				_completionListeners.add(listener);
 			}
 		}
+		if (notifyListener) {
+			// only run this listener; other listeners have already been notified
+			notifyListeners(Collections.singletonList(listener), "completion listener");
+		}
 	}
 
 	@Override
 	public void onException(Runnable listener) {
-		synchronized (coordinator) {
-			exceptionListeners.add(listener);
-			if (stateController.hasTerminatedExceptionally()) {
-				// only inform this handler; other handlers have already been notified
-				_notifyListeners(Collections.singletonList(listener), "exception listener", NO_HANDLE_CONSUMER);
+		boolean notifyListener;
+		synchronized (this) {
+			notifyListener = _exceptionListenersNotified;
+			if (!notifyListener) {
+				if (_exceptionListeners == null) {
+					_exceptionListeners = new ArrayList<>();
+				}
+				_exceptionListeners.add(listener);
 			}
 		}
+		if (notifyListener) {
+			// only inform this handler; other handlers have already been notified
+			notifyListeners(Collections.singletonList(listener), "exception listener");
+		}
 	}
 
-	private void _notifyListeners(List<Runnable> listeners, String listenerDescription, Consumer<Handle> coordinatorListener) {
+	/**
+	 * @return {@code true} if no listener has thrown an exception
+	 */
+	private boolean notifyListeners(@Nullable List<Runnable> listeners, String listenerDescription) {
 		Throwable listenerException = null;
 		Runnable exceptionalListener = null;
-		for (Runnable listener : listeners) {
+		int numListeners = listeners == null ? 0 : listeners.size();
+		for (int i = 0; i < numListeners; i++) {
+			Runnable listener = listeners.get(i);
 			try {
 				listener.run();
 			} catch (Throwable t) {
@@ -319,18 +788,218 @@ public class HandleImpl<V> implements ResultHandle<V>
 			}
 		}
 		if (listenerException == null) {
-			coordinatorListener.accept(this);
-		} else {
-			String error = MessageFormat.format("{0} in {1} \"{2}\"",
-				listenerException.getClass().getSimpleName(),
-				listenerDescription,
-				exceptionalListener);
-			_logUnexpectedException(error, listenerException);
+			return true;
 		}
+		String error = MessageFormat.format("{0} in {1} \"{2}\"",
+			listenerException.getClass().getSimpleName(),
+			listenerDescription,
+			exceptionalListener);
+		logUnexpectedException(error, listenerException);
+		return false;
 	}
 
 	@Override
 	public String toString() {
 		return getTaskName();
 	}
+
+	/**
+	 * Executes the callable of a hedged task. The thread that executes the task runs the original attempt. If this
+	 * attempt is still running when the delay of the {@link HedgingPolicy} has elapsed, then a duplicate attempt is
+	 * launched in the task's {@link java.util.concurrent.ExecutorService}. The attempt that finishes first wins: Its
+	 * thread completes or terminates the task and interrupts the other attempt. The outcome of the other attempt is
+	 * discarded, so the task completes exactly once.
+	 */
+	private class HedgedExecution
+	{
+		private final long			startTimeNanos;
+		private final Attempt		originalAttempt		= new Attempt(0, requiredResourceShare);
+		private final Attempt		duplicateAttempt	= new Attempt(1, requiredResourceShare.createCopy());
+		private final AtomicInteger	winner				= new AtomicInteger(-1);
+		private volatile @Nullable ScheduledFuture<?>	hedgingTimer;
+
+		/**
+		 * The duplicate does not wait for resources. Hence, unlike {@link ResourceRequestorImpl}, this requestor must
+		 * not resubmit the task when a resource becomes available.
+		 */
+		private final ResourceRequestor	duplicateResourceRequestor	= new ResourceRequestor() {
+			@Override
+			public void retryRequest() {
+				/* do nothing */
+			}
+
+			@Override
+			public Handle getHandle() {
+				return HandleImpl.this;
+			}
+		};
+
+		HedgedExecution(long startTimeNanos) {
+			this.startTimeNanos = startTimeNanos;
+		}
+
+		@Nullable HandleImpl<?> execute() {
+			long delayNanos = hedgingPolicy.getDelayNanos();
+			if (delayNanos != Long.MAX_VALUE) {
+				hedgingTimer = SharedExecutorServices.getTimer().schedule(this::launchDuplicate, delayNanos, TimeUnit.NANOSECONDS);
+			}
+			return originalAttempt.run();
+		}
+
+		/**
+		 * Called by the timer. Like any other task, the duplicate requires a slot of its task type and its own share
+		 * of the task's resources. If one of them is not available immediately, then no duplicate is launched and the
+		 * original attempt continues on its own.
+		 */
+		private void launchDuplicate() {
+			if (winner.get() >= 0 || coordinator.hasStopped()) {
+				return;
+			}
+			if (!executorServiceWrapper.tryAcquireDuplicateSlot()) {
+				return;
+			}
+			if (!tryAcquireDuplicateResourceShare()) {
+				executorServiceWrapper.onExecutionCompleted();
+				return;
+			}
+			try {
+				executorServiceWrapper.executeDuplicate(this::runDuplicate);
+			} catch (RejectedExecutionException e) {
+				duplicateAttempt.releaseSlotAndResources();
+			}
+		}
+
+		private boolean tryAcquireDuplicateResourceShare() {
+			ResourceShare resourceShare = duplicateAttempt.resourceShare;
+			if (!resourceShare.requiresResources()) {
+				return true;
+			}
+			try {
+				if (resourceShare.tryAcquire(duplicateResourceRequestor)) {
+					return true;
+				}
+				resourceShare.remove(duplicateResourceRequestor);
+			} catch (Throwable t) {
+				logUnexpectedException("Exception when trying to acquire resource for duplicate attempt", t);
+				releaseResourceShare(resourceShare);
+			}
+			return false;
+		}
+
+		private void runDuplicate() {
+			HandleImpl<?> continuation = duplicateAttempt.run();
+			if (continuation != null) {
+				continuation.executeCallable();
+			}
+		}
+
+		/**
+		 * @return A continuation that has to be executed by the current thread if the attempt has won (see
+		 * {@link #complete(Object)}), otherwise {@code null}
+		 */
+		private @Nullable HandleImpl<?> onAttemptFinished(Attempt attempt, @Nullable V result, @Nullable Throwable exception) {
+			if (!winner.compareAndSet(-1, attempt.index)) {
+				attempt.releaseSlotAndResources();
+				return null;
+			}
+			ScheduledFuture<?> timer = hedgingTimer;
+			if (timer != null) {
+				timer.cancel(false);
+			}
+			Attempt otherAttempt = attempt == originalAttempt ? duplicateAttempt : originalAttempt;
+			otherAttempt.interrupt();
+			winningAttempt = attempt.index;
+			if (attempt == duplicateAttempt) {
+				// the slot is released when completing the task, but the task's resources are those of the original attempt
+				releaseResourceShare(duplicateAttempt.resourceShare);
+			}
+			stopDeadlineTimer();
+			if (exception == null) {
+				hedgingPolicy.onTaskExecuted(System.nanoTime() - startTimeNanos);
+			}
+			onExecuted(startTimeNanos, exception != null);
+			if (exception != null) {
+				terminateExceptionally(exception);
+				return null;
+			}
+			return complete(result, true);
+		}
+
+		void stop() {
+			ScheduledFuture<?> timer = hedgingTimer;
+			if (timer != null) {
+				timer.cancel(false);
+			}
+			originalAttempt.interrupt();
+			duplicateAttempt.interrupt();
+		}
+
+		/**
+		 * An attempt may only be interrupted while it executes the callable. Otherwise, we might interrupt the next
+		 * task the thread executes. This is why the thread is registered and unregistered while holding the attempt's
+		 * monitor. The interruption flag is cleared after unregistering.<br>
+		 * <br>
+		 * Every attempt holds a slot and a resource share. The winner releases them when completing the task. An
+		 * attempt that does not win releases them itself when it has finished.
+		 */
+		private class Attempt
+		{
+			private final int			index;
+			private final ResourceShare	resourceShare;
+			private @Nullable Thread	thread;
+
+			Attempt(int index, ResourceShare resourceShare) {
+				this.index = index;
+				this.resourceShare = resourceShare;
+			}
+
+			@Nullable HandleImpl<?> run() {
+				boolean decided;
+				synchronized (this) {
+					decided = winner.get() >= 0;
+					if (!decided) {
+						thread = Thread.currentThread();
+					}
+				}
+				if (decided) {
+					releaseSlotAndResources();
+					return null;
+				}
+				V result = null;
+				Throwable exception = null;
+				try {
+					result = callAsTask(index);
+				} catch (Throwable t) {
+					exception = t;
+				}
+				synchronized (this) {
+					thread = null;
+				}
+				clearInterruptionFlag();
+				return onAttemptFinished(this, result, exception);
+			}
+
+			synchronized void interrupt() {
+				if (thread != null) {
+					thread.interrupt();
+				}
+			}
+
+			void releaseSlotAndResources() {
+				releaseResourceShare(resourceShare);
+				executorServiceWrapper.onExecutionCompleted();
+			}
+		}
+	}
+
+	private static class SuccessorNode
+	{
+		private final HandleImpl<?>	handle;
+		private final SuccessorNode	next;
+
+		SuccessorNode(HandleImpl<?> handle, SuccessorNode next) {
+			this.handle = handle;
+			this.next = next;
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package dd.kms.hippodamus.impl.handles;
+
+import java.util.Arrays;
+
+/**
+ * Decides how long a hedged task may execute before a duplicate attempt is launched (see {@link HandleImpl}). A
+ * policy is shared by all tasks that are registered via the same
+ * {@link dd.kms.hippodamus.api.execution.configuration.ExecutionConfigurationBuilder}. These sibling tasks are
+ * expected to have similar execution times. This allows deriving the delay from a percentile of their execution
+ * times.<br>
+ * <br>
+ * Only the execution times of the last {@link #MAX_NUM_SAMPLES} successful siblings are considered. The percentile
+ * is only used if at least {@link #MIN_NUM_SAMPLES} execution times are available. Until then, the fixed delay is
+ * used if one has been specified.
+ */
+public class HedgingPolicy
+{
+	private static final int	MIN_NUM_SAMPLES		= 10;
+	private static final int	MAX_NUM_SAMPLES		= 100;
+
+	/**
+	 * The fixed delay or {@link Long#MAX_VALUE} if no fixed delay has been specified
+	 */
+	private final long			delayNanos;
+
+	/**
+	 * The percentile of the siblings' execution times or {@link Double#NaN} if no percentile has been specified
+	 */
+	private final double		percentile;
+
+	/**
+	 * A ring buffer of the last execution times. Guarded by this monitor.
+	 */
+	private final long[]		executionTimesNanos;
+	private int					numSamples;
+	private int					nextSampleIndex;
+
+	public HedgingPolicy(long delayNanos, double percentile) {
+		this.delayNanos = delayNanos;
+		this.percentile = percentile;
+		this.executionTimesNanos = Double.isNaN(percentile) ? new long[0] : new long[MAX_NUM_SAMPLES];
+	}
+
+	/**
+	 * @return The time after which a duplicate of an executing task is launched or {@link Long#MAX_VALUE} if no
+	 * duplicate should be launched
+	 */
+	synchronized long getDelayNanos() {
+		if (numSamples < MIN_NUM_SAMPLES) {
+			return delayNanos;
+		}
+		long[] sortedExecutionTimesNanos = Arrays.copyOf(executionTimesNanos, numSamples);
+		Arrays.sort(sortedExecutionTimesNanos);
+		int index = (int) Math.ceil(percentile / 100 * numSamples) - 1;
+		return sortedExecutionTimesNanos[Math.max(0, Math.min(index, numSamples - 1))];
+	}
+
+	synchronized void onTaskExecuted(long executionTimeNanos) {
+		if (executionTimesNanos.length == 0) {
+			return;
+		}
+		executionTimesNanos[nextSampleIndex] = executionTimeNanos;
+		nextSampleIndex = (nextSampleIndex + 1) % MAX_NUM_SAMPLES;
+		numSamples = Math.min(numSamples + 1, MAX_NUM_SAMPLES);
+	}
+}
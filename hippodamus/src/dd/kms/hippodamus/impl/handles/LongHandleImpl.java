@@ -0,0 +1,65 @@
+package dd.kms.hippodamus.impl.handles;
+
+import dd.kms.hippodamus.api.exceptions.ExceptionalLongCallable;
+import dd.kms.hippodamus.api.handles.LongResultHandle;
+import dd.kms.hippodamus.impl.cache.TaskResultCacheImpl;
+import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
+import dd.kms.hippodamus.impl.execution.ExecutorServiceWrapper;
+import dd.kms.hippodamus.impl.resources.ResourceShare;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * Handle of a task that returns a primitive {@code long}. The {@link TaskStateController} stores {@code null} as
+ * result of the task. The actual result is stored in a primitive field of the handle.
+ */
+public class LongHandleImpl extends HandleImpl<Void> implements LongResultHandle
+{
+	private final ExceptionalLongCallable<?>	callable;
+
+	/**
+	 * The results of the original attempt and of the duplicate attempt of a hedged task, respectively. The result of
+	 * the winning attempt is written by the thread that completes the task, so it is safely published to all threads
+	 * that see the task completed.
+	 */
+	private long								result;
+	private long								duplicateResult;
+
+	public LongHandleImpl(ExecutionCoordinatorImpl coordinator, String taskName, long id, ExecutorServiceWrapper executorServiceWrapper, ExceptionalLongCallable<?> callable, ResourceShare requiredResourceShare, long cost, @Nullable Duration deadline, @Nullable HedgingPolicy hedgingPolicy, @Nullable TaskResultCacheImpl resultCache, @Nullable Object resultCacheKey, boolean verifyDependencies, boolean ignoreResult) {
+		super(coordinator, taskName, id, executorServiceWrapper, null, requiredResourceShare, cost, deadline, hedgingPolicy, resultCache, resultCacheKey, verifyDependencies, ignoreResult);
+		this.callable = callable;
+	}
+
+	@Override
+	@Nullable Void call(int attempt) throws Throwable {
+		long value = callable.call();
+		if (attempt == 0) {
+			result = value;
+		} else {
+			duplicateResult = value;
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable Void adoptCachedValue(@Nullable Object value) {
+		result = ((Long) value).longValue();
+		return null;
+	}
+
+	@Override
+	public Long getReportedResult(@Nullable Void result) {
+		return getResult();
+	}
+
+	@Override
+	public long getAsLong() {
+		get();
+		return getResult();
+	}
+
+	private long getResult() {
+		return getWinningAttempt() == 0 ? result : duplicateResult;
+	}
+}
@@ -0,0 +1,63 @@
+package dd.kms.hippodamus.impl.handles;
+
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.handles.ResultHandleGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public class ResultHandleGroupImpl<V> implements ResultHandleGroup<V>
+{
+	private final ResultHandle<V>[]	handles;
+
+	public ResultHandleGroupImpl(ResultHandle<V>[] handles) {
+		this.handles = handles;
+	}
+
+	@Override
+	public int size() {
+		return handles.length;
+	}
+
+	@Override
+	public ResultHandle<V> getHandle(int index) {
+		return handles[index];
+	}
+
+	@Override
+	public List<ResultHandle<V>> getHandles() {
+		return Collections.unmodifiableList(Arrays.asList(handles));
+	}
+
+	@Override
+	public boolean hasCompleted() {
+		for (ResultHandle<V> handle : handles) {
+			if (!handle.hasCompleted()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public List<V> getResults() {
+		List<V> results = new ArrayList<>(handles.length);
+		for (ResultHandle<V> handle : handles) {
+			results.add(handle.get());
+		}
+		return results;
+	}
+
+	@Override
+	public Iterator<ResultHandle<V>> iterator() {
+		return getHandles().iterator();
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(handles);
+	}
+}
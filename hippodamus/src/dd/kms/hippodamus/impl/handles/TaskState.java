@@ -1,36 +1,182 @@
 package dd.kms.hippodamus.impl.handles;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 import dd.kms.hippodamus.api.handles.TaskStage;
 
 /**
  * Stores information about whether a task has finished regularly or exceptionally and,
- * if so, what the result was or which exception had been thrown, respectively.
+ * if so, what the result was or which exception had been thrown, respectively.<br>
+ * <br>
+ * The {@link TaskStage} of the task is encoded in a single atomic state word together with two flags:
+ * <ul>
+ *     <li>
+ *         {@link #CLAIMED}: A thread has claimed the task in order to perform a stage change that comes with side effects
+ *         like updating resource shares or notifying listeners. As long as the task is claimed, no other thread may change
+ *         its stage. Claims are short-lived. Threads that want to claim a task that is already claimed spin until the claim
+ *         has been released.
+ *     </li>
+ *     <li>
+ *         {@link #STOP_REQUESTED}: The task has been requested to stop. If the task was claimed when the request arrived,
+ *         then the claiming thread is responsible for terminating the task when releasing its claim
+ *         (see {@link #releaseClaim()}).
+ *     </li>
+ * </ul>
+ * All stage changes are performed via compare-and-set on this state word. Hence, no lock is required for changing
+ * the stage of a task.<br>
+ * <br>
+ * This class is only instantiated as {@link TaskStateController}. The controller extends this class instead of
+ * referencing an instance of it to save one object per task.
  */
-class TaskState<V>
+abstract class TaskState<V>
 {
-	private volatile boolean   finished;
-	private volatile V         result;
-	private volatile Throwable exception;
-	private volatile TaskStage taskStage;
+	private static final TaskStage[]	STAGES			= TaskStage.values();
+	private static final int			STAGE_MASK		= 0x07;
+	private static final int			CLAIMED			= 0x08;
+	private static final int			STOP_REQUESTED	= 0x10;
+
+	private static final AtomicIntegerFieldUpdater<TaskState>	STATE_UPDATER	= AtomicIntegerFieldUpdater.newUpdater(TaskState.class, "state");
+
+	private volatile int		state;
+	private volatile boolean	finished;
+	private volatile V			result;
+	private volatile Throwable	exception;
 
 	TaskState() {
-		taskStage = TaskStage.INITIAL;
+		state = TaskStage.INITIAL.ordinal();
 	}
 
 	TaskStage getTaskStage() {
-		return taskStage;
+		return getStage(state);
+	}
+
+	/**
+	 * Tries to claim the task if it is in one of the specified stages. If the task is currently claimed by another
+	 * thread, then this method waits until that claim is released.
+	 *
+	 * @param ignoreStopRequest	If {@code false}, then the task cannot be claimed if it has been requested to stop.
+	 * @return The stage of the claimed task or {@code null} if the task could not be claimed.
+	 */
+	TaskStage claim(boolean ignoreStopRequest, TaskStage... stages) {
+		while (true) {
+			int s = state;
+			if (!ignoreStopRequest && (s & STOP_REQUESTED) != 0) {
+				return null;
+			}
+			if ((s & CLAIMED) != 0) {
+				Thread.yield();
+				continue;
+			}
+			TaskStage stage = getStage(s);
+			if (!contains(stages, stage)) {
+				return null;
+			}
+			if (STATE_UPDATER.compareAndSet(this, s, s | CLAIMED)) {
+				return stage;
+			}
+		}
+	}
+
+	/**
+	 * Changes the stage of a task that has been claimed by the current thread.
+	 *
+	 * @return An error message if the transition is not permitted or {@code null} otherwise
+	 */
+	String tryTransitionTo(TaskStage newStage) {
+		while (true) {
+			int s = state;
+			TaskStage stage = getStage(s);
+			if (!stage.canTransitionTo(newStage)) {
+				return "Trying to transition state from '" + stage + "' to '" + newStage + "'";
+			}
+			int newState = (s & ~STAGE_MASK) | newStage.ordinal();
+			if (STATE_UPDATER.compareAndSet(this, s, newState)) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Releases the claim of the current thread unless the task has been requested to stop in the meantime.
+	 *
+	 * @return {@code true} if the claim has been released and {@code false} if the task has been requested
+	 * to stop. In the latter case, the task remains claimed and the caller is responsible for terminating it.
+	 */
+	boolean releaseClaim() {
+		while (true) {
+			int s = state;
+			if ((s & STOP_REQUESTED) != 0) {
+				return false;
+			}
+			if (STATE_UPDATER.compareAndSet(this, s, s & ~CLAIMED)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Changes the stage of a task that has been claimed by the current thread and releases the claim in one
+	 * atomic step. This is only done if the task has not been requested to stop in the meantime. The caller
+	 * is responsible for ensuring that the transition is permitted.
+	 *
+	 * @return {@code true} if the stage has been changed and the claim has been released and {@code false}
+	 * if the task has been requested to stop. In the latter case, neither the stage has been changed nor the
+	 * claim has been released and the caller is responsible for terminating the task.
+	 */
+	boolean tryTransitionToAndReleaseClaim(TaskStage newStage) {
+		while (true) {
+			int s = state;
+			if ((s & STOP_REQUESTED) != 0) {
+				return false;
+			}
+			if (STATE_UPDATER.compareAndSet(this, s, newStage.ordinal())) {
+				return true;
+			}
+		}
 	}
 
-	String transitionTo(TaskStage newStage) {
-		if (!taskStage.canTransitionTo(newStage)) {
-			return "Trying to transition state from '" + taskStage + "' to '" + newStage + "'";
+	/**
+	 * Releases the claim of the current thread independent of whether the task has been requested to stop.
+	 */
+	void forceReleaseClaim() {
+		while (true) {
+			int s = state;
+			if (STATE_UPDATER.compareAndSet(this, s, s & ~CLAIMED)) {
+				return;
+			}
 		}
-		taskStage = newStage;
-		return null;
+	}
+
+	/**
+	 * Requests the task to stop. The result describes how the caller has to proceed.
+	 */
+	StopRequestResult requestStop() {
+		while (true) {
+			int s = state;
+			TaskStage stage = getStage(s);
+			if ((s & STOP_REQUESTED) != 0 || stage.isReadyToJoin()) {
+				return StopRequestResult.NOTHING_TO_DO;
+			}
+			if ((s & CLAIMED) != 0) {
+				if (STATE_UPDATER.compareAndSet(this, s, s | STOP_REQUESTED)) {
+					return StopRequestResult.DELEGATED_TO_CLAIMING_THREAD;
+				}
+				continue;
+			}
+			if (STATE_UPDATER.compareAndSet(this, s, s | CLAIMED | STOP_REQUESTED)) {
+				return stage == TaskStage.EXECUTING
+					? StopRequestResult.CLAIMED_EXECUTING_TASK
+					: StopRequestResult.CLAIMED_TASK;
+			}
+		}
+	}
+
+	boolean isStopRequested() {
+		return (state & STOP_REQUESTED) != 0;
 	}
 
 	boolean isReadyToJoin() {
-		return taskStage.isReadyToJoin();
+		return getTaskStage().isReadyToJoin();
 	}
 
 	boolean hasFinished() {
@@ -46,16 +192,16 @@ class TaskState<V>
 		return exception != null;
 	}
 
-	void setResult(V result) {
+	void storeResult(V result) {
 		this.result = result;
 		finished = true;
 	}
 
-	V getResult() {
+	V getStoredResult() {
 		return result;
 	}
 
-	void setException(Throwable exception) {
+	void storeException(Throwable exception) {
 		this.exception = exception;
 		finished = true;
 	}
@@ -63,4 +209,41 @@ class TaskState<V>
 	Throwable getException() {
 		return exception;
 	}
+
+	private static TaskStage getStage(int state) {
+		return STAGES[state & STAGE_MASK];
+	}
+
+	private static boolean contains(TaskStage[] stages, TaskStage stage) {
+		for (TaskStage s : stages) {
+			if (s == stage) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	enum StopRequestResult
+	{
+		/**
+		 * The task has already finished or has already been requested to stop.
+		 */
+		NOTHING_TO_DO,
+
+		/**
+		 * The task is claimed by another thread. That thread will take care of terminating the task.
+		 */
+		DELEGATED_TO_CLAIMING_THREAD,
+
+		/**
+		 * The task is executing and has been claimed by the caller. The caller has to interrupt the executing thread
+		 * and to release the claim afterwards.
+		 */
+		CLAIMED_EXECUTING_TASK,
+
+		/**
+		 * The task has not yet started executing and has been claimed by the caller. The caller has to terminate it.
+		 */
+		CLAIMED_TASK
+	}
 }
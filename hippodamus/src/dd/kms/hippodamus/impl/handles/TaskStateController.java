@@ -6,120 +6,157 @@ import dd.kms.hippodamus.api.handles.ResultHandle;
 import dd.kms.hippodamus.api.handles.TaskStage;
 import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * Controls state changes of a task.<br>
  * <br>
+ * Stage changes are not guarded by a lock. Instead, a thread that wants to change the stage of a task has to claim it
+ * (see {@link #claim(TaskStage...)}), perform the stage change including all of its side effects, and finally release
+ * the claim (see {@link #releaseClaim()}). If the task has been requested to stop while being claimed, then releasing
+ * the claim fails and the claiming thread is responsible for terminating the task.<br>
+ * <br>
  * <b>When a task Finishes</b> (either exceptionally or regularly), the following things happen in the given order:
  * <ol>
- *     <li>The result/exception is stored (see {@link #_setResult(Object)} and {@link #_setException(Throwable)}, respectively)</li>
+ *     <li>The result/exception is stored (see {@link #setResult(Object)} and {@link #setException(Throwable)}, respectively)</li>
+ *     <li>An exception is reported to the {@link ExecutionCoordinator}</li>
  *     <li>The stage changes from {@link TaskStage#EXECUTING} to {@link TaskStage#FINISHED}</li>
- *     <li>The lock that makes callers of {@link ResultHandle#get()} wait is released (see {@link #_transitionTo(TaskStage)})</li>
+ *     <li>Callers of {@link ResultHandle#get()} that wait for the task are released (see {@link #transitionTo(TaskStage)})</li>
  *     <li>Completion/exception listeners are informed and</li>
  *     <li>
  *         the stage changes from {@code TaskStage.EXECUTION_FINISHED} to {@link TaskStage#TERMINATED}
  *         (see {@code HandleImpl.complete(Object)} and {@code HandleImpl.terminateExceptionally(Throwable)}, respectively)
  *     </li>
  *     <li>
- *         The lock that forces the {@link ExecutionCoordinator} to wait is released (see {@link #_transitionTo(TaskStage)})
+ *         The {@link ExecutionCoordinator}'s termination tracker is informed (see {@link #transitionTo(TaskStage)})
  *     </li>
  * </ol>
  *
  */
-class TaskStateController<V>
+class TaskStateController<V> extends TaskState<V>
 {
-	private final HandleImpl<?>				handle;
-	private final ExecutionCoordinatorImpl	coordinator;
+	private static final AtomicReferenceFieldUpdater<TaskStateController, CountDownLatch>	JOIN_LATCH_UPDATER	= AtomicReferenceFieldUpdater.newUpdater(TaskStateController.class, CountDownLatch.class, "joinLatch");
 
-	private final TaskState<V>				state;
+	private final HandleImpl<V>				handle;
+	private final ExecutionCoordinatorImpl	coordinator;
 
 	/**
-	 * This value is set to true when the task terminates, either successfully or exceptionally, or
-	 * when it is stopped. It is meant to be waited for in {@link #join(String, boolean)}.<br>
-	 * Note that the value must be set to true <b>before</b> calling any listener to avoid deadlocks:
-	 * Listeners, in particular completion listeners, might indirectly call {@code join()}, e.g., by calling
-	 * {@link HandleImpl#get()}.
+	 * Threads that have to wait in {@link #join(String, boolean)} wait for this latch via a {@link JoinBlocker}. Most
+	 * tasks are never waited for, so the latch is only created when a thread actually has to wait. It is released when the task becomes
+	 * ready to join (see {@link #makeReadyToJoin()}).<br>
+	 * Note that the latch must be released <b>before</b> calling any listener to avoid deadlocks: Listeners, in
+	 * particular completion listeners, might indirectly call {@code join()}, e.g., by calling {@link HandleImpl#get()}.
 	 */
-	private final AwaitableFlag				joinFlag;
+	private volatile CountDownLatch			joinLatch;
 
 	/**
-	 * This value is set to true when the task terminates, either successfully or exceptionally, or
-	 * is stopped. It operates on the coordinator's termination lock we obtain by calling
-	 * {@link ExecutionCoordinatorImpl#getTerminationLock()}.<br>
-	 * Note that the value must be set to true <b>after</b> calling any listener to ensure that the
-	 * coordinator does not close before notifying all listeners.
+	 * Describes whether the task has been registered at the coordinator's termination tracker (see
+	 * {@link ExecutionCoordinatorImpl#getTerminationTracker()}). The tracker is informed when the task terminates,
+	 * either successfully or exceptionally, or is stopped.<br>
+	 * Note that the tracker must be informed <b>after</b> calling any listener to ensure that the coordinator
+	 * does not close before notifying all listeners.
 	 */
-	private final AwaitableFlag				releaseCoordinatorFlag;
+	private volatile boolean				registeredForTermination;
 
-	TaskStateController(HandleImpl<?> handle, ExecutionCoordinatorImpl coordinator) {
+	TaskStateController(HandleImpl<V> handle, ExecutionCoordinatorImpl coordinator) {
 		this.handle = handle;
 		this.coordinator = coordinator;
-		this.state = new TaskState<>();
 
-		joinFlag = new AwaitableFlag();
-		releaseCoordinatorFlag = new AwaitableFlag(coordinator.getTerminationLock());
-
-		if (!coordinator._hasStopped()) {
-			try {
-				joinFlag.unset();
-				releaseCoordinatorFlag.unset();
-			} catch (InterruptedException e) {
-				coordinator.stop();
-			}
+		if (!coordinator.hasStopped()) {
+			coordinator.getTerminationTracker().onTaskRegistered(handle.getCost());
+			registeredForTermination = true;
 		}
 	}
 
-	void _setResult(V result) {
-		state.setResult(result);
+	void setResult(V result) {
+		storeResult(result);
 		if (!handle.isIgnoreResult()) {
-			coordinator._log(handle, "result: " + result);
+			coordinator.logResult(handle, result);
 		}
-		_transitionTo(TaskStage.FINISHED);
-	}
-
-	void _setException(Throwable exception) {
-		state.setException(exception);
-		coordinator._log(handle, "encountered " + exception.getClass().getSimpleName() + ": " + exception.getMessage());
-		_transitionTo(TaskStage.FINISHED);
+		transitionTo(TaskStage.FINISHED);
 	}
 
-	boolean hasCompleted() {
-		return state.hasCompleted();
+	void setException(Throwable exception) {
+		storeException(exception);
+		coordinator.logException(handle, exception);
+		/*
+		 * Inform the coordinator before the task becomes ready to join. Otherwise, a task that retrieves this task's
+		 * value might report its exception to the coordinator first.
+		 */
+		coordinator.onException(handle);
+		transitionTo(TaskStage.FINISHED);
 	}
 
 	V getResult() {
-		checkCondition(state.hasCompleted(), "Trying to access unavailable result");
-		return state.getResult();
-	}
-
-	Throwable getException() {
-		return state.getException();
+		checkCondition(hasCompleted(), "Trying to access unavailable result");
+		return getStoredResult();
 	}
 
-	boolean hasTerminatedExceptionally() {
-		return state.hasTerminatedExceptionally();
+	/*******************
+	 * Claim Handling *
+	 ******************/
+	/**
+	 * @see TaskState#claim(boolean, TaskStage...)
+	 */
+	TaskStage claim(TaskStage... stages) {
+		return claim(false, stages);
 	}
 
-	TaskStage getTaskStage() {
-		return state.getTaskStage();
+	/**
+	 * Claims a task in one of the specified stages, even if it has been requested to stop. This is required
+	 * when the task has to be finished after it has been executed.
+	 */
+	TaskStage claimIgnoringStopRequest(TaskStage... stages) {
+		return claim(true, stages);
 	}
 
-	boolean _transitionTo(TaskStage newStage) {
-		String transitionError = state.transitionTo(newStage);
+	/**
+	 * Must only be called by the thread that has claimed the task.
+	 */
+	boolean transitionTo(TaskStage newStage) {
+		String transitionError = tryTransitionTo(newStage);
 		if (!checkCondition(transitionError == null, transitionError)) {
 			return false;
 		}
 		if (newStage.isReadyToJoin()) {
-			_makeReadyToJoin();
+			makeReadyToJoin();
 		}
+		/*
+		 * Log the state change before releasing the coordinator. Otherwise, the coordinator might flush its events
+		 * when being closed before the termination of the task has been reported.
+		 */
+		coordinator.logStateChange(handle, newStage);
 		if (newStage == TaskStage.TERMINATED) {
-			_releaseCoordinator();
+			coordinator.onTermination(handle);
+			releaseCoordinator();
+		}
+		return true;
+	}
+
+	/**
+	 * Must only be called by the thread that has claimed the task. Changes the stage to {@code newStage}
+	 * and releases the claim unless the task has been requested to stop.
+	 *
+	 * @return {@code true} if the transition was successful and {@code false} if the task has been requested
+	 * to stop. In the latter case, the task remains claimed and the caller is responsible for terminating it.
+	 */
+	boolean transitionToAndReleaseClaim(TaskStage newStage) {
+		TaskStage stage = getTaskStage();
+		if (!stage.canTransitionTo(newStage)) {
+			coordinator.logError(handle, "Trying to transition state from '" + stage + "' to '" + newStage + "'", null);
+			return false;
+		}
+		if (!tryTransitionToAndReleaseClaim(newStage)) {
+			return false;
 		}
-		coordinator._logStateChange(handle, newStage);
+		coordinator.logStateChange(handle, newStage);
 		return true;
 	}
 
 	void join(String taskName, boolean verifyDependencies) {
-		if (isReadyToJoin()) {
+		if (canJoin()) {
 			// handle has terminated regularly or exceptionally or has been stopped before being executed
 			return;
 		}
@@ -135,11 +172,9 @@ class TaskStateController<V>
 		 *     terminated. If this is really required, then the caller must not activate dependency verification.
 		 */
 		if (verifyDependencies) {
-			synchronized (coordinator) {
-				String error = "Waiting for task '" + taskName + "' that has not yet finished. Did you forget to specify its handle as dependency?";
-				coordinator._logError(handle, error, null);
-				throw new CoordinatorException(error);
-			}
+			String error = "Waiting for task '" + taskName + "' that has not yet finished. Did you forget to specify its handle as dependency?";
+			coordinator.logError(handle, error, null);
+			throw new CoordinatorException(error);
 		}
 		/*
 		 * We provide limited support for interruptions: We do not swallow interruption requests, but we also do
@@ -148,14 +183,19 @@ class TaskStateController<V>
 		 * scenarios we discourage.
 		 */
 		boolean interrupted = Thread.interrupted();
-		do {
+		JoinBlocker blocker = new JoinBlocker(getOrCreateJoinLatch());
+		while (!canJoin()) {
 			try {
-				joinFlag.waitUntilTrue();
-				interrupted = interrupted || Thread.interrupted();
+				/*
+				 * If the current thread is a worker of a ForkJoinPool, then the pool may activate or create
+				 * another worker while we are waiting. Otherwise, waiting tasks could occupy all workers
+				 * of the pool such that the tasks they wait for are never executed.
+				 */
+				ForkJoinPool.managedBlock(blocker);
 			} catch (InterruptedException e) {
 				interrupted = true;
 			}
-		} while (!isReadyToJoin());
+		}
 		if (interrupted) {
 			Thread.currentThread().interrupt();
 		}
@@ -164,32 +204,71 @@ class TaskStateController<V>
 	/***********
 	 * Locking *
 	 **********/
-	void _makeReadyToJoin() {
-		joinFlag.set();
+	/**
+	 * Releases all threads waiting in {@link #join(String, boolean)}. This method must be called after the task
+	 * has become ready to join or after the coordinator has been stopped. A thread that creates the latch afterwards
+	 * will observe this and not wait.
+	 */
+	void makeReadyToJoin() {
+		CountDownLatch latch = joinLatch;
+		if (latch != null) {
+			latch.countDown();
+		}
 	}
 
-	private boolean isReadyToJoin() {
-		if (state.isReadyToJoin()) {
-			return true;
-		}
-		synchronized (coordinator) {
-			if (coordinator._hasStopped()) {
-				return true;
-			}
+	private CountDownLatch getOrCreateJoinLatch() {
+		CountDownLatch latch = joinLatch;
+		if (latch != null) {
+			return latch;
 		}
-		return false;
+		CountDownLatch newLatch = new CountDownLatch(1);
+		return JOIN_LATCH_UPDATER.compareAndSet(this, null, newLatch) ? newLatch : joinLatch;
 	}
 
-	private void _releaseCoordinator() {
-		releaseCoordinatorFlag.set();
+	private boolean canJoin() {
+		return isReadyToJoin() || coordinator.hasStopped();
+	}
+
+	/**
+	 * Must only be called by the thread that has claimed the task. Since a task terminates only once, the tracker
+	 * is informed at most once.
+	 */
+	private void releaseCoordinator() {
+		if (registeredForTermination) {
+			registeredForTermination = false;
+			coordinator.getTerminationTracker().onTaskTerminated(handle.getCost());
+		}
 	}
 
 	private boolean checkCondition(boolean condition, String error) {
 		if (!condition) {
-			synchronized (coordinator) {
-				coordinator._logError(handle, error, null);
-			}
+			coordinator.logError(handle, error, null);
 		}
 		return condition;
 	}
+
+	/**
+	 * Waits for the join latch. When used in {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, the
+	 * pool is informed that the current worker is blocked. In threads that do not belong to a {@code ForkJoinPool},
+	 * this is equivalent to waiting for the latch directly.
+	 */
+	private class JoinBlocker implements ForkJoinPool.ManagedBlocker
+	{
+		private final CountDownLatch	latch;
+
+		JoinBlocker(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			latch.await();
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return canJoin();
+		}
+	}
 }
@@ -0,0 +1,262 @@
+package dd.kms.hippodamus.impl.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+import dd.kms.hippodamus.api.logging.AsynchronousLogger;
+import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.OverflowPolicy;
+
+/**
+ * Buffers messages in an {@link ArrayBlockingQueue}, which is a bounded ring buffer, and forwards them to the
+ * underlying logger in a dedicated drain thread. Since there is only one drain thread and the buffer is a FIFO queue,
+ * messages are forwarded in the order they have been buffered.
+ */
+public class AsynchronousLoggerImpl implements AsynchronousLogger
+{
+	private static final AtomicLong	DRAIN_THREAD_COUNTER	= new AtomicLong();
+
+	private final Logger					logger;
+	private final int						bufferCapacity;
+	private final OverflowPolicy			overflowPolicy;
+	private final BlockingQueue<Message>	buffer;
+	private final Thread					drainThread;
+
+	private final LongAdder					numDroppedMessages		= new LongAdder();
+
+	/**
+	 * Used by {@link OverflowPolicy#SAMPLE} to decide which messages to buffer when the buffer is more than half full.
+	 */
+	private final AtomicLong				sampleCounter			= new AtomicLong();
+
+	/**
+	 * The first exception thrown by the underlying logger. Once set, the underlying logger is not called anymore.
+	 */
+	private volatile @Nullable Throwable	loggerException;
+
+	/**
+	 * Makes checking {@link #_closed} and buffering a message atomic. Threads that buffer messages hold the read lock,
+	 * so they do not block each other. {@link #close()} acquires the write lock to set the flag. Hence, no message
+	 * can be buffered after {@link Message#CLOSE}, and no thread waits for buffer capacity after the drain thread
+	 * has terminated.
+	 */
+	private final ReadWriteLock				closeLock				= new ReentrantReadWriteLock();
+	private boolean							_closed;
+
+	public AsynchronousLoggerImpl(Logger logger, int bufferCapacity, OverflowPolicy overflowPolicy) {
+		Preconditions.checkArgument(bufferCapacity > 0, "Buffer capacity must be positive");
+		this.logger = logger;
+		this.bufferCapacity = bufferCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+		this.drainThread = new Thread(this::drain, "Hippodamus logger " + DRAIN_THREAD_COUNTER.incrementAndGet());
+		drainThread.setDaemon(true);
+		drainThread.start();
+	}
+
+	@Override
+	public void log(@Nullable Handle handle, String message) {
+		buffer(logger -> logger.log(handle, message), false);
+	}
+
+	@Override
+	public void logStateChange(Handle handle, TaskStage taskStage) {
+		buffer(logger -> logger.logStateChange(handle, taskStage), false);
+	}
+
+	@Override
+	public void logError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+		buffer(logger -> logger.logError(handle, error, cause), true);
+	}
+
+	/**
+	 * Waits until all messages that have been buffered before have been forwarded to the underlying logger.
+	 */
+	@Override
+	public void flush() {
+		FlushRequest flushRequest = null;
+		Lock lock = closeLock.readLock();
+		lock.lock();
+		try {
+			if (!_closed) {
+				flushRequest = new FlushRequest();
+				putUninterruptibly(flushRequest);
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (flushRequest != null) {
+			awaitUninterruptibly(flushRequest.latch);
+		}
+		rethrowLoggerException();
+	}
+
+	@Override
+	public long getNumberOfDroppedMessages() {
+		return numDroppedMessages.sum();
+	}
+
+	@Override
+	public void close() {
+		Lock lock = closeLock.writeLock();
+		lock.lock();
+		try {
+			if (_closed) {
+				return;
+			}
+			_closed = true;
+		} finally {
+			lock.unlock();
+		}
+		// no message can be buffered after CLOSE because _closed has been set
+		putUninterruptibly(Message.CLOSE);
+		boolean interrupted = false;
+		while (drainThread.isAlive()) {
+			try {
+				drainThread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void buffer(Message message, boolean isError) {
+		rethrowLoggerException();
+		Lock lock = closeLock.readLock();
+		lock.lock();
+		try {
+			if (_closed) {
+				numDroppedMessages.increment();
+				return;
+			}
+			if (isError || overflowPolicy == OverflowPolicy.BLOCK) {
+				putUninterruptibly(message);
+				return;
+			}
+			if (overflowPolicy == OverflowPolicy.SAMPLE && 2 * buffer.remainingCapacity() < bufferCapacity && sampleCounter.incrementAndGet() % 2 == 0) {
+				numDroppedMessages.increment();
+				return;
+			}
+			if (!buffer.offer(message)) {
+				numDroppedMessages.increment();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void putUninterruptibly(Message message) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				buffer.put(message);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void rethrowLoggerException() {
+		Throwable exception = loggerException;
+		if (exception instanceof RuntimeException) {
+			throw (RuntimeException) exception;
+		} else if (exception instanceof Error) {
+			throw (Error) exception;
+		} else if (exception != null) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private void drain() {
+		while (true) {
+			Message message;
+			try {
+				message = buffer.take();
+			} catch (InterruptedException e) {
+				// nobody interrupts the drain thread intentionally
+				continue;
+			}
+			if (message == Message.CLOSE) {
+				discardRemainingMessages();
+				return;
+			}
+			if (loggerException != null) {
+				// the underlying logger is faulty; only flush requests are processed
+				message.forwardTo(NoLogger.LOGGER);
+				continue;
+			}
+			try {
+				message.forwardTo(logger);
+			} catch (Throwable t) {
+				loggerException = t;
+			}
+		}
+	}
+
+	/**
+	 * Due to {@link #closeLock}, there should not be any messages after {@link Message#CLOSE}. If there are, then
+	 * they are dropped, but waiting flush requests are released.
+	 */
+	private void discardRemainingMessages() {
+		Message message;
+		while ((message = buffer.poll()) != null) {
+			if (message instanceof FlushRequest) {
+				message.forwardTo(NoLogger.LOGGER);
+			} else {
+				numDroppedMessages.increment();
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface Message
+	{
+		Message	CLOSE	= logger -> {};
+
+		void forwardTo(Logger logger);
+	}
+
+	private static class FlushRequest implements Message
+	{
+		private final CountDownLatch	latch	= new CountDownLatch(1);
+
+		@Override
+		public void forwardTo(Logger logger) {
+			latch.countDown();
+		}
+	}
+}
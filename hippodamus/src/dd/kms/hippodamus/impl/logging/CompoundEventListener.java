@@ -0,0 +1,59 @@
+package dd.kms.hippodamus.impl.logging;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+
+/**
+ * Combines multiple event listeners into one such that the coordinator only has to deal with a single listener.
+ * This is required when a {@link dd.kms.hippodamus.api.logging.Logger} and a {@link TaskEventListener} are specified.
+ */
+public class CompoundEventListener implements TaskEventListener
+{
+	private final List<TaskEventListener>	listeners;
+
+	public CompoundEventListener(List<TaskEventListener> listeners) {
+		this.listeners = ImmutableList.copyOf(listeners);
+	}
+
+	@Override
+	public void onStageChange(Handle handle, TaskStage taskStage) {
+		for (TaskEventListener listener : listeners) {
+			listener.onStageChange(handle, taskStage);
+		}
+	}
+
+	@Override
+	public void onResult(Handle handle, @Nullable Object result) {
+		for (TaskEventListener listener : listeners) {
+			listener.onResult(handle, result);
+		}
+	}
+
+	@Override
+	public void onException(Handle handle, Throwable exception) {
+		for (TaskEventListener listener : listeners) {
+			listener.onException(handle, exception);
+		}
+	}
+
+	@Override
+	public void onError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+		for (TaskEventListener listener : listeners) {
+			listener.onError(handle, error, cause);
+		}
+	}
+
+	@Override
+	public void flush() {
+		for (TaskEventListener listener : listeners) {
+			listener.flush();
+		}
+	}
+}
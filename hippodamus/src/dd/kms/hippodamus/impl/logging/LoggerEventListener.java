@@ -0,0 +1,45 @@
+package dd.kms.hippodamus.impl.logging;
+
+import javax.annotation.Nullable;
+
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.TaskStage;
+import dd.kms.hippodamus.api.logging.Logger;
+import dd.kms.hippodamus.api.logging.TaskEventListener;
+
+/**
+ * Forwards events to a {@link Logger}. Messages are only formatted here, i.e., if a logger has been specified.
+ */
+public class LoggerEventListener implements TaskEventListener
+{
+	private final Logger	logger;
+
+	public LoggerEventListener(Logger logger) {
+		this.logger = logger;
+	}
+
+	@Override
+	public void onStageChange(Handle handle, TaskStage taskStage) {
+		logger.logStateChange(handle, taskStage);
+	}
+
+	@Override
+	public void onResult(Handle handle, @Nullable Object result) {
+		logger.log(handle, "result: " + result);
+	}
+
+	@Override
+	public void onException(Handle handle, Throwable exception) {
+		logger.log(handle, "encountered " + exception.getClass().getSimpleName() + ": " + exception.getMessage());
+	}
+
+	@Override
+	public void onError(@Nullable Handle handle, String error, @Nullable Throwable cause) {
+		logger.logError(handle, error, cause);
+	}
+
+	@Override
+	public void flush() {
+		logger.flush();
+	}
+}
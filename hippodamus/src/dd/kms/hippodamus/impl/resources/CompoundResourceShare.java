@@ -3,6 +3,7 @@ package dd.kms.hippodamus.impl.resources;
 import com.google.common.collect.ImmutableList;
 import dd.kms.hippodamus.api.resources.ResourceRequestor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -32,8 +33,17 @@ class CompoundResourceShare implements ResourceShare
 		}
 	}
 
+	@Override
+	public boolean requiresResources() {
+		return !resourcesShares.isEmpty();
+	}
+
 	@Override
 	public boolean tryAcquire(ResourceRequestor resourceRequestor) {
+		if (resourcesShares.isEmpty()) {
+			// avoid writing to rejectedResourceIndex because an empty compound resource share may be shared by multiple tasks
+			return true;
+		}
 		rejectedResourceIndex = acquireResources(resourceRequestor);
 		if (rejectedResourceIndex == -1) {
 			return true;
@@ -72,4 +82,18 @@ class CompoundResourceShare implements ResourceShare
 			resource.remove(resourceRequestor);
 		}
 	}
+
+	@Override
+	public ResourceShare createCopy() {
+		if (resourcesShares.isEmpty()) {
+			// an empty compound resource share does not have any state that changes (see ResourceShares)
+			return this;
+		}
+		List<ResourceShare> copiedResourceShares = new ArrayList<>(resourcesShares.size());
+		for (ResourceShare resourcesShare : resourcesShares) {
+			copiedResourceShares.add(resourcesShare.createCopy());
+		}
+		// the order of the copies is the order of the original resource shares, so it is still sorted
+		return new CompoundResourceShare(copiedResourceShares);
+	}
 }
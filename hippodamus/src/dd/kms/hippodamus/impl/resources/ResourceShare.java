@@ -17,6 +17,14 @@ public interface ResourceShare
 	 */
 	void removePendingResourceShare();
 
+	/**
+	 * Returns whether acquiring the resource share requires acquiring any resource. If not, then
+	 * {@link #tryAcquire(ResourceRequestor)} always succeeds and need not be called.
+	 */
+	default boolean requiresResources() {
+		return true;
+	}
+
 	/**
 	 * Tries to acquire the resource share. It is guaranteed that this method is not called
 	 * a second time after a successful call to this method without a call to {@link #release()}
@@ -35,4 +43,11 @@ public interface ResourceShare
 	 * Calling this method multiple times should not have any effect.
 	 */
 	void remove(ResourceRequestor resourceRequestor);
+
+	/**
+	 * Creates a resource share for the same resources that is independent of this resource share. It has
+	 * neither been acquired nor added to the pending resource shares. Used for the duplicate attempts of
+	 * hedged tasks.
+	 */
+	ResourceShare createCopy();
 }
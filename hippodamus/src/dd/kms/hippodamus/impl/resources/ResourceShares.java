@@ -1,5 +1,6 @@
 package dd.kms.hippodamus.impl.resources;
 
+import com.google.common.collect.ImmutableList;
 import dd.kms.hippodamus.api.resources.Resource;
 
 import java.util.ArrayList;
@@ -9,13 +10,22 @@ import java.util.function.Supplier;
 
 public class ResourceShares
 {
+	/**
+	 * A compound resource share without any resource shares does not have any state that changes.
+	 * Hence, it can be shared by all tasks that do not require any resources.
+	 */
+	private static final ResourceShare	NO_RESOURCE_SHARE	= new CompoundResourceShare(ImmutableList.of());
+
 	public static <T> ResourceShare wrapResourceShare(Resource<T> resource, Supplier<T> resourceShareSupplier) {
 		return new WrappedResourceShare<>(resource, resourceShareSupplier);
 	}
 
 	public static ResourceShare createCompoundResourceShare(List<ResourceShare> resourceShares) {
+		if (resourceShares.isEmpty()) {
+			return NO_RESOURCE_SHARE;
+		}
 		// ensure to sort the resource shares to avoid deadlocks
-		if (resourceShares.size() <= 1) {
+		if (resourceShares.size() == 1) {
 			return new CompoundResourceShare(resourceShares);
 		}
 		List<WrappedResourceShare<?>> sortedResourcesShares = new ArrayList<>(resourceShares.size());
@@ -14,6 +14,7 @@ import java.util.function.Supplier;
 class WrappedResourceShare<T> implements ResourceShare, Comparable<WrappedResourceShare<?>>
 {
 	private final Resource<T>	resource;
+	private final Supplier<T>	unmemoizedResourceShareSupplier;
 	private final Supplier<T>	resourceShareSupplier;
 
 	private boolean				addedPendingResourceShare;
@@ -21,6 +22,7 @@ class WrappedResourceShare<T> implements ResourceShare, Comparable<WrappedResour
 
 	public WrappedResourceShare(Resource<T> resource, Supplier<T> resourceShareSupplier) {
 		this.resource = resource;
+		this.unmemoizedResourceShareSupplier = resourceShareSupplier;
 		this.resourceShareSupplier = Suppliers.memoize(resourceShareSupplier::get);
 	}
 
@@ -65,6 +67,11 @@ class WrappedResourceShare<T> implements ResourceShare, Comparable<WrappedResour
 		resource.remove(resourceRequestor);
 	}
 
+	@Override
+	public ResourceShare createCopy() {
+		return new WrappedResourceShare<>(resource, unmemoizedResourceShareSupplier);
+	}
+
 	@Override
 	public int compareTo(WrappedResourceShare<?> other) {
 		int hashCodeLeft = System.identityHashCode(resource);
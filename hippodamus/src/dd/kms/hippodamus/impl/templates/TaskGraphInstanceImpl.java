@@ -0,0 +1,46 @@
+package dd.kms.hippodamus.impl.templates;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.templates.TaskGraphInstance;
+import dd.kms.hippodamus.api.templates.TaskTemplate;
+
+class TaskGraphInstanceImpl implements TaskGraphInstance
+{
+	private final Object			owner;
+	private final ResultHandle<?>[]	handles;
+
+	TaskGraphInstanceImpl(Object owner, int numTasks) {
+		this.owner = owner;
+		this.handles = new ResultHandle<?>[numTasks];
+	}
+
+	void setHandle(int index, ResultHandle<?> handle) {
+		handles[index] = handle;
+	}
+
+	Handle[] getHandles(int[] indices) {
+		Handle[] result = new Handle[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			result[i] = handles[indices[i]];
+		}
+		return result;
+	}
+
+	@Override
+	public <V> ResultHandle<V> getHandle(TaskTemplate<V> task) {
+		Preconditions.checkArgument(task instanceof TaskTemplateImpl && ((TaskTemplateImpl<?, ?>) task).getOwner() == owner,
+			"Task '" + task + "' does not belong to this template");
+		int index = ((TaskTemplateImpl<?, ?>) task).getIndex();
+		@SuppressWarnings("unchecked")
+		ResultHandle<V> handle = (ResultHandle<V>) handles[index];
+		Preconditions.checkState(handle != null, "The task '" + task + "' has not been instantiated yet");
+		return handle;
+	}
+
+	@Override
+	public <V> V get(TaskTemplate<V> task) {
+		return getHandle(task).get();
+	}
+}
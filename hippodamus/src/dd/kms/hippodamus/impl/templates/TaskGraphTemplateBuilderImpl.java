@@ -0,0 +1,63 @@
+package dd.kms.hippodamus.impl.templates;
+
+import com.google.common.base.Preconditions;
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplate;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplateBuilder;
+import dd.kms.hippodamus.api.templates.TaskTemplate;
+import dd.kms.hippodamus.api.templates.TemplateTaskFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TaskGraphTemplateBuilderImpl<I, T extends Throwable> implements TaskGraphTemplateBuilder<I, T>
+{
+	/**
+	 * Identifies the tasks that have been created by this builder.
+	 */
+	private final Object						owner		= new Object();
+	private final List<TaskTemplateImpl<I, ?>>	tasks		= new ArrayList<>();
+	private final Set<String>					taskNames	= new HashSet<>();
+	private boolean								built;
+
+	@Override
+	public <V> TaskTemplate<V> task(String name, TemplateTaskFunction<I, V, ? extends T> function, TaskTemplate<?>... dependencies) {
+		return task(name, TaskType.COMPUTATIONAL, function, dependencies);
+	}
+
+	@Override
+	public <V> TaskTemplate<V> task(String name, TaskType taskType, TemplateTaskFunction<I, V, ? extends T> function, TaskTemplate<?>... dependencies) {
+		Preconditions.checkState(!built, "The template has already been built");
+		Preconditions.checkNotNull(name, "A task of a template must have a name");
+		Preconditions.checkArgument(taskNames.add(name), "The template already contains a task with name '" + name + "'");
+		int[] dependencyIndices = getDependencyIndices(name, dependencies);
+		TaskTemplateImpl<I, V> task = new TaskTemplateImpl<>(owner, tasks.size(), name, taskType, function, dependencyIndices);
+		tasks.add(task);
+		return task;
+	}
+
+	/**
+	 * Since a task can only depend on tasks that have already been added, the order in which tasks are added
+	 * is a topological order.
+	 */
+	private int[] getDependencyIndices(String name, TaskTemplate<?>[] dependencies) {
+		return Arrays.stream(dependencies)
+			.mapToInt(dependency -> {
+				Preconditions.checkArgument(dependency instanceof TaskTemplateImpl && ((TaskTemplateImpl<?, ?>) dependency).getOwner() == owner,
+					"Dependency '" + dependency + "' of task '" + name + "' does not belong to this template");
+				return ((TaskTemplateImpl<?, ?>) dependency).getIndex();
+			})
+			.distinct()
+			.toArray();
+	}
+
+	@Override
+	public TaskGraphTemplate<I, T> build() {
+		Preconditions.checkState(!built, "The template has already been built");
+		built = true;
+		return new TaskGraphTemplateImpl<>(owner, tasks);
+	}
+}
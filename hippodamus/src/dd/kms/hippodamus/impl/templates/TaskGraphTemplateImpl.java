@@ -0,0 +1,83 @@
+package dd.kms.hippodamus.impl.templates;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import dd.kms.hippodamus.api.coordinator.ExecutionCoordinator;
+import dd.kms.hippodamus.api.exceptions.ExceptionalCallable;
+import dd.kms.hippodamus.api.handles.Handle;
+import dd.kms.hippodamus.api.handles.ResultHandle;
+import dd.kms.hippodamus.api.templates.TaskGraphInstance;
+import dd.kms.hippodamus.api.templates.TaskGraphTemplate;
+import dd.kms.hippodamus.api.templates.TaskTemplate;
+import dd.kms.hippodamus.api.templates.TemplateTaskFunction;
+import dd.kms.hippodamus.impl.coordinator.ExecutionCoordinatorImpl;
+
+import java.util.Arrays;
+import java.util.List;
+
+class TaskGraphTemplateImpl<I, T extends Throwable> implements TaskGraphTemplate<I, T>
+{
+	private final Object						owner;
+	private final List<TaskTemplateImpl<I, ?>>	tasks;
+
+	/**
+	 * The names of the tasks in the order of {@link #tasks}. They are reserved at the coordinator in one pass per
+	 * instance.
+	 */
+	private final String[]						taskNames;
+
+	TaskGraphTemplateImpl(Object owner, List<TaskTemplateImpl<I, ?>> tasks) {
+		this.owner = owner;
+		this.tasks = ImmutableList.copyOf(tasks);
+		this.taskNames = tasks.stream().map(TaskTemplateImpl::getName).toArray(String[]::new);
+	}
+
+	@Override
+	public List<TaskTemplate<?>> getTasks() {
+		return ImmutableList.copyOf(tasks);
+	}
+
+	@Override
+	public TaskGraphInstance instantiate(ExecutionCoordinator coordinator, I input) throws T {
+		TaskGraphInstanceImpl instance = new TaskGraphInstanceImpl(owner, tasks.size());
+		if (coordinator instanceof ExecutionCoordinatorImpl) {
+			ExecutionCoordinatorImpl coordinatorImpl = (ExecutionCoordinatorImpl) coordinator;
+			for (TaskTemplateImpl<I, ?> task : tasks) {
+				Preconditions.checkArgument(coordinatorImpl.supportsTaskType(task.getTaskType()), "No ExecutorService has been specified for task type " + task.getTaskType());
+			}
+			String[] reservedTaskNames = coordinatorImpl.reserveTemplateTaskNames(taskNames);
+			for (TaskTemplateImpl<I, ?> task : tasks) {
+				int index = task.getIndex();
+				instance.setHandle(index, instantiateTask(coordinatorImpl, task, reservedTaskNames[index], input, instance));
+			}
+		} else {
+			// unknown implementation of the coordinator: use public API
+			for (TaskTemplateImpl<I, ?> task : tasks) {
+				instance.setHandle(task.getIndex(), instantiateTask(coordinator, task, input, instance));
+			}
+		}
+		return instance;
+	}
+
+	private <V> ResultHandle<V> instantiateTask(ExecutionCoordinatorImpl coordinator, TaskTemplateImpl<I, V> task, String taskName, I input, TaskGraphInstanceImpl instance) {
+		ExceptionalCallable<V, ?> callable = createCallable(task, input, instance);
+		List<Handle> dependencies = Arrays.asList(instance.getHandles(task.getDependencyIndices()));
+		return coordinator.executeTemplateTask(callable, task.getTaskConfiguration(), taskName, dependencies);
+	}
+
+	private <V> ResultHandle<V> instantiateTask(ExecutionCoordinator coordinator, TaskTemplateImpl<I, V> task, I input, TaskGraphInstanceImpl instance) throws T {
+		ExceptionalCallable<V, T> callable = createCallable(task, input, instance);
+		List<Handle> dependencies = Arrays.asList(instance.getHandles(task.getDependencyIndices()));
+		return coordinator.configure()
+			.name(task.getName())
+			.taskType(task.getTaskType())
+			.dependencies(dependencies)
+			.execute(callable);
+	}
+
+	private static <I, V, T extends Throwable> ExceptionalCallable<V, T> createCallable(TaskTemplateImpl<I, V> task, I input, TaskGraphInstance instance) {
+		@SuppressWarnings("unchecked")
+		TemplateTaskFunction<I, V, T> function = (TemplateTaskFunction<I, V, T>) task.getFunction();
+		return () -> function.apply(input, instance);
+	}
+}
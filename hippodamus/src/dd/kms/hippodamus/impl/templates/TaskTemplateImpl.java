@@ -0,0 +1,68 @@
+package dd.kms.hippodamus.impl.templates;
+
+import dd.kms.hippodamus.api.coordinator.TaskType;
+import dd.kms.hippodamus.api.templates.TaskTemplate;
+import dd.kms.hippodamus.api.templates.TemplateTaskFunction;
+import dd.kms.hippodamus.impl.execution.configuration.TaskConfiguration;
+
+/**
+ * Stores everything about a task of a template that does not depend on the instance. Dependencies are stored
+ * as indices into the topologically sorted list of tasks of the template.
+ */
+class TaskTemplateImpl<I, V> implements TaskTemplate<V>
+{
+	private final Object									owner;
+	private final int										index;
+	private final String									name;
+	private final TaskType									taskType;
+	private final TemplateTaskFunction<I, V, ?>				function;
+	private final int[]										dependencyIndices;
+	private final TaskConfiguration							taskConfiguration;
+
+	TaskTemplateImpl(Object owner, int index, String name, TaskType taskType, TemplateTaskFunction<I, V, ?> function, int[] dependencyIndices) {
+		this.owner = owner;
+		this.index = index;
+		this.name = name;
+		this.taskType = taskType;
+		this.function = function;
+		this.dependencyIndices = dependencyIndices;
+		this.taskConfiguration = TaskConfiguration.createTemplateTaskConfiguration(name, taskType);
+	}
+
+	/**
+	 * @return the object that identifies the template this task belongs to
+	 */
+	Object getOwner() {
+		return owner;
+	}
+
+	int getIndex() {
+		return index;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	TaskType getTaskType() {
+		return taskType;
+	}
+
+	TemplateTaskFunction<I, V, ?> getFunction() {
+		return function;
+	}
+
+	int[] getDependencyIndices() {
+		return dependencyIndices;
+	}
+
+	TaskConfiguration getTaskConfiguration() {
+		return taskConfiguration;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}